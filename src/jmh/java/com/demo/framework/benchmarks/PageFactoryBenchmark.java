@@ -0,0 +1,106 @@
+package com.demo.framework.benchmarks;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.drivers.DriverManager;
+import com.demo.framework.drivers.SessionScope;
+import com.demo.framework.flows.DragAndDropFlow;
+import com.demo.framework.flows.LoginFlow;
+import com.demo.framework.flows.SwipeFlow;
+import com.demo.framework.flows.WebViewFlow;
+import com.demo.framework.pages.PageFactory;
+import com.demo.framework.pages.android.AndroidDragPage;
+import com.demo.framework.pages.android.AndroidHomePage;
+import com.demo.framework.pages.android.AndroidLoginPage;
+import com.demo.framework.pages.android.AndroidSwipePage;
+import com.demo.framework.pages.android.AndroidWebViewPage;
+import com.demo.framework.utils.ContextManager;
+import io.appium.java_client.android.AndroidDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.remote.SessionId;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Per-test setup cost of the four flows: eager page construction with a config read per page
+ * (previous PageFactory behavior) versus lazy pages cached in the session.
+ * Each operation stands for one test and releases the session scope at its end, as the driver teardown does.
+ * Run with {@code ./gradlew jmh}; the gc profiler reports bytes allocated
+ * per operation. A Mockito driver stands in for the Appium session, so no device or server is needed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageFactoryBenchmark {
+
+    private AndroidDriver driver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = mock(AndroidDriver.class);
+        when(driver.getSessionId()).thenReturn(new SessionId("benchmark-session"));
+        // Session components such as the gesture calibrator key their state by device profile
+        when(driver.getCapabilities()).thenReturn(new MutableCapabilities(Map.of("platformName", "Android")));
+        DriverManager.setDriver(driver);
+        // Prime static locator registries so both benchmarks measure steady-state setup
+        new AndroidHomePage();
+        SessionScope.release(driver);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DriverManager.quitDriver();
+    }
+
+    @Benchmark
+    public void eagerPagesPerTest(Blackhole blackhole) {
+        blackhole.consume(eagerPage(AndroidHomePage::new));
+        blackhole.consume(eagerPage(AndroidLoginPage::new));
+        blackhole.consume(eagerPage(AndroidHomePage::new));
+        blackhole.consume(eagerPage(AndroidSwipePage::new));
+        blackhole.consume(eagerPage(AndroidHomePage::new));
+        blackhole.consume(eagerPage(AndroidDragPage::new));
+        blackhole.consume(eagerPage(AndroidHomePage::new));
+        blackhole.consume(eagerPage(AndroidWebViewPage::new));
+        blackhole.consume(new ContextManager());
+        SessionScope.release(driver);
+    }
+
+    @Benchmark
+    public void cachedLazyPagesPerTest(Blackhole blackhole) {
+        blackhole.consume(new LoginFlow());
+        blackhole.consume(new SwipeFlow());
+        blackhole.consume(new DragAndDropFlow());
+        blackhole.consume(new WebViewFlow());
+        // First use of every page the four flows hold; the home page is built once and shared
+        blackhole.consume(PageFactory.homePage());
+        blackhole.consume(PageFactory.loginPage());
+        blackhole.consume(PageFactory.homePage());
+        blackhole.consume(PageFactory.swipePage());
+        blackhole.consume(PageFactory.homePage());
+        blackhole.consume(PageFactory.dragPage());
+        blackhole.consume(PageFactory.homePage());
+        blackhole.consume(PageFactory.webViewPage());
+        blackhole.consume(ContextManager.forDriver(driver));
+        SessionScope.release(driver);
+    }
+
+    private static <T> T eagerPage(Supplier<T> constructor) {
+        new ConfigProvider().getPlatform();
+        return constructor.get();
+    }
+}
@@ -0,0 +1,56 @@
+package com.demo.framework.benchmarks;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.drivers.DriverManager;
+import com.demo.framework.utils.ScreenshotCapture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Screenshot capture latency through the Appium server versus host tools (adb or simctl).
+ * Unlike the other benchmarks this needs a running device and Appium server, configured as for tests, so
+ * the default {@code jmh} run excludes it; run it by name:
+ * {@code ./gradlew jmh -PjmhIncludes=ScreenshotCaptureBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ScreenshotCaptureBenchmark {
+
+    @Param({"driver", "host"})
+    public String source;
+
+    private ScreenshotCapture capture;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManager.createDriver(new ConfigProvider().getAppiumConfig());
+        capture = ScreenshotCapture.forDriver(DriverManager.getDriver());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DriverManager.quitDriver();
+    }
+
+    @Benchmark
+    public byte[] capture() {
+        return "host".equals(source) ? capture.captureFromHost() : capture.captureFromDriver();
+    }
+}
@@ -0,0 +1,115 @@
+package com.demo.framework.benchmarks;
+
+import com.demo.framework.vision.GrayImage;
+import com.demo.framework.vision.TemplateMatch;
+import com.demo.framework.vision.TemplateMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Image-template matching on a 1080x2400 frame resembling the drag-and-drop screen: a 3x3 tile board,
+ * labels and a 96 px glyph button as the template. {@code match} measures NCC search on a decoded frame by
+ * pyramid depth; {@code decodeAndMatch} adds PNG decoding, as {@code ImageLocator.find} does per screenshot.
+ * Run with {@code ./gradlew jmh}; no device is needed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TemplateMatcherBenchmark {
+
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 2400;
+    private static final int GLYPH_X = 880;
+    private static final int GLYPH_Y = 2100;
+    private static final int GLYPH_SIZE = 96;
+
+    @Param({"2", "3", "4"})
+    public int levels;
+
+    private byte[] png;
+    private GrayImage frame;
+    private GrayImage template;
+    private TemplateMatcher matcher;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BufferedImage image = renderFrame();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        png = out.toByteArray();
+        frame = GrayImage.of(image);
+        template = frame.crop(GLYPH_X, GLYPH_Y, GLYPH_SIZE, GLYPH_SIZE);
+        matcher = new TemplateMatcher(0.9, levels);
+
+        TemplateMatch match = matcher.find(frame, template)
+                .orElseThrow(() -> new IllegalStateException("Glyph not found with " + levels + " levels"));
+        if (match.x() != GLYPH_X || match.y() != GLYPH_Y) {
+            throw new IllegalStateException("Glyph found at " + match.x() + "," + match.y());
+        }
+    }
+
+    @Benchmark
+    public Optional<TemplateMatch> match() {
+        return matcher.find(frame, template);
+    }
+
+    @Benchmark
+    public Optional<TemplateMatch> decodeAndMatch() {
+        return matcher.find(GrayImage.decode(png), template);
+    }
+
+    private static BufferedImage renderFrame() {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setColor(new Color(245, 245, 245));
+        g.fillRect(0, 0, WIDTH, HEIGHT);
+
+        g.setColor(new Color(30, 30, 30));
+        g.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 64));
+        g.drawString("Drag and Drop", 60, 200);
+        g.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 40));
+        g.drawString("Drag the tiles to the matching drop zones", 60, 280);
+
+        Color[] colors = {new Color(234, 88, 12), new Color(22, 163, 74), new Color(37, 99, 235)};
+        for (int row = 0; row < 3; row++) {
+            for (int column = 0; column < 3; column++) {
+                int x = 90 + column * 320;
+                g.setColor(colors[(row + column) % 3]);
+                g.fillRoundRect(x, 420 + row * 300, 260, 260, 40, 40);
+                g.setColor(new Color(200, 200, 200));
+                g.setStroke(new BasicStroke(6));
+                g.drawRoundRect(x, 1330 + row * 240, 260, 200, 40, 40);
+            }
+        }
+
+        // Circular-arrow glyph of the reset button
+        g.setColor(new Color(60, 60, 60));
+        g.setStroke(new BasicStroke(10, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        g.drawArc(GLYPH_X + 18, GLYPH_Y + 18, 60, 60, 60, 290);
+        g.fillPolygon(new int[]{GLYPH_X + 70, GLYPH_X + 90, GLYPH_X + 66},
+                new int[]{GLYPH_Y + 10, GLYPH_Y + 30, GLYPH_Y + 38}, 3);
+        g.dispose();
+        return image;
+    }
+}
@@ -24,6 +24,13 @@ public class ConfigProvider {
         this(DEFAULT_CONFIG);
     }
 
+    /**
+     * Shared provider for the default config, loaded once per JVM
+     */
+    public static ConfigProvider getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
     public ConfigProvider(String resourcePath) {
         properties = new Properties();
         try (InputStream inputStream = getResourceAsStream(resourcePath)) {
@@ -312,6 +319,10 @@ public class ConfigProvider {
         return new Properties(properties);
     }
 
+    private static final class DefaultHolder {
+        private static final ConfigProvider INSTANCE = new ConfigProvider();
+    }
+
     /**
      * Get resource as input stream
      */
@@ -0,0 +1,20 @@
+package com.demo.framework.devicelog;
+
+import com.demo.framework.exceptions.FrameworkException;
+
+/**
+ * Thrown into a running wait when the device log shows that the app under test crashed, hung or died
+ */
+public class AppCrashedException extends FrameworkException {
+
+    private final CrashWatcher.Kind kind;
+
+    public AppCrashedException(CrashWatcher.Kind kind, String message) {
+        super(message);
+        this.kind = kind;
+    }
+
+    public CrashWatcher.Kind getKind() {
+        return kind;
+    }
+}
@@ -0,0 +1,232 @@
+package com.demo.framework.devicelog;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.drivers.SessionScope;
+import io.appium.java_client.AppiumDriver;
+import io.qameta.allure.Allure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Watches the {@link DeviceLog} for the app under test crashing, hanging or dying.
+ * <p>
+ * Android: {@code FATAL EXCEPTION} and native {@code Fatal signal} lines of the app, {@code ANR in <package>}
+ * and {@code Process <package> has died} from ActivityManager (unless the app was force-stopped on purpose).
+ * iOS: uncaught exceptions, exits by a crash signal and watchdog kills. Waits call {@link #check(AppiumDriver)}
+ * on every poll, so a test fails with the crash itself instead of waiting out its timeouts. The last
+ * {@code devicelog.sliceLines} app lines are kept for the failure report.
+ */
+public final class CrashWatcher implements Consumer<DeviceLogLine>, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CrashWatcher.class);
+
+    /**
+     * Time a crash is given to log its stack trace before it is reported
+     */
+    private static final long SETTLE_NANOS = TimeUnit.MILLISECONDS.toNanos(300);
+    private static final int DETAIL_LINES = 2;
+    private static final List<String> SYSTEM_TAGS = List.of("ActivityManager", "ActivityTaskManager");
+    private static final Pattern CRASH_SIGNAL = Pattern.compile("SIG(SEGV|ABRT|BUS|ILL|TRAP|FPE)");
+
+    private static final int SLICE_LINES;
+
+    static {
+        SLICE_LINES = Math.max(10, ConfigProvider.getDefault().getInt("devicelog.sliceLines", 300));
+    }
+
+    public enum Kind {
+        CRASH("crashed"),
+        ANR("is not responding"),
+        TERMINATED("was terminated");
+
+        private final String description;
+
+        Kind(String description) {
+            this.description = description;
+        }
+    }
+
+    private final DeviceLog log;
+    private final String appId;
+    private final Deque<String> recent = new ArrayDeque<>();
+    private final List<String> details = new ArrayList<>();
+    private volatile Kind kind;
+    private String headline;
+    private long detectedAt;
+    private int crashPid;
+    private String crashTag;
+    private boolean stopping;
+
+    public CrashWatcher(DeviceLog log) {
+        this.log = log;
+        this.appId = log.getAppId();
+        log.subscribe(this);
+    }
+
+    /**
+     * Get crash watcher of the session of the given driver
+     */
+    public static CrashWatcher forDriver(AppiumDriver driver) {
+        return SessionScope.of(driver).get(CrashWatcher.class, () -> new CrashWatcher(DeviceLog.forDriver(driver)));
+    }
+
+    /**
+     * Fail fast if the app of the driver's session has crashed; a no-op for sessions without a watcher
+     *
+     * @throws AppCrashedException if a crash, hang or unexpected termination was logged
+     */
+    public static void check(AppiumDriver driver) {
+        if (DeviceLog.isEnabled()) {
+            SessionScope.find(driver, CrashWatcher.class).ifPresent(CrashWatcher::check);
+        }
+    }
+
+    /**
+     * Start streaming the device log
+     */
+    public void start() {
+        log.start();
+    }
+
+    /**
+     * @throws AppCrashedException if a crash, hang or unexpected termination was logged
+     */
+    public void check() {
+        Kind crashed = kind;
+        if (crashed == null) {
+            return;
+        }
+        long settle = SETTLE_NANOS - (System.nanoTime() - detectedAt);
+        if (settle > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(settle);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        throw new AppCrashedException(crashed, describe());
+    }
+
+    public boolean hasCrashed() {
+        return kind != null;
+    }
+
+    /**
+     * Recent app lines of the device log, oldest first
+     */
+    public String slice() {
+        synchronized (recent) {
+            return String.join("\n", recent);
+        }
+    }
+
+    /**
+     * Attach the recent device log to the current Allure test
+     *
+     * @return false if there was nothing to attach
+     */
+    public boolean attach(String name) {
+        String slice = slice();
+        if (slice.isEmpty()) {
+            return false;
+        }
+        Allure.addAttachment(name, "text/plain", slice, "log");
+        return true;
+    }
+
+    @Override
+    public void accept(DeviceLogLine line) {
+        synchronized (recent) {
+            recent.addLast(line.raw());
+            if (recent.size() > SLICE_LINES) {
+                recent.removeFirst();
+            }
+            if (kind != null) {
+                collectDetail(line);
+                return;
+            }
+            if (log.isAndroid()) {
+                detectAndroid(line);
+            } else {
+                detectSimulator(line);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        log.unsubscribe(this);
+    }
+
+    private void detectAndroid(DeviceLogLine line) {
+        String message = line.message();
+        if (SYSTEM_TAGS.contains(line.tag())) {
+            if (message.contains("ANR in " + appId)) {
+                detected(Kind.ANR, line);
+            } else if (message.contains("Force stopping " + appId)) {
+                stopping = true;
+            } else if (message.contains("Start proc ")) {
+                stopping = false;
+            } else if (message.contains("Process " + appId + " ") && message.contains("has died") && !stopping) {
+                detected(Kind.TERMINATED, line);
+            }
+        } else if (("AndroidRuntime".equals(line.tag()) && message.startsWith("FATAL EXCEPTION"))
+                || message.contains("Fatal signal")) {
+            detected(Kind.CRASH, line);
+        }
+    }
+
+    private void detectSimulator(DeviceLogLine line) {
+        String message = line.message();
+        if (message.contains("Terminating app due to uncaught exception")
+                || (message.contains("exited") && CRASH_SIGNAL.matcher(message).find())) {
+            detected(Kind.CRASH, line);
+        } else if (message.toLowerCase().contains("watchdog") && message.contains(appId)) {
+            detected(Kind.ANR, line);
+        }
+    }
+
+    private void detected(Kind crashed, DeviceLogLine line) {
+        headline = line.message();
+        crashPid = line.pid();
+        crashTag = line.tag();
+        detectedAt = System.nanoTime();
+        kind = crashed;
+        LOG.error("App {} {}: {}", appId, crashed.description, headline);
+    }
+
+    /**
+     * Keep the first lines after the headline that say what went wrong, e.g. the exception or the ANR reason
+     */
+    private void collectDetail(DeviceLogLine line) {
+        if (details.size() >= DETAIL_LINES || line.pid() != crashPid || !line.tag().equals(crashTag)) {
+            return;
+        }
+        String message = line.message().trim();
+        boolean wanted = kind == Kind.ANR
+                ? message.startsWith("Reason:")
+                : !message.isEmpty() && !message.startsWith("Process:") && !message.startsWith("PID:");
+        if (wanted) {
+            details.add(message);
+        }
+    }
+
+    private String describe() {
+        synchronized (recent) {
+            StringBuilder description = new StringBuilder("App ").append(appId).append(' ')
+                    .append(kind.description).append(": ").append(headline);
+            for (String detail : details) {
+                description.append(" | ").append(detail);
+            }
+            return description.toString();
+        }
+    }
+}
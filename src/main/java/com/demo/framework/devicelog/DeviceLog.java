@@ -0,0 +1,374 @@
+package com.demo.framework.devicelog;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.drivers.SessionScope;
+import com.demo.framework.drivers.device.AdbCommand;
+import com.demo.framework.drivers.device.DeviceProfile;
+import com.demo.framework.drivers.device.HostCommand;
+import com.demo.framework.exceptions.FrameworkException;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Streams the log of the app under test from the host, without going through the Appium server.
+ * <p>
+ * Android uses {@code adb logcat} and keeps the lines of the app process plus the ActivityManager lines about
+ * the app package, following the pid when the app is restarted. iOS simulators use {@code simctl spawn log
+ * stream} with a predicate on the app executable and on SpringBoard / RunningBoard lines about its bundle.
+ * <p>
+ * One log process serves the whole session. Lines are pushed to subscribers on a daemon thread as they arrive
+ * and kept in a bounded history of {@code devicelog.historyLines}, which any number of {@link Cursor}s read at
+ * their own pace from a {@link #mark()}. Disabled with {@code devicelog.enabled=false}.
+ */
+public final class DeviceLog implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceLog.class);
+    private static final long RESTART_DELAY_MS = 1000;
+    private static final long SIMCTL_TIMEOUT_SECONDS = 10;
+
+    /**
+     * {@code logcat -v threadtime}: date, time, pid, tid, level, tag and message
+     */
+    private static final Pattern LOGCAT_LINE =
+            Pattern.compile("^\\d\\d-\\d\\d \\S+\\s+(\\d+)\\s+\\d+ [VDIWEFA] (.*?)\\s*: (.*)$");
+    /**
+     * {@code log stream --style compact}: date, time, type, process[pid:tid] and message
+     */
+    private static final Pattern SYSLOG_LINE =
+            Pattern.compile("^\\S+ \\S+\\s+\\S+\\s+([^\\[]+)\\[(\\d+):\\w+\\]\\s?(.*)$");
+    private static final Pattern START_PROC = Pattern.compile("Start proc (\\d+):([\\w.]+)");
+    private static final List<String> SYSTEM_TAGS = List.of("ActivityManager", "ActivityTaskManager");
+    /**
+     * Field lines of a multi-line ActivityManager report, e.g. {@code Reason: Input dispatching timed out}
+     */
+    private static final Pattern REPORT_FIELD = Pattern.compile("^\\w[\\w ]*: .*");
+
+    private static final boolean ENABLED;
+    private static final int HISTORY_LINES;
+
+    static {
+        ConfigProvider config = ConfigProvider.getDefault();
+        ENABLED = config.getBoolean("devicelog.enabled", true);
+        HISTORY_LINES = Math.max(16, config.getInt("devicelog.historyLines", 2000));
+    }
+
+    private final List<String> command;
+    private final boolean android;
+    private final String appId;
+    private final List<Consumer<DeviceLogLine>> subscribers = new CopyOnWriteArrayList<>();
+    private final DeviceLogLine[] history;
+    private long written;
+    private volatile int appPid;
+    private volatile boolean running;
+    private volatile Process process;
+    private Thread reader;
+    private DeviceLogLine previous;
+    private int reportPid = -1;
+
+    /**
+     * Log stream of the given command
+     *
+     * @param android whether the command prints logcat threadtime lines rather than compact simulator lines
+     * @param appId   app package on Android, used to follow the app pid; bundle id on iOS
+     * @param appPid  current app pid on Android, or -1
+     */
+    public DeviceLog(List<String> command, boolean android, String appId, int appPid) {
+        this.history = new DeviceLogLine[HISTORY_LINES];
+        this.command = List.copyOf(command);
+        this.android = android;
+        this.appId = appId;
+        this.appPid = appPid;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Get device log of the session of the given driver, not yet started
+     */
+    public static DeviceLog forDriver(AppiumDriver driver) {
+        return SessionScope.of(driver).get(DeviceLog.class, () -> create(driver));
+    }
+
+    private static DeviceLog create(AppiumDriver driver) {
+        String udid = DeviceProfile.udid(driver.getCapabilities());
+        if (driver instanceof AndroidDriver) {
+            String appPackage = DeviceProfile.appId(driver);
+            AdbCommand adb = AdbCommand.forDevice(udid);
+            return new DeviceLog(adb.commandLine("logcat", "-v", "threadtime", "-b", "main", "-b", "system",
+                    "-b", "crash", "-T", "1"), true, appPackage, pidOf(adb, appPackage));
+        }
+        String bundleId = DeviceProfile.appId(driver);
+        if (udid == null || bundleId == null) {
+            throw new FrameworkException("Simulator UDID and app bundle id are needed to stream the device log");
+        }
+        String predicate = "(eventMessage CONTAINS \"" + bundleId + "\""
+                + " AND (process == \"SpringBoard\" OR process == \"runningboardd\"))";
+        String executable = executableOf(udid, bundleId);
+        if (executable != null) {
+            predicate = "process == \"" + executable + "\" OR " + predicate;
+        }
+        return new DeviceLog(List.of("xcrun", "simctl", "spawn", udid, "log", "stream", "--style", "compact",
+                "--level", "debug", "--predicate", predicate), false, bundleId, -1);
+    }
+
+    public String getAppId() {
+        return appId;
+    }
+
+    public boolean isAndroid() {
+        return android;
+    }
+
+    /**
+     * Receive every app line read from now on, on the reader thread; subscribers must not block
+     */
+    public void subscribe(Consumer<DeviceLogLine> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(Consumer<DeviceLogLine> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Position of the next line to be read, to start a {@link Cursor} from before triggering an action
+     */
+    public long mark() {
+        synchronized (history) {
+            return written;
+        }
+    }
+
+    /**
+     * Independent reader of the history from the given mark
+     */
+    public Cursor cursor(long mark) {
+        return new Cursor(mark);
+    }
+
+    /**
+     * Start streaming on a daemon thread; restarts the log command if it exits while the session runs
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        reader = new Thread(this::read, "device-log");
+        reader.setDaemon(true);
+        reader.start();
+        LOG.debug("Streaming device log for {}: {}", appId, String.join(" ", command));
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = reader;
+            reader = null;
+        }
+        Process current = process;
+        if (current != null) {
+            current.destroy();
+        }
+        if (thread != null) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        subscribers.clear();
+    }
+
+    private void read() {
+        while (running) {
+            try {
+                process = new ProcessBuilder(command)
+                        .redirectError(ProcessBuilder.Redirect.DISCARD)
+                        .start();
+            } catch (IOException e) {
+                LOG.warn("Device log unavailable for this session: {}", e.getMessage());
+                running = false;
+                return;
+            }
+            if (!running) {
+                process.destroy();
+                return;
+            }
+            try (BufferedReader in = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    accept(line);
+                }
+            } catch (IOException e) {
+                if (running) {
+                    LOG.debug("Device log stream interrupted: {}", e.getMessage());
+                }
+            }
+            if (running) {
+                LOG.debug("Device log command exited, restarting");
+                try {
+                    Thread.sleep(RESTART_DELAY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Parse a raw line and hand it to the subscribers if it belongs to the app. Called by the reader thread for
+     * every line of the log command; also feeds recorded logs in tests.
+     */
+    public void accept(String raw) {
+        DeviceLogLine line = android ? parseLogcat(raw) : parseSyslog(raw);
+        if (line == null || !isAppLine(line)) {
+            return;
+        }
+        synchronized (history) {
+            history[(int) (written % history.length)] = line;
+            written++;
+        }
+        for (Consumer<DeviceLogLine> subscriber : subscribers) {
+            try {
+                subscriber.accept(line);
+            } catch (RuntimeException e) {
+                LOG.warn("Device log subscriber failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private boolean isAppLine(DeviceLogLine line) {
+        if (!android) {
+            return true;
+        }
+        if (!SYSTEM_TAGS.contains(line.tag())) {
+            return line.pid() == appPid;
+        }
+        if (line.message().contains(appId)) {
+            Matcher start = START_PROC.matcher(line.message());
+            if (start.find() && start.group(2).equals(appId)) {
+                appPid = Integer.parseInt(start.group(1));
+            }
+            reportPid = line.pid();
+            return true;
+        }
+        if (line.pid() == reportPid && REPORT_FIELD.matcher(line.message()).matches()) {
+            return true;
+        }
+        reportPid = -1;
+        return false;
+    }
+
+    private DeviceLogLine parseLogcat(String raw) {
+        Matcher matcher = LOGCAT_LINE.matcher(raw);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return new DeviceLogLine(Integer.parseInt(matcher.group(1)), matcher.group(2), matcher.group(3), raw);
+    }
+
+    /**
+     * Compact simulator line; continuation lines of a multi-line message keep the header of their first line
+     */
+    private DeviceLogLine parseSyslog(String raw) {
+        Matcher matcher = SYSLOG_LINE.matcher(raw);
+        if (matcher.matches()) {
+            previous = new DeviceLogLine(Integer.parseInt(matcher.group(2)), matcher.group(1).trim(),
+                    matcher.group(3), raw);
+            return previous;
+        }
+        if (previous == null || raw.isBlank() || raw.startsWith("Filtering the log data")
+                || raw.startsWith("Timestamp")) {
+            return null;
+        }
+        return new DeviceLogLine(previous.pid(), previous.tag(), raw, raw);
+    }
+
+    /**
+     * Read position in the history, owned by one wait. A cursor that falls more than the history size behind
+     * skips to the oldest line still kept.
+     */
+    public final class Cursor {
+
+        private long position;
+
+        private Cursor(long position) {
+            this.position = position;
+        }
+
+        /**
+         * Next line whose raw text matches the pattern, consuming the lines read; empty if none arrived yet
+         */
+        public Optional<DeviceLogLine> find(Pattern pattern) {
+            synchronized (history) {
+                position = Math.max(position, written - history.length);
+                while (position < written) {
+                    DeviceLogLine line = history[(int) (position++ % history.length)];
+                    if (pattern.matcher(line.raw()).find()) {
+                        return Optional.of(line);
+                    }
+                }
+            }
+            return Optional.empty();
+        }
+
+        public long getPosition() {
+            return position;
+        }
+    }
+
+    private static int pidOf(AdbCommand adb, String appPackage) {
+        try {
+            String pid = adb.run("shell", "pidof", appPackage).trim();
+            return pid.matches("\\d+") ? Integer.parseInt(pid) : -1;
+        } catch (FrameworkException e) {
+            LOG.debug("No pid for {}: {}", appPackage, e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Executable name of an installed simulator app, from its bundle directory name
+     */
+    private static String executableOf(String udid, String bundleId) {
+        try {
+            String path = new String(HostCommand.runForBytes(
+                    List.of("xcrun", "simctl", "get_app_container", udid, bundleId), SIMCTL_TIMEOUT_SECONDS),
+                    StandardCharsets.UTF_8).trim();
+            if (!path.endsWith(".app")) {
+                return null;
+            }
+            String bundle = Paths.get(path).getFileName().toString();
+            return bundle.substring(0, bundle.length() - ".app".length());
+        } catch (FrameworkException e) {
+            LOG.debug("App container unavailable: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.demo.framework.devicelog;
+
+/**
+ * One line of the device log
+ *
+ * @param pid     process id of the writer, or -1 if unknown
+ * @param tag     logcat tag on Android, process name on iOS
+ * @param message text after the header
+ * @param raw     the line as printed by logcat or the simulator log
+ */
+public record DeviceLogLine(int pid, String tag, String message, String raw) {
+}
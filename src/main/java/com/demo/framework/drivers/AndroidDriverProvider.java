@@ -1,13 +1,18 @@
 package com.demo.framework.drivers;
 
 import com.demo.framework.config.AppiumConfig;
+import com.demo.framework.config.ConfigProvider;
 import com.demo.framework.exceptions.FrameworkException;
+import com.demo.framework.recording.ScreenRecorder;
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.android.options.UiAutomator2Options;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
 public class AndroidDriverProvider implements DriverFactory {
 
     private static final Logger LOG = LoggerFactory.getLogger(AndroidDriverProvider.class);
@@ -24,10 +29,10 @@ public class AndroidDriverProvider implements DriverFactory {
                 .setFullReset(config.fullReset())
                 .setNoReset(config.noReset());
 
-        // ChromeDriver configuration for WebView testing
-        String chromedriverDir = System.getProperty("user.home") + "/.appium/chromedriver";
-        options.setCapability("appium:chromedriverAutodownload", true);
-        options.setCapability("appium:chromedriverExecutableDir", chromedriverDir);
+        configureChromedriver(options, config);
+        if (ScreenRecorder.isEnabled()) {
+            options.setCapability("appium:mjpegServerPort", ScreenRecorder.getPort());
+        }
 
         LOG.info("Starting Android driver with capabilities:");
         LOG.info("  Device: {}", config.deviceName());
@@ -45,4 +50,27 @@ public class AndroidDriverProvider implements DriverFactory {
             throw new FrameworkException("Failed to start Android driver", e);
         }
     }
+
+    /**
+     * ChromeDriver configuration for WebView testing: a binary from the local repository matching the
+     * device's WebView, else the repository directory with download allowed unless running offline
+     */
+    private void configureChromedriver(UiAutomator2Options options, AppiumConfig config) {
+        ConfigProvider provider = ConfigProvider.getDefault();
+        ChromedriverRepository repository = new ChromedriverRepository(provider);
+        boolean offline = provider.getBoolean("chromedriver.offline", false);
+
+        Optional<Path> chromedriver = repository.resolve(config.udid());
+        if (chromedriver.isPresent()) {
+            options.setCapability("appium:chromedriverExecutable", chromedriver.get().toAbsolutePath().toString());
+            options.setCapability("appium:chromedriverAutodownload", false);
+            return;
+        }
+        options.setCapability("appium:chromedriverAutodownload", !offline);
+        options.setCapability("appium:chromedriverExecutableDir", repository.getDirectory().toString());
+        if (offline) {
+            LOG.warn("No local chromedriver matches the device WebView and downloads are disabled; "
+                    + "WebView context switches will fail");
+        }
+    }
 }
@@ -0,0 +1,195 @@
+package com.demo.framework.drivers;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.drivers.device.AdbCommand;
+import com.demo.framework.exceptions.FrameworkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Local chromedriver repository for hosts without internet access.
+ * <p>
+ * The device's WebView version is read with adb, and its major version is looked up in a mapping file
+ * ({@code chromedriver.repository.mapping}: {@code <major>=<path to chromedriver>}, paths relative to the
+ * repository directory). A missing entry is seeded from {@code chromedriver.repository.archive}, a zip with
+ * one {@code <major>/chromedriver} per version, and added to the mapping. The resolved binary is passed as
+ * {@code chromedriverExecutable}, so Appium never looks one up or downloads one on a context switch.
+ */
+public final class ChromedriverRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChromedriverRepository.class);
+    private static final Pattern WEBVIEW_VERSION = Pattern.compile(
+            "Current WebView package \\(name, version\\): \\(([^,]+), (\\d+)[^)]*\\)");
+    private static final Pattern VERSION_NAME = Pattern.compile("versionName=(\\d+)");
+    private static final String[] WEBVIEW_PACKAGES = {"com.google.android.webview", "com.android.webview",
+            "com.android.chrome"};
+    private static final String BINARY = isWindows() ? "chromedriver.exe" : "chromedriver";
+
+    private static final Map<String, Optional<Path>> RESOLVED = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final Path mappingFile;
+    private final Path archive;
+
+    public ChromedriverRepository(ConfigProvider config) {
+        this(Paths.get(config.getString("chromedriver.repository.dir",
+                        System.getProperty("user.home") + "/.appium/chromedriver")),
+                config.getString("chromedriver.repository.mapping", "chromedriver-mapping.properties"),
+                archivePath(config.getOptional("chromedriver.repository.archive")));
+    }
+
+    /**
+     * @param mappingFile mapping file name, relative to the directory
+     * @param archive     zip to seed missing versions from, or null
+     */
+    public ChromedriverRepository(Path directory, String mappingFile, Path archive) {
+        this.directory = directory;
+        this.mappingFile = directory.resolve(mappingFile);
+        this.archive = archive;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Chromedriver matching the WebView of the device, resolved once per device and run
+     *
+     * @param udid device serial, or null for the only connected device
+     */
+    public Optional<Path> resolve(String udid) {
+        return RESOLVED.computeIfAbsent(udid == null ? "" : udid, key -> {
+            try {
+                int major = detectWebViewMajor(AdbCommand.forDevice(udid));
+                Optional<Path> binary = forMajorVersion(major);
+                binary.ifPresentOrElse(
+                        path -> LOG.info("Using chromedriver {} for WebView {}", path, major),
+                        () -> LOG.warn("No chromedriver for WebView {} in {}", major, directory));
+                return binary;
+            } catch (FrameworkException e) {
+                LOG.warn("Unable to resolve chromedriver from local repository: {}", e.getMessage());
+                return Optional.empty();
+            }
+        });
+    }
+
+    /**
+     * Chromedriver for a WebView major version from the mapping, seeding it from the archive if needed
+     */
+    public synchronized Optional<Path> forMajorVersion(int major) {
+        Properties mapping = loadMapping();
+        String mapped = mapping.getProperty(String.valueOf(major));
+        if (mapped != null) {
+            Path binary = directory.resolve(mapped.trim());
+            if (Files.isRegularFile(binary)) {
+                return Optional.of(binary);
+            }
+            LOG.warn("Mapped chromedriver for {} does not exist: {}", major, binary);
+        }
+        Optional<Path> extracted = extractFromArchive(major);
+        extracted.ifPresent(binary -> {
+            mapping.setProperty(String.valueOf(major), directory.relativize(binary).toString());
+            storeMapping(mapping);
+        });
+        return extracted;
+    }
+
+    /**
+     * Major version of the device's WebView provider, from the WebView update service or the package manager
+     */
+    static int detectWebViewMajor(AdbCommand adb) {
+        return detectWebViewMajor(service -> adb.run("shell", "dumpsys " + service));
+    }
+
+    /**
+     * Major version of the WebView provider from {@code dumpsys} output
+     *
+     * @param dumpsys output of {@code dumpsys} for a service and its arguments, e.g. {@code package <name>}
+     */
+    public static int detectWebViewMajor(UnaryOperator<String> dumpsys) {
+        Matcher current = WEBVIEW_VERSION.matcher(dumpsys.apply("webviewupdate"));
+        if (current.find()) {
+            return Integer.parseInt(current.group(2));
+        }
+        for (String webViewPackage : WEBVIEW_PACKAGES) {
+            Matcher versionName = VERSION_NAME.matcher(dumpsys.apply("package " + webViewPackage));
+            if (versionName.find()) {
+                return Integer.parseInt(versionName.group(1));
+            }
+        }
+        throw new FrameworkException("WebView version not found on device");
+    }
+
+    private Optional<Path> extractFromArchive(int major) {
+        if (archive == null || !Files.isRegularFile(archive)) {
+            return Optional.empty();
+        }
+        String entryName = major + "/" + BINARY;
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.getName().equals(entryName) || entry.getName().endsWith("/" + entryName)) {
+                    Path binary = directory.resolve(entryName);
+                    Files.createDirectories(binary.getParent());
+                    Files.copy(zip, binary, StandardCopyOption.REPLACE_EXISTING);
+                    if (!binary.toFile().setExecutable(true)) {
+                        LOG.warn("Unable to make {} executable", binary);
+                    }
+                    LOG.info("Extracted chromedriver {} from {}", entryName, archive);
+                    return Optional.of(binary);
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to read chromedriver archive {}: {}", archive, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private Properties loadMapping() {
+        Properties mapping = new Properties();
+        if (Files.exists(mappingFile)) {
+            try (InputStream in = Files.newInputStream(mappingFile)) {
+                mapping.load(in);
+            } catch (IOException e) {
+                LOG.warn("Unable to read chromedriver mapping {}: {}", mappingFile, e.getMessage());
+            }
+        }
+        return mapping;
+    }
+
+    private void storeMapping(Properties mapping) {
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream out = Files.newOutputStream(mappingFile)) {
+                mapping.store(out, "WebView major version to chromedriver path, relative to this directory");
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to update chromedriver mapping {}: {}", mappingFile, e.getMessage());
+        }
+    }
+
+    private static Path archivePath(String path) {
+        return path == null || path.isBlank() ? null : Paths.get(path);
+    }
+
+    private static boolean isWindows() {
+        return System.getProperty("os.name", "").toLowerCase().contains("win");
+    }
+}
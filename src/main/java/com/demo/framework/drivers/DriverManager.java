@@ -1,7 +1,11 @@
 package com.demo.framework.drivers;
 
 import com.demo.framework.config.AppiumConfig;
+import com.demo.framework.devicelog.CrashWatcher;
+import com.demo.framework.devicelog.DeviceLog;
 import com.demo.framework.exceptions.FrameworkException;
+import com.demo.framework.perf.PerfSampler;
+import com.demo.framework.recording.ScreenRecorder;
 import io.appium.java_client.AppiumDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,9 +37,37 @@ public class DriverManager {
         DriverFactory factory = getFactory(config.platformName());
         AppiumDriver driver = factory.createDriver(config);
         DRIVER.set(driver);
+        if (ScreenRecorder.isEnabled()) {
+            ScreenRecorder.forDriver(driver);
+        }
+        if (DeviceLog.isEnabled()) {
+            try {
+                CrashWatcher.forDriver(driver).start();
+            } catch (RuntimeException e) {
+                LOG.warn("Crash detection unavailable for this session: {}", e.getMessage());
+            }
+        }
+        if (PerfSampler.isEnabled()) {
+            try {
+                PerfSampler.forDriver(driver).start();
+            } catch (RuntimeException e) {
+                LOG.warn("App performance sampling unavailable for this session: {}", e.getMessage());
+            }
+        }
         LOG.info("Driver successfully created and stored in ThreadLocal");
     }
 
+    /**
+     * Register an externally created driver (e.g. an attached session or a stub) for current thread
+     */
+    public static void setDriver(AppiumDriver driver) {
+        if (DRIVER.get() != null && DRIVER.get() != driver) {
+            LOG.warn("Driver already exists for current thread, quitting previous instance");
+            quitDriver();
+        }
+        DRIVER.set(driver);
+    }
+
     /**
      * Get driver instance for current thread
      */
@@ -63,6 +95,7 @@ public class DriverManager {
             try {
                 LOG.info("Quitting driver and releasing resources");
                 LOG.info("Note: If fullReset=true was set, app will be uninstalled from device");
+                SessionScope.release(driver);
                 driver.quit();
                 LOG.info("Driver quit successfully");
             } catch (Exception e) {
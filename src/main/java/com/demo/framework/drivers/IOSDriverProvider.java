@@ -2,6 +2,7 @@ package com.demo.framework.drivers;
 
 import com.demo.framework.config.AppiumConfig;
 import com.demo.framework.exceptions.FrameworkException;
+import com.demo.framework.recording.ScreenRecorder;
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.ios.options.XCUITestOptions;
@@ -46,6 +47,11 @@ public class IOSDriverProvider implements DriverFactory {
         options.setCapability("appium:shouldTerminateApp", false);
         options.setCapability("appium:forceSimulatorSoftwareKeyboardPresence", false);
 
+        // Forward the WebDriverAgent MJPEG stream for failure recordings
+        if (ScreenRecorder.isEnabled()) {
+            options.setCapability("appium:mjpegServerPort", ScreenRecorder.getPort());
+        }
+
         LOG.info("Starting iOS driver with capabilities for device: {}", config.deviceName());
         LOG.info("Platform Version: {}, Automation: {}", config.platformVersion(), config.automationName());
         LOG.info("Full Reset: {}, No Reset: {}", config.fullReset(), config.noReset());
@@ -0,0 +1,108 @@
+package com.demo.framework.drivers;
+
+import com.demo.framework.exceptions.FrameworkException;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.remote.SessionId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds framework components whose state belongs to a single Appium session
+ * (UI snapshots, caches, per-session managers).
+ * Scopes are keyed by session id and released together with the driver,
+ * closing every component that implements {@link AutoCloseable}.
+ */
+public final class SessionScope {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SessionScope.class);
+    private static final Map<SessionId, SessionScope> SCOPES = new ConcurrentHashMap<>();
+
+    private final SessionId sessionId;
+    private final Map<Class<?>, Object> components = new HashMap<>();
+
+    private SessionScope(SessionId sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Get scope for the session of the given driver
+     */
+    public static SessionScope of(AppiumDriver driver) {
+        SessionId sessionId = driver.getSessionId();
+        if (sessionId == null) {
+            throw new FrameworkException("Driver has no active session");
+        }
+        return SCOPES.computeIfAbsent(sessionId, SessionScope::new);
+    }
+
+    /**
+     * Get component of the given type, creating it on first access
+     */
+    public synchronized <T> T get(Class<T> type, Supplier<? extends T> factory) {
+        Object component = components.get(type);
+        if (component == null) {
+            component = factory.get();
+            components.put(type, component);
+        }
+        return type.cast(component);
+    }
+
+    /**
+     * Get component of the given type if the driver's session has already created one
+     */
+    public static <T> Optional<T> find(AppiumDriver driver, Class<T> type) {
+        SessionId sessionId = driver.getSessionId();
+        SessionScope scope = sessionId != null ? SCOPES.get(sessionId) : null;
+        if (scope == null) {
+            return Optional.empty();
+        }
+        synchronized (scope) {
+            return Optional.ofNullable(scope.components.get(type)).map(type::cast);
+        }
+    }
+
+    public SessionId getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Release scope of the given driver and close its components
+     */
+    public static void release(AppiumDriver driver) {
+        SessionId sessionId = driver.getSessionId();
+        if (sessionId == null) {
+            return;
+        }
+        SessionScope scope = SCOPES.remove(sessionId);
+        if (scope != null) {
+            scope.close();
+        }
+    }
+
+    private void close() {
+        List<Object> closing;
+        synchronized (this) {
+            closing = new ArrayList<>(components.values());
+            components.clear();
+        }
+        for (Object component : closing) {
+            if (component instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    LOG.warn("Failed to close session component {}: {}",
+                            component.getClass().getSimpleName(), e.getMessage());
+                }
+            }
+        }
+        LOG.debug("Session scope released: {}", sessionId);
+    }
+}
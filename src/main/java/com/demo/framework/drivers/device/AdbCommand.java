@@ -0,0 +1,60 @@
+package com.demo.framework.drivers.device;
+
+import com.demo.framework.exceptions.FrameworkException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs adb on the test host against one device
+ */
+public final class AdbCommand {
+
+    private static final String ADB_COMMAND = "adb";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final List<String> prefix;
+
+    private AdbCommand(List<String> prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * adb bound to the device with the given serial, or to the only connected device if the serial is blank
+     */
+    public static AdbCommand forDevice(String udid) {
+        List<String> prefix = new ArrayList<>(List.of(ADB_COMMAND));
+        if (udid != null && !udid.isBlank()) {
+            prefix.add("-s");
+            prefix.add(udid.trim());
+        }
+        return new AdbCommand(List.copyOf(prefix));
+    }
+
+    /**
+     * Run adb with the arguments and return its combined output
+     *
+     * @throws FrameworkException if adb cannot be started, times out or exits with an error
+     */
+    public String run(String... args) {
+        return HostCommand.run(commandLine(args), TIMEOUT_SECONDS);
+    }
+
+    /**
+     * Run adb with the arguments and return its raw standard output, e.g. for {@code exec-out}
+     *
+     * @throws FrameworkException if adb cannot be started, times out or exits with an error
+     */
+    public byte[] runForBytes(String... args) {
+        return HostCommand.runForBytes(commandLine(args), TIMEOUT_SECONDS);
+    }
+
+    /**
+     * Full adb command line for the arguments, for long-running commands such as {@code logcat}
+     */
+    public List<String> commandLine(String... args) {
+        List<String> command = new ArrayList<>(prefix);
+        command.addAll(List.of(args));
+        return command;
+    }
+}
@@ -0,0 +1,76 @@
+package com.demo.framework.drivers.device;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.Capabilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Identifies a device profile (platform, model and OS version) for per-device data kept across runs
+ */
+public final class DeviceProfile {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceProfile.class);
+
+    private DeviceProfile() {
+    }
+
+    /**
+     * Platform, device model and OS version, e.g. {@code android.sdk_gphone64_arm64.14}
+     */
+    public static String key(Capabilities capabilities) {
+        String model = capability(capabilities, "deviceModel");
+        if (model == null) {
+            model = capability(capabilities, "deviceName");
+        }
+        String platform = String.valueOf(capabilities.getPlatformName());
+        return sanitize(platform) + "." + sanitize(model) + "." + sanitize(capability(capabilities, "platformVersion"));
+    }
+
+    /**
+     * Device serial or simulator UDID of the session, or null if the capabilities do not name one
+     */
+    public static String udid(Capabilities capabilities) {
+        for (String name : new String[]{"udid", "deviceUDID"}) {
+            String udid = capability(capabilities, name);
+            if (udid != null) {
+                return udid;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Package (Android) or bundle id (iOS) of the app in the foreground, or null if an iOS driver cannot tell
+     */
+    public static String appId(AppiumDriver driver) {
+        if (driver instanceof AndroidDriver androidDriver) {
+            return androidDriver.getCurrentPackage();
+        }
+        try {
+            Object info = driver.executeScript("mobile: activeAppInfo");
+            if (info instanceof Map<?, ?> app && app.get("bundleId") != null) {
+                return app.get("bundleId").toString();
+            }
+        } catch (Exception e) {
+            LOG.debug("Active app unavailable: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private static String capability(Capabilities capabilities, String name) {
+        Object value = capabilities.getCapability(name);
+        if (value == null) {
+            value = capabilities.getCapability("appium:" + name);
+        }
+        return value == null || value.toString().isBlank() ? null : value.toString();
+    }
+
+    private static String sanitize(String value) {
+        return value == null ? "unknown" : value.trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9.]+", "_");
+    }
+}
@@ -0,0 +1,95 @@
+package com.demo.framework.drivers.device;
+
+import com.demo.framework.exceptions.FrameworkException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs short-lived commands on the test host, such as adb, xcrun or ps, with a timeout.
+ * <p>
+ * Standard output is drained on a separate thread while the command runs, so the timeout also covers a
+ * command that hangs without closing its output.
+ */
+public final class HostCommand {
+
+    private static final ExecutorService DRAINERS = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "host-command-output");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private HostCommand() {
+    }
+
+    /**
+     * Run the command and return its standard output and error combined
+     *
+     * @throws FrameworkException if the command cannot be started, times out or exits with an error
+     */
+    public static String run(List<String> command, long timeoutSeconds) {
+        return new String(execute(command, timeoutSeconds, true), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Run the command and return its raw standard output; standard error is discarded
+     *
+     * @throws FrameworkException if the command cannot be started, times out or exits with an error
+     */
+    public static byte[] runForBytes(List<String> command, long timeoutSeconds) {
+        return execute(command, timeoutSeconds, false);
+    }
+
+    private static byte[] execute(List<String> command, long timeoutSeconds, boolean mergeErrors) {
+        String commandLine = String.join(" ", command);
+        Process process = null;
+        try {
+            ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(mergeErrors);
+            if (!mergeErrors) {
+                builder.redirectError(ProcessBuilder.Redirect.DISCARD);
+            }
+            process = builder.start();
+            InputStream in = process.getInputStream();
+            Future<byte[]> output = DRAINERS.submit(in::readAllBytes);
+            if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                throw new FrameworkException("Timed out running " + commandLine);
+            }
+            byte[] bytes = output.get(timeoutSeconds, TimeUnit.SECONDS);
+            if (process.exitValue() != 0) {
+                throw new FrameworkException("Command failed: " + commandLine
+                        + (mergeErrors ? ": " + new String(bytes, StandardCharsets.UTF_8).trim() : ""));
+            }
+            return bytes;
+        } catch (IOException e) {
+            throw new FrameworkException("Unable to run " + commandLine, e);
+        } catch (TimeoutException e) {
+            throw new FrameworkException("Timed out reading the output of " + commandLine, e);
+        } catch (ExecutionException e) {
+            throw new FrameworkException("Unable to read the output of " + commandLine, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while running " + commandLine, e);
+        } finally {
+            if (process != null) {
+                process.destroyForcibly();
+                closeQuietly(process.getInputStream());
+            }
+        }
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // the drain thread fails on its own once the stream is closed
+        }
+    }
+}
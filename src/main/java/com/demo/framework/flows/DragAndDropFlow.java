@@ -1,11 +1,14 @@
 package com.demo.framework.flows;
 
+import com.demo.framework.pages.LazyPage;
 import com.demo.framework.pages.PageFactory;
 import com.demo.framework.pages.interfaces.DragPage;
 import com.demo.framework.pages.interfaces.HomePage;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+
 /**
  * Flow class for Drag and Drop functionality.
  * Orchestrates drag and drop gesture actions.
@@ -13,67 +16,68 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class DragAndDropFlow {
 
-    private final HomePage homePage;
-    private final DragPage dragPage;
-
-    public DragAndDropFlow() {
-        this.homePage = PageFactory.homePage();
-        this.dragPage = PageFactory.dragPage();
-    }
+    private final LazyPage<HomePage> homePage = PageFactory.lazy(PageFactory::homePage);
+    private final LazyPage<DragPage> dragPage = PageFactory.lazy(PageFactory::dragPage);
 
     @Step("Navigate to Drag and Drop screen")
     public void navigateToDragAndDrop() {
         log.info("Navigating to Drag and Drop screen");
-        homePage.clickDragDropLink();
+        homePage.get().clickDragDropLink();
     }
 
     @Step("Drag element to drop zone")
     public void dragElementToDropZone() {
         log.info("Dragging element to drop zone");
-        dragPage.dragElementToDropZone();
+        dragPage.get().dragElementToDropZone();
     }
 
     @Step("Drag all elements to drop zones")
     public void dragAllElementsToDropZones() {
         log.info("Dragging all elements to drop zones");
-        dragPage.dragElementsToDropZone();
+        dragPage.get().dragElementsToDropZone();
     }
 
     @Step("Reset drag and drop")
     public void resetDragDrop() {
         log.info("Resetting drag and drop");
-        dragPage.resetDragDrop();
+        dragPage.get().resetDragDrop();
     }
 
     @Step("Drag element and release elsewhere (not on target)")
     public void dragAndReleaseElsewhere() {
         log.info("Dragging element and releasing elsewhere");
-        dragPage.dragAndReleaseElsewhere();
+        dragPage.get().dragAndReleaseElsewhere();
+    }
+
+    @Step("Calibrate drag duration")
+    public Duration calibrateDrag() {
+        log.info("Calibrating drag duration");
+        return dragPage.get().calibrateDrag();
     }
 
     public boolean isDragPageLoaded() {
-        return dragPage.isPageLoaded();
+        return dragPage.get().isPageLoaded();
     }
 
     public boolean isElementDroppedSuccessfully() {
-        return dragPage.isElementDroppedSuccessfully();
+        return dragPage.get().isElementDroppedSuccessfully();
     }
 
     public boolean isCaptchaCompleted() {
-        return dragPage.isCaptchaCompleted();
+        return dragPage.get().isCaptchaCompleted();
     }
 
     public boolean isDraggableElementVisible() {
-        return dragPage.isDraggableElementVisible();
+        return dragPage.get().isDraggableElementVisible();
     }
 
     public boolean isDropZoneVisible() {
-        return dragPage.isDropZoneVisible();
+        return dragPage.get().isDropZoneVisible();
     }
 
 
     public String getElementState() {
-        return dragPage.getElementState();
+        return dragPage.get().getElementState();
     }
 }
 
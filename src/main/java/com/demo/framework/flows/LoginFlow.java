@@ -1,5 +1,6 @@
 package com.demo.framework.flows;
 
+import com.demo.framework.pages.LazyPage;
 import com.demo.framework.pages.PageFactory;
 import com.demo.framework.pages.interfaces.HomePage;
 import com.demo.framework.pages.interfaces.LoginPage;
@@ -13,52 +14,47 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class LoginFlow {
 
-    private final HomePage homePage;
-    private final LoginPage loginPage;
-
-    public LoginFlow() {
-        this.homePage = PageFactory.homePage();
-        this.loginPage = PageFactory.loginPage();
-    }
+    private final LazyPage<HomePage> homePage = PageFactory.lazy(PageFactory::homePage);
+    private final LazyPage<LoginPage> loginPage = PageFactory.lazy(PageFactory::loginPage);
 
     @Step("Navigate to Login screen")
     public void navigateToLogin() {
         log.info("Navigating to Login screen");
-        homePage.clickLoginLink();
+        homePage.get().clickLoginLink();
     }
 
     @Step("Enter username: {username}")
     public void enterUsername(String username) {
         log.info("Entering username: {}", username);
-        loginPage.enterUsername(username);
+        loginPage.get().enterUsername(username);
     }
 
     @Step("Enter password")
     public void enterPassword(String password) {
         log.info("Entering password");
-        loginPage.enterPassword(password);
+        loginPage.get().enterPassword(password);
     }
 
     @Step("Click login button")
     public void clickLoginButton() {
         log.info("Clicking login button");
-        loginPage.clickLoginButton();
+        loginPage.get().clickLoginButton();
     }
 
     public boolean isLoginPageLoaded() {
-        return loginPage.isPageLoaded();
+        return loginPage.get().isPageLoaded();
     }
 
     public boolean isLoginSuccessful() {
-        return loginPage.isLoginSuccessful();
+        return loginPage.get().isLoginSuccessful();
     }
 
     public boolean isEmailErrorMessageDisplayed() {
-        return loginPage.isInvalidEmailErrorMessageDisplayed();
+        return loginPage.get().isInvalidEmailErrorMessageDisplayed();
     }
 
     public boolean isPasswordErrorMessageDisplayed() {
-        return loginPage.isInvalidPasswordErrorMessageDisplayed();
+        return loginPage.get().isInvalidPasswordErrorMessageDisplayed();
     }
 }
 
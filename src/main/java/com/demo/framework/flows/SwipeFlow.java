@@ -1,11 +1,14 @@
 package com.demo.framework.flows;
 
+import com.demo.framework.pages.LazyPage;
 import com.demo.framework.pages.PageFactory;
 import com.demo.framework.pages.interfaces.HomePage;
 import com.demo.framework.pages.interfaces.SwipePage;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+
 /**
  * Flow class for Swipe/Carousel functionality.
  * Orchestrates swipe gesture actions.
@@ -13,48 +16,49 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SwipeFlow {
 
-    private final HomePage homePage;
-    private final SwipePage swipePage;
-
-    public SwipeFlow() {
-        this.homePage = PageFactory.homePage();
-        this.swipePage = PageFactory.swipePage();
-    }
+    private final LazyPage<HomePage> homePage = PageFactory.lazy(PageFactory::homePage);
+    private final LazyPage<SwipePage> swipePage = PageFactory.lazy(PageFactory::swipePage);
 
     @Step("Navigate to Swipe screen")
     public void navigateToSwipe() {
         log.info("Navigating to Swipe screen");
-        homePage.clickSwipeLink();
+        homePage.get().clickSwipeLink();
     }
 
     @Step("Swipe to card: {cardName}")
     public void swipeToCard(String cardName) {
         log.info("Swiping to card: {}", cardName);
-        swipePage.swipeToCard(cardName);
+        swipePage.get().swipeToCard(cardName);
     }
 
     @Step("Scroll down to find hidden element")
     public void scrollDownToFindHiddenElement() {
         log.info("Scrolling down to find hidden element");
-        swipePage.scrollDownToFindHiddenElement();
+        swipePage.get().scrollDownToFindHiddenElement();
     }
 
     @Step("Scroll to top of the page")
     public void scrollToTop() {
         log.info("Scrolling to top of the page");
-        swipePage.scrollToTop();
+        swipePage.get().scrollToTop();
+    }
+
+    @Step("Calibrate swipe duration")
+    public Duration calibrateSwipe() {
+        log.info("Calibrating swipe duration");
+        return swipePage.get().calibrateSwipe();
     }
 
     public boolean isSwipePageLoaded() {
-        return swipePage.isPageLoaded();
+        return swipePage.get().isPageLoaded();
     }
 
     public boolean isCardDisplayed(String cardName) {
-        return swipePage.isCardDisplayed(cardName);
+        return swipePage.get().isCardDisplayed(cardName);
     }
 
     public boolean isHiddenElementFound() {
-        return swipePage.isHiddenTextFound();
+        return swipePage.get().isHiddenTextFound();
     }
 }
 
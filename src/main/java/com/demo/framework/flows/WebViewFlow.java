@@ -1,9 +1,12 @@
 package com.demo.framework.flows;
 
+import com.demo.framework.drivers.DriverManager;
+import com.demo.framework.pages.LazyPage;
 import com.demo.framework.pages.PageFactory;
 import com.demo.framework.pages.interfaces.HomePage;
 import com.demo.framework.pages.interfaces.WebViewPage;
 import com.demo.framework.utils.ContextManager;
+import com.demo.framework.webview.WebViewDevTools;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 
@@ -14,41 +17,40 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class WebViewFlow {
 
-    private final HomePage homePage;
-    private final WebViewPage webViewPage;
-    private final ContextManager contextManager;
-
-    public WebViewFlow() {
-        this.homePage = PageFactory.homePage();
-        this.webViewPage = PageFactory.webViewPage();
-        this.contextManager = new ContextManager();
-    }
+    private final LazyPage<HomePage> homePage = PageFactory.lazy(PageFactory::homePage);
+    private final LazyPage<WebViewPage> webViewPage = PageFactory.lazy(PageFactory::webViewPage);
 
     @Step("Navigate to WebView screen and switch to WebView context")
     public void navigateToWebView() {
         log.info("Navigating to WebView screen");
-        homePage.clickWebViewLink();
-        contextManager.waitForWebView();
-        contextManager.switchToWebView();
+        homePage.get().clickWebViewLink();
+        contextManager().waitForWebView();
+        // With the DevTools channel, WebView queries need no chromedriver context
+        if (!WebViewDevTools.isEnabledFor(DriverManager.getDriver())) {
+            contextManager().switchToWebView();
+        }
     }
 
     @Step("Tap on 'View on GitHub' button")
     public void tapViewOnGitHubButton() {
         log.info("Tapping on 'View on GitHub' button");
-        contextManager.switchToNative();
-        webViewPage.tapViewOnGitHubButton();
+        contextManager().switchToNative();
+        webViewPage.get().tapViewOnGitHubButton();
     }
 
     public boolean isWebViewDisplayed() {
-        return webViewPage.isWebViewDisplayed();
+        return webViewPage.get().isWebViewDisplayed();
     }
 
     public boolean isWebViewContentPresent() {
-        return webViewPage.isWebViewContentPresent();
+        return webViewPage.get().isWebViewContentPresent();
     }
 
     public boolean isGitHubPageOpened(String expectedUrl) {
-        return webViewPage.isGitHubPageOpened(expectedUrl);
+        return webViewPage.get().isGitHubPageOpened(expectedUrl);
     }
-}
 
+    private static ContextManager contextManager() {
+        return ContextManager.forDriver(DriverManager.getDriver());
+    }
+}
@@ -0,0 +1,88 @@
+package com.demo.framework.gestures;
+
+import com.demo.framework.snapshot.UiQuery;
+import com.demo.framework.snapshot.UiSnapshotManager;
+import com.demo.framework.utils.ElementCache;
+import io.appium.java_client.AppiumBy;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * UiAutomator2 scrolling: {@code UiScrollable.scrollIntoView} for targets and
+ * {@code mobile: scrollGesture}, which reports whether more content remains, for edges.
+ */
+class AndroidScrollEngine implements ScrollEngine {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AndroidScrollEngine.class);
+    private static final String SCROLLABLE = "new UiSelector().scrollable(true)";
+    private static final By SCROLLABLE_CONTAINER = AppiumBy.androidUIAutomator(SCROLLABLE);
+
+    private final AppiumDriver driver;
+    private final UiSnapshotManager snapshots;
+    private final ElementCache elements;
+
+    AndroidScrollEngine(AppiumDriver driver) {
+        this.driver = driver;
+        this.snapshots = UiSnapshotManager.forDriver(driver);
+        this.elements = ElementCache.forDriver(driver);
+    }
+
+    @Override
+    public boolean scrollIntoView(UiQuery target) {
+        String expression = String.format("new UiScrollable(%s).setMaxSearchSwipes(%d).scrollIntoView(%s)",
+                SCROLLABLE, DEFAULT_MAX_SWIPES, toUiSelector(target));
+        LOG.debug("Scrolling into view: {}", expression);
+        try {
+            return driver.findElement(AppiumBy.androidUIAutomator(expression)).isDisplayed();
+        } catch (NoSuchElementException e) {
+            LOG.debug("Element not found while scrolling: {}", target);
+            return false;
+        } finally {
+            screenChanged();
+        }
+    }
+
+    @Override
+    public boolean scrollToEdge(ScrollDirection direction) {
+        LOG.debug("Scrolling to {} edge", direction.mobileName());
+        try {
+            RemoteWebElement container = (RemoteWebElement) driver.findElement(SCROLLABLE_CONTAINER);
+            for (int i = 0; i < DEFAULT_MAX_SWIPES; i++) {
+                Object canScrollMore = driver.executeScript("mobile: scrollGesture", Map.of(
+                        "elementId", container.getId(),
+                        "direction", direction.mobileName(),
+                        "percent", 1.0
+                ));
+                if (!Boolean.TRUE.equals(canScrollMore)) {
+                    LOG.debug("Reached {} edge after {} scroll(s)", direction.mobileName(), i + 1);
+                    return true;
+                }
+            }
+            LOG.warn("Content still scrollable {} after {} scrolls", direction.mobileName(), DEFAULT_MAX_SWIPES);
+            return false;
+        } finally {
+            screenChanged();
+        }
+    }
+
+    private void screenChanged() {
+        snapshots.invalidate();
+        elements.invalidate();
+    }
+
+    static String toUiSelector(UiQuery query) {
+        String method = switch (query.attribute()) {
+            case ACCESSIBILITY_ID -> "description";
+            case RESOURCE_ID -> "resourceId";
+            case TEXT -> "text";
+            case CLASS_NAME -> "className";
+        };
+        return String.format("new UiSelector().%s(\"%s\")", method, query.value().replace("\"", "\\\""));
+    }
+}
@@ -0,0 +1,207 @@
+package com.demo.framework.gestures;
+
+import com.demo.framework.snapshot.UiQuery;
+import com.demo.framework.snapshot.UiSnapshot;
+import com.demo.framework.snapshot.UiSnapshotManager;
+import com.demo.framework.utils.ElementCache;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Moves a snapping carousel straight to a card instead of swiping and checking one card at a time.
+ * <p>
+ * The carousel layout (container bounds, card labels in order and card pitch) is read from a single
+ * UI snapshot; the distance to the target card then becomes one W3C action with one swipe segment
+ * per card, and visibility is verified once at the end. The visible-card index is advanced with
+ * every swipe, so later navigations on the same screen reuse the layout without re-reading it.
+ */
+public class CarouselNavigator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CarouselNavigator.class);
+    private static final Duration SEGMENT_DURATION = Duration.ofMillis(300);
+    private static final Duration SETTLE_DURATION = Duration.ofMillis(400);
+    private static final int EDGE_MARGIN = 5;
+
+    private final AppiumDriver driver;
+    private final UiQuery carousel;
+    private final UiSnapshotManager snapshots;
+    private final ElementCache elements;
+
+    private Layout layout;
+    private long layoutGeneration = -1;
+    private int visibleIndex = -1;
+
+    public CarouselNavigator(AppiumDriver driver, UiQuery carousel) {
+        this.driver = driver;
+        this.carousel = carousel;
+        this.snapshots = UiSnapshotManager.forDriver(driver);
+        this.elements = ElementCache.forDriver(driver);
+    }
+
+    /**
+     * Bring the card whose text contains the name into view
+     *
+     * @param targetVisible final visibility check, evaluated once after moving
+     * @return false if the carousel or card is not in the hierarchy, or the card is not visible after moving
+     */
+    public synchronized boolean navigateTo(String cardName, BooleanSupplier targetVisible) {
+        if (!readLayout(false)) {
+            return false;
+        }
+        int target = layout.indexOf(cardName);
+        if (target < 0) {
+            LOG.debug("Card '{}' not found among {} carousel cards", cardName, layout.labels().size());
+            return false;
+        }
+        move(target - visibleIndex);
+        if (targetVisible.getAsBoolean()) {
+            return true;
+        }
+        // Snap landed elsewhere (e.g. a fling skipped a card): resync from the live tree and correct once
+        if (!readLayout(true)) {
+            return false;
+        }
+        LOG.debug("Carousel landed on card {} instead of {}, correcting", visibleIndex, target);
+        move(target - visibleIndex);
+        return targetVisible.getAsBoolean();
+    }
+
+    /**
+     * Record swipes made outside the navigator; positive values move towards later cards
+     */
+    public synchronized void onSwiped(int cards) {
+        if (visibleIndex >= 0 && layout != null) {
+            visibleIndex = Math.max(0, Math.min(layout.labels().size() - 1, visibleIndex + cards));
+            layoutGeneration = elements.getGeneration();
+        }
+    }
+
+    /**
+     * Index of the card currently in view, or -1 if unknown
+     */
+    public synchronized int getVisibleIndex() {
+        return visibleIndex;
+    }
+
+    /**
+     * Swipe the given number of cards in one W3C action; positive values move towards later cards
+     */
+    private void move(int cards) {
+        if (cards == 0) {
+            return;
+        }
+        Rectangle bounds = layout.container();
+        int centerX = bounds.getX() + bounds.getWidth() / 2;
+        int y = bounds.getY() + bounds.getHeight() / 2;
+        int half = Math.min(layout.pitch(), bounds.getWidth() - 2 * EDGE_MARGIN) / 2;
+        int fromX = cards > 0 ? centerX + half : centerX - half;
+        int toX = cards > 0 ? centerX - half : centerX + half;
+
+        GestureBuilder builder = GestureBuilder.create();
+        for (int i = 0; i < Math.abs(cards); i++) {
+            if (i > 0) {
+                builder.pause(SETTLE_DURATION);
+            }
+            builder.swipe(new Point(fromX, y), new Point(toX, y), SEGMENT_DURATION);
+        }
+        builder.pause(SETTLE_DURATION);
+
+        LOG.debug("Moving carousel {} card(s) from index {}", cards, visibleIndex);
+        builder.build().perform(driver);
+        visibleIndex = Math.max(0, Math.min(layout.labels().size() - 1, visibleIndex + cards));
+        layoutGeneration = elements.getGeneration();
+    }
+
+    /**
+     * Read carousel layout and visible card from the snapshot, unless the cached layout is still current
+     */
+    private boolean readLayout(boolean force) {
+        if (!force && layout != null && layoutGeneration == elements.getGeneration()) {
+            return true;
+        }
+        UiSnapshot snapshot = force ? snapshots.refresh() : snapshots.current();
+        int container = snapshot.findFirst(carousel);
+        if (container < 0) {
+            LOG.debug("Carousel not in hierarchy: {}", carousel);
+            return false;
+        }
+        int[] cards = cardNodes(snapshot, container);
+        if (cards.length == 0) {
+            return false;
+        }
+
+        Rectangle bounds = snapshot.getBounds(container);
+        List<String> labels = new ArrayList<>(cards.length);
+        int visible = 0;
+        long closest = Long.MAX_VALUE;
+        long centerX = bounds.getX() + bounds.getWidth() / 2;
+        for (int i = 0; i < cards.length; i++) {
+            labels.add(label(snapshot, cards[i]));
+            Rectangle card = snapshot.getBounds(cards[i]);
+            long distance = Math.abs(card.getX() + card.getWidth() / 2 - centerX);
+            if (distance < closest) {
+                closest = distance;
+                visible = i;
+            }
+        }
+        int pitch = cards.length > 1
+                ? Math.abs(snapshot.getBounds(cards[1]).getX() - snapshot.getBounds(cards[0]).getX())
+                : bounds.getWidth();
+
+        layout = new Layout(bounds, List.copyOf(labels), pitch > 0 ? pitch : bounds.getWidth());
+        visibleIndex = visible;
+        layoutGeneration = elements.getGeneration();
+        LOG.debug("Carousel layout: {} cards, pitch {}px, visible index {}", cards.length, layout.pitch(), visible);
+        return true;
+    }
+
+    /**
+     * Cards are the children of the first descendant with more than one child (skipping content wrappers)
+     */
+    private static int[] cardNodes(UiSnapshot snapshot, int container) {
+        int[] children = snapshot.getChildren(container);
+        while (children.length == 1) {
+            children = snapshot.getChildren(children[0]);
+        }
+        return children;
+    }
+
+    /**
+     * All texts and accessibility ids in the card's subtree
+     */
+    private static String label(UiSnapshot snapshot, int card) {
+        StringBuilder label = new StringBuilder();
+        int end = snapshot.getSubtreeEnd(card);
+        for (int node = card; node < end; node++) {
+            append(label, snapshot.getText(node));
+            append(label, snapshot.getAccessibilityId(node));
+        }
+        return label.toString();
+    }
+
+    private static void append(StringBuilder label, String value) {
+        if (value != null && !value.isEmpty()) {
+            label.append(value).append('\n');
+        }
+    }
+
+    private record Layout(Rectangle container, List<String> labels, int pitch) {
+
+        int indexOf(String cardName) {
+            for (int i = 0; i < labels.size(); i++) {
+                if (labels.get(i).contains(cardName)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
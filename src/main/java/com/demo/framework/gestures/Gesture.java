@@ -0,0 +1,48 @@
+package com.demo.framework.gestures;
+
+import com.demo.framework.snapshot.UiSnapshotManager;
+import com.demo.framework.utils.ElementCache;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.interactions.Sequence;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Prebuilt set of W3C action sequences, performed in one request.
+ * Instances are immutable and may be cached and performed any number of times.
+ */
+public final class Gesture {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Gesture.class);
+
+    private final List<Sequence> sequences;
+    private final int ticks;
+
+    Gesture(List<Sequence> sequences, int ticks) {
+        this.sequences = List.copyOf(sequences);
+        this.ticks = ticks;
+    }
+
+    /**
+     * Send all sequences in a single perform call; the session's cached page source and element handles are dropped
+     */
+    public void perform(AppiumDriver driver) {
+        LOG.debug("Performing gesture: {} finger(s), {} tick(s)", sequences.size(), ticks);
+        try {
+            driver.perform(sequences);
+        } finally {
+            UiSnapshotManager.forDriver(driver).invalidate();
+            ElementCache.forDriver(driver).invalidate();
+        }
+    }
+
+    public int getFingers() {
+        return sequences.size();
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+}
@@ -0,0 +1,128 @@
+package com.demo.framework.gestures;
+
+import org.openqa.selenium.Point;
+import org.openqa.selenium.interactions.Interaction;
+import org.openqa.selenium.interactions.Pause;
+import org.openqa.selenium.interactions.PointerInput;
+import org.openqa.selenium.interactions.Sequence;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Composes several touch gestures (swipes, drag chains, taps, two-finger pinches) into one set of
+ * W3C action sequences, sent to the server in a single request.
+ * <p>
+ * Gestures are recorded as ticks; in every tick each finger either acts or idles, so multi-finger
+ * steps stay aligned. The resulting {@link Gesture} is immutable and can be performed repeatedly,
+ * e.g. cached for screens whose coordinates do not change.
+ */
+public final class GestureBuilder {
+
+    private static final int MAX_FINGERS = 2;
+
+    private final List<List<Function<PointerInput, Interaction>>> ticks = new ArrayList<>();
+    private int fingers = 1;
+
+    private GestureBuilder() {
+    }
+
+    public static GestureBuilder create() {
+        return new GestureBuilder();
+    }
+
+    /**
+     * One-finger swipe from point to point
+     */
+    public GestureBuilder swipe(Point from, Point to, Duration duration) {
+        return drag(from, to, Duration.ZERO, duration);
+    }
+
+    /**
+     * Press, optionally hold, move and release; a zero hold is an immediate drag
+     */
+    public GestureBuilder drag(Point from, Point to, Duration hold, Duration duration) {
+        tick(finger -> moveTo(finger, Duration.ZERO, from));
+        tick(GestureBuilder::down);
+        if (!hold.isZero()) {
+            tick(finger -> new Pause(finger, hold));
+        }
+        tick(finger -> moveTo(finger, duration, to));
+        tick(GestureBuilder::up);
+        return this;
+    }
+
+    /**
+     * One-finger tap
+     */
+    public GestureBuilder tap(Point point) {
+        tick(finger -> moveTo(finger, Duration.ZERO, point));
+        tick(GestureBuilder::down);
+        tick(GestureBuilder::up);
+        return this;
+    }
+
+    /**
+     * Two-finger horizontal pinch around the center; end distance above start distance zooms in
+     */
+    public GestureBuilder pinch(Point center, int startDistance, int endDistance, Duration duration) {
+        fingers = MAX_FINGERS;
+        Point leftStart = new Point(center.getX() - startDistance / 2, center.getY());
+        Point rightStart = new Point(center.getX() + startDistance / 2, center.getY());
+        Point leftEnd = new Point(center.getX() - endDistance / 2, center.getY());
+        Point rightEnd = new Point(center.getX() + endDistance / 2, center.getY());
+        tick(finger -> moveTo(finger, Duration.ZERO, leftStart), finger -> moveTo(finger, Duration.ZERO, rightStart));
+        tick(GestureBuilder::down, GestureBuilder::down);
+        tick(finger -> moveTo(finger, duration, leftEnd), finger -> moveTo(finger, duration, rightEnd));
+        tick(GestureBuilder::up, GestureBuilder::up);
+        return this;
+    }
+
+    /**
+     * Idle all fingers, e.g. to let an animation settle between gestures
+     */
+    public GestureBuilder pause(Duration duration) {
+        List<Function<PointerInput, Interaction>> actions = new ArrayList<>(MAX_FINGERS);
+        for (int i = 0; i < MAX_FINGERS; i++) {
+            actions.add(finger -> new Pause(finger, duration));
+        }
+        ticks.add(actions);
+        return this;
+    }
+
+    public Gesture build() {
+        PointerInput[] inputs = new PointerInput[fingers];
+        Sequence[] sequences = new Sequence[fingers];
+        for (int i = 0; i < fingers; i++) {
+            inputs[i] = new PointerInput(PointerInput.Kind.TOUCH, "finger" + (i + 1));
+            sequences[i] = new Sequence(inputs[i], 0);
+        }
+        for (List<Function<PointerInput, Interaction>> tick : ticks) {
+            for (int i = 0; i < fingers; i++) {
+                Function<PointerInput, Interaction> action = i < tick.size() ? tick.get(i) : null;
+                sequences[i].addAction(action != null ? action.apply(inputs[i]) : new Pause(inputs[i], Duration.ZERO));
+            }
+        }
+        return new Gesture(Arrays.asList(sequences), ticks.size());
+    }
+
+    @SafeVarargs
+    private void tick(Function<PointerInput, Interaction>... perFinger) {
+        ticks.add(Arrays.asList(perFinger));
+    }
+
+    private static Interaction moveTo(PointerInput finger, Duration duration, Point point) {
+        return finger.createPointerMove(duration, PointerInput.Origin.viewport(), point.getX(), point.getY());
+    }
+
+    private static Interaction down(PointerInput finger) {
+        return finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg());
+    }
+
+    private static Interaction up(PointerInput finger) {
+        return finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg());
+    }
+}
@@ -0,0 +1,283 @@
+package com.demo.framework.gestures;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.drivers.SessionScope;
+import com.demo.framework.drivers.device.DeviceProfile;
+import com.demo.framework.metrics.FrameworkMetrics;
+import com.demo.framework.snapshot.UiQuery;
+import com.demo.framework.snapshot.UiSnapshot;
+import com.demo.framework.snapshot.UiSnapshotManager;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.Rectangle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Finds the shortest swipe and drag durations a device still registers, once per device model and OS version.
+ * <p>
+ * A calibration binary-searches between {@code gesture.calibration.minMs} and the hand-tuned default of the
+ * gesture kind. A duration counts as registered when the probe sees a position change on
+ * {@code gesture.calibration.attempts} consecutive tries. The result, plus a safety margin, is kept for the
+ * rest of the run and stored in {@code gesture.calibration.file}, so later runs on the same device reuse it.
+ * Calibration is opt-in ({@code gesture.calibration.enabled=true}) and runs only from the calibration suite;
+ * pages just read {@link #duration(Kind)}, which falls back to the default until a kind is calibrated.
+ */
+public final class GestureCalibrator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GestureCalibrator.class);
+    private static final int SETTLE_READS = 5;
+
+    private static final boolean ENABLED;
+    private static final long MIN_MS;
+    private static final long STEP_MS;
+    private static final int ATTEMPTS;
+    private static final int MARGIN_PERCENT;
+    private static final Path PROFILE_FILE;
+
+    private static final Map<String, Duration> PROFILES = new ConcurrentHashMap<>();
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+    static {
+        ConfigProvider config = ConfigProvider.getDefault();
+        ENABLED = config.getBoolean("gesture.calibration.enabled", false);
+        MIN_MS = config.getLong("gesture.calibration.minMs", 100);
+        STEP_MS = Math.max(1, config.getLong("gesture.calibration.stepMs", 25));
+        ATTEMPTS = Math.max(1, config.getInt("gesture.calibration.attempts", 2));
+        MARGIN_PERCENT = config.getInt("gesture.calibration.marginPercent", 20);
+        PROFILE_FILE = Paths.get(config.getString("gesture.calibration.file", "build/gesture-calibration.properties"));
+        loadProfiles();
+    }
+
+    /**
+     * Gesture kinds with their hand-tuned default durations
+     */
+    public enum Kind {
+        SWIPE(Duration.ofMillis(600)),
+        DRAG(Duration.ofMillis(500));
+
+        private final Duration defaultDuration;
+
+        Kind(Duration defaultDuration) {
+            this.defaultDuration = defaultDuration;
+        }
+
+        public Duration getDefaultDuration() {
+            return defaultDuration;
+        }
+    }
+
+    private final AppiumDriver driver;
+    private final UiSnapshotManager snapshots;
+    private final String device;
+
+    private GestureCalibrator(AppiumDriver driver) {
+        this.driver = driver;
+        this.snapshots = UiSnapshotManager.forDriver(driver);
+        this.device = DeviceProfile.key(driver.getCapabilities());
+    }
+
+    /**
+     * Get calibrator for the device of the given driver, bound to its session
+     */
+    public static GestureCalibrator forDriver(AppiumDriver driver) {
+        return SessionScope.of(driver).get(GestureCalibrator.class, () -> new GestureCalibrator(driver));
+    }
+
+    /**
+     * Calibrated duration for the device, or the default if the kind has not been calibrated
+     */
+    public Duration duration(Kind kind) {
+        if (!ENABLED) {
+            return kind.getDefaultDuration();
+        }
+        return PROFILES.getOrDefault(key(kind), kind.getDefaultDuration());
+    }
+
+    /**
+     * True if the kind needs no calibration: it has a profile for this device, or calibration is disabled
+     */
+    public boolean isCalibrated(Kind kind) {
+        return !ENABLED || PROFILES.containsKey(key(kind));
+    }
+
+    public String getDevice() {
+        return device;
+    }
+
+    /**
+     * Calibrate the kind unless this device already has a profile for it
+     *
+     * @param registers performs the gesture with the given duration and reports whether it moved anything;
+     *                  it must leave the screen as it found it
+     * @return duration to use for the kind
+     */
+    public Duration calibrate(Kind kind, Predicate<Duration> registers) {
+        if (!ENABLED) {
+            return kind.getDefaultDuration();
+        }
+        String key = key(kind);
+        synchronized (LOCKS.computeIfAbsent(key, k -> new Object())) {
+            Duration known = PROFILES.get(key);
+            if (known != null) {
+                return known;
+            }
+            long start = System.nanoTime();
+            Duration calibrated = search(kind, registers);
+            FrameworkMetrics.record("gesture.calibration." + kind.name().toLowerCase(Locale.ROOT),
+                    System.nanoTime() - start);
+            if (calibrated == null) {
+                return kind.getDefaultDuration();
+            }
+            PROFILES.put(key, calibrated);
+            storeProfiles();
+            LOG.info("Calibrated {} duration for {}: {} ms (default {} ms)",
+                    kind, device, calibrated.toMillis(), kind.getDefaultDuration().toMillis());
+            return calibrated;
+        }
+    }
+
+    /**
+     * Probe that registers a gesture when the bounds of the target change or the target disappears
+     *
+     * @param undo restores the screen after a gesture that moved the target
+     */
+    public Predicate<Duration> positionProbe(UiQuery target, Function<Duration, Gesture> gesture, Runnable undo) {
+        return probe(snapshot -> {
+            Rectangle bounds = snapshot.getBounds(target);
+            return bounds == null ? ""
+                    : bounds.getX() + "," + bounds.getY() + "," + bounds.getWidth() + "," + bounds.getHeight();
+        }, gesture, undo);
+    }
+
+    /**
+     * Probe that registers a gesture when the first or last visible item of the container moves
+     *
+     * @param undo restores the screen after a gesture that moved the content
+     */
+    public Predicate<Duration> contentProbe(UiQuery container, Function<Duration, Gesture> gesture, Runnable undo) {
+        ScrollConvergence fingerprint = new ScrollConvergence(driver, container);
+        return probe(fingerprint::fingerprint, gesture, undo);
+    }
+
+    private Predicate<Duration> probe(Function<UiSnapshot, String> state, Function<Duration, Gesture> gesture,
+                                      Runnable undo) {
+        return duration -> {
+            String before = settledState(state);
+            gesture.apply(duration).perform(driver);
+            boolean moved = !Objects.equals(before, settledState(state));
+            if (moved) {
+                undo.run();
+            }
+            return moved;
+        };
+    }
+
+    /**
+     * State of the screen once it reads the same twice in a row, so snap-back animations are not taken as moves
+     */
+    private String settledState(Function<UiSnapshot, String> state) {
+        String previous = state.apply(snapshots.current());
+        for (int i = 0; i < SETTLE_READS; i++) {
+            String next = state.apply(snapshots.refresh());
+            if (next.equals(previous)) {
+                return next;
+            }
+            previous = next;
+        }
+        return previous;
+    }
+
+    /**
+     * Binary search for the shortest reliable duration; null if even the default is not registered
+     */
+    private Duration search(Kind kind, Predicate<Duration> registers) {
+        long high = kind.getDefaultDuration().toMillis();
+        long low = Math.min(MIN_MS, high);
+        LOG.info("Calibrating {} duration for {} between {} and {} ms", kind, device, low, high);
+        if (!isReliable(registers, high)) {
+            LOG.warn("{} with default duration was not registered on {}, keeping default", kind, device);
+            return null;
+        }
+        if (isReliable(registers, low)) {
+            high = low;
+        }
+        while (high - low > STEP_MS) {
+            long middle = (low + high) / 2;
+            if (isReliable(registers, middle)) {
+                high = middle;
+            } else {
+                low = middle;
+            }
+        }
+        long withMargin = high + high * MARGIN_PERCENT / 100;
+        return Duration.ofMillis(Math.min(withMargin, kind.getDefaultDuration().toMillis()));
+    }
+
+    private static boolean isReliable(Predicate<Duration> registers, long millis) {
+        Duration duration = Duration.ofMillis(millis);
+        for (int i = 0; i < ATTEMPTS; i++) {
+            if (!registers.test(duration)) {
+                LOG.debug("Duration {} ms not registered on attempt {}", millis, i + 1);
+                return false;
+            }
+        }
+        LOG.debug("Duration {} ms registered", millis);
+        return true;
+    }
+
+    private String key(Kind kind) {
+        return device + "." + kind.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static void loadProfiles() {
+        if (!Files.exists(PROFILE_FILE)) {
+            return;
+        }
+        Properties stored = new Properties();
+        try (InputStream in = Files.newInputStream(PROFILE_FILE)) {
+            stored.load(in);
+        } catch (IOException e) {
+            LOG.warn("Unable to read gesture calibration from {}: {}", PROFILE_FILE, e.getMessage());
+            return;
+        }
+        for (String key : stored.stringPropertyNames()) {
+            try {
+                PROFILES.put(key, Duration.ofMillis(Long.parseLong(stored.getProperty(key).trim())));
+            } catch (NumberFormatException e) {
+                LOG.warn("Ignoring invalid gesture calibration entry: {}", key);
+            }
+        }
+        LOG.debug("Loaded {} gesture calibration entries from {}", PROFILES.size(), PROFILE_FILE);
+    }
+
+    private static synchronized void storeProfiles() {
+        Properties stored = new Properties();
+        PROFILES.forEach((key, duration) -> stored.setProperty(key, String.valueOf(duration.toMillis())));
+        try {
+            Path parent = PROFILE_FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream out = Files.newOutputStream(PROFILE_FILE)) {
+                stored.store(out, "Calibrated gesture durations in ms by platform, device model and OS version");
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to store gesture calibration to {}: {}", PROFILE_FILE, e.getMessage());
+        }
+    }
+}
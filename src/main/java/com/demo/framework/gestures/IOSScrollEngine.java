@@ -0,0 +1,126 @@
+package com.demo.framework.gestures;
+
+import com.demo.framework.snapshot.UiQuery;
+import com.demo.framework.snapshot.UiSnapshot;
+import com.demo.framework.snapshot.UiSnapshotManager;
+import com.demo.framework.utils.ElementCache;
+import io.appium.java_client.AppiumBy;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * XCUITest scrolling via {@code mobile: scroll} with a predicate: the server scrolls the container
+ * until the matching child is visible. Edges are reached by scrolling to the first or last labelled
+ * descendant of the container, which XCUITest exposes even while it is off screen.
+ */
+class IOSScrollEngine implements ScrollEngine {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IOSScrollEngine.class);
+    private static final String SCROLL_VIEW = "XCUIElementTypeScrollView";
+    private static final String STATIC_TEXT = "XCUIElementTypeStaticText";
+    private static final By SCROLL_CONTAINER = AppiumBy.className(SCROLL_VIEW);
+
+    private final AppiumDriver driver;
+    private final UiSnapshotManager snapshots;
+    private final ElementCache elements;
+
+    IOSScrollEngine(AppiumDriver driver) {
+        this.driver = driver;
+        this.snapshots = UiSnapshotManager.forDriver(driver);
+        this.elements = ElementCache.forDriver(driver);
+    }
+
+    @Override
+    public boolean scrollIntoView(UiQuery target) {
+        String predicate = toPredicate(target);
+        LOG.debug("Scrolling into view: {}", predicate);
+        try {
+            scrollTo(predicate);
+            return driver.findElements(AppiumBy.iOSNsPredicateString(predicate)).stream()
+                    .anyMatch(WebElement::isDisplayed);
+        } catch (WebDriverException e) {
+            LOG.debug("Element not reachable by scrolling: {} ({})", target, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean scrollToEdge(ScrollDirection direction) {
+        UiSnapshot snapshot = snapshots.current();
+        int container = snapshot.findFirst(UiQuery.className(SCROLL_VIEW));
+        if (container < 0) {
+            LOG.warn("No scroll view on screen");
+            return false;
+        }
+        boolean forward = direction == ScrollDirection.DOWN || direction == ScrollDirection.RIGHT;
+        int edge = edgeText(snapshot, container, forward);
+        if (edge < 0) {
+            LOG.warn("Scroll view has no labelled content to scroll to");
+            return false;
+        }
+        String predicate = toPredicate(new UiQuery(UiQuery.Attribute.ACCESSIBILITY_ID, snapshot.getAccessibilityId(edge)));
+        LOG.debug("Scrolling to {} edge via {}", direction.mobileName(), predicate);
+        try {
+            scrollTo(predicate);
+            return true;
+        } catch (WebDriverException e) {
+            LOG.warn("Scroll to {} edge failed: {}", direction.mobileName(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void scrollTo(String predicate) {
+        try {
+            RemoteWebElement container = (RemoteWebElement) driver.findElement(SCROLL_CONTAINER);
+            driver.executeScript("mobile: scroll", Map.of(
+                    "elementId", container.getId(),
+                    "predicateString", predicate
+            ));
+        } finally {
+            snapshots.invalidate();
+            elements.invalidate();
+        }
+    }
+
+    /**
+     * First or last named static text inside the container, in document order
+     */
+    private static int edgeText(UiSnapshot snapshot, int container, boolean last) {
+        int found = -1;
+        for (int node = container + 1; node < snapshot.size() && isDescendant(snapshot, node, container); node++) {
+            String name = snapshot.getAccessibilityId(node);
+            if (STATIC_TEXT.equals(snapshot.getClassName(node)) && name != null && !name.isEmpty()) {
+                found = node;
+                if (!last) {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    private static boolean isDescendant(UiSnapshot snapshot, int node, int ancestor) {
+        for (int parent = snapshot.getParent(node); parent >= 0; parent = snapshot.getParent(parent)) {
+            if (parent == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String toPredicate(UiQuery query) {
+        String value = "'" + query.value().replace("\\", "\\\\").replace("'", "\\'") + "'";
+        return switch (query.attribute()) {
+            case ACCESSIBILITY_ID, RESOURCE_ID -> "name == " + value;
+            case TEXT -> "label == " + value + " OR value == " + value;
+            case CLASS_NAME -> "type == " + value;
+        };
+    }
+}
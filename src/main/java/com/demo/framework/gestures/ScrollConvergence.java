@@ -0,0 +1,90 @@
+package com.demo.framework.gestures;
+
+import com.demo.framework.snapshot.UiQuery;
+import com.demo.framework.snapshot.UiSnapshot;
+import com.demo.framework.snapshot.UiSnapshotManager;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.Rectangle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Detects the end of scrollable content by comparing a cheap fingerprint of the container,
+ * the bounds and labels of its first and last visible items, before and after each gesture.
+ * When a gesture leaves the fingerprint unchanged, nothing moved and further gestures are pointless.
+ */
+public class ScrollConvergence {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScrollConvergence.class);
+    private static final String UNKNOWN = "";
+
+    private final UiSnapshotManager snapshots;
+    private final UiQuery container;
+
+    /**
+     * @param container scrollable container to fingerprint, or null for the whole screen
+     */
+    public ScrollConvergence(AppiumDriver driver, UiQuery container) {
+        this.snapshots = UiSnapshotManager.forDriver(driver);
+        this.container = container;
+    }
+
+    /**
+     * Repeat the gesture until the condition holds, the content stops moving, or the gesture limit is hit
+     */
+    public ScrollResult scrollUntil(BooleanSupplier condition, Runnable gesture, int maxGestures) {
+        String before = fingerprint(snapshots.current());
+        for (int i = 0; i < maxGestures; i++) {
+            if (condition.getAsBoolean()) {
+                LOG.debug("Condition met after {} gesture(s)", i);
+                return ScrollResult.FOUND;
+            }
+            gesture.run();
+            String after = fingerprint(snapshots.refresh());
+            if (!after.equals(UNKNOWN) && after.equals(before)) {
+                LOG.info("Reached end of content after {} gesture(s)", i + 1);
+                return condition.getAsBoolean() ? ScrollResult.FOUND : ScrollResult.REACHED_END;
+            }
+            before = after;
+        }
+        return condition.getAsBoolean() ? ScrollResult.FOUND : ScrollResult.LIMIT_REACHED;
+    }
+
+    /**
+     * Bounds and label of the first and last visible labelled items inside the container
+     */
+    String fingerprint(UiSnapshot snapshot) {
+        int root = container != null ? snapshot.findFirst(container) : 0;
+        if (root < 0 || snapshot.size() == 0) {
+            return UNKNOWN;
+        }
+        int first = -1;
+        int last = -1;
+        int end = snapshot.getSubtreeEnd(root);
+        for (int node = root + 1; node < end; node++) {
+            if (snapshot.isVisible(node) && hasLabel(snapshot, node)) {
+                if (first < 0) {
+                    first = node;
+                }
+                last = node;
+            }
+        }
+        return first < 0 ? UNKNOWN : describe(snapshot, first) + "|" + describe(snapshot, last);
+    }
+
+    private static boolean hasLabel(UiSnapshot snapshot, int node) {
+        return notEmpty(snapshot.getText(node)) || notEmpty(snapshot.getAccessibilityId(node));
+    }
+
+    private static boolean notEmpty(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    private static String describe(UiSnapshot snapshot, int node) {
+        Rectangle bounds = snapshot.getBounds(node);
+        return bounds.getX() + "," + bounds.getY() + "," + bounds.getWidth() + "," + bounds.getHeight()
+                + ":" + snapshot.getText(node) + ":" + snapshot.getAccessibilityId(node);
+    }
+}
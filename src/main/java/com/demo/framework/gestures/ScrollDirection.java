@@ -0,0 +1,19 @@
+package com.demo.framework.gestures;
+
+/**
+ * Direction in which content is scrolled (the finger moves the opposite way)
+ */
+public enum ScrollDirection {
+
+    UP,
+    DOWN,
+    LEFT,
+    RIGHT;
+
+    /**
+     * Direction argument for Appium {@code mobile:} scroll and swipe commands
+     */
+    public String mobileName() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,40 @@
+package com.demo.framework.gestures;
+
+import com.demo.framework.drivers.SessionScope;
+import com.demo.framework.snapshot.UiQuery;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
+
+/**
+ * Scrolls through native, server-side mechanisms instead of client-side swipe-and-check loops.
+ * <p>
+ * Scrolling to an element is a single command, and reaching the end of content is reported by
+ * the automation server rather than discovered by swiping until a retry limit is hit.
+ */
+public interface ScrollEngine {
+
+    int DEFAULT_MAX_SWIPES = 10;
+
+    /**
+     * Get scroll engine for the platform of the given driver, bound to its session
+     */
+    static ScrollEngine forDriver(AppiumDriver driver) {
+        return SessionScope.of(driver).get(ScrollEngine.class, () -> driver instanceof AndroidDriver
+                ? new AndroidScrollEngine(driver)
+                : new IOSScrollEngine(driver));
+    }
+
+    /**
+     * Scroll the main scrollable container until an element matching the query is visible
+     *
+     * @return true if the element is visible after scrolling
+     */
+    boolean scrollIntoView(UiQuery target);
+
+    /**
+     * Scroll the main scrollable container to its edge in the given direction
+     *
+     * @return true if the edge was reached within {@link #DEFAULT_MAX_SWIPES}
+     */
+    boolean scrollToEdge(ScrollDirection direction);
+}
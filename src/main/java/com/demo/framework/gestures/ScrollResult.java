@@ -0,0 +1,14 @@
+package com.demo.framework.gestures;
+
+/**
+ * Outcome of a bounded scroll-until loop
+ */
+public enum ScrollResult {
+
+    /** Condition was met */
+    FOUND,
+    /** Content stopped moving before the condition was met */
+    REACHED_END,
+    /** Gesture limit was hit while content was still moving */
+    LIMIT_REACHED
+}
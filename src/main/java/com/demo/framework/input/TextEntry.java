@@ -0,0 +1,192 @@
+package com.demo.framework.input;
+
+import com.demo.framework.drivers.SessionScope;
+import com.demo.framework.exceptions.FrameworkException;
+import com.demo.framework.metrics.FrameworkMetrics;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enters text with the fastest strategy that works for a field, verified against the field value.
+ * <p>
+ * Strategies are tried fastest first; a strategy whose result does not match the expected text falls
+ * back to the next one. The strategy that worked is recorded per field and tried first next time.
+ * A strategy the server does not support (e.g. adb shell not allowed) is skipped for the rest of the
+ * session; any other failure only falls back for the current call. Secure fields are never filled through
+ * adb or the clipboard, and their value must either equal the text or be fully masked with matching length.
+ */
+public final class TextEntry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TextEntry.class);
+    private static final List<TextEntryStrategy> ANDROID_ORDER = List.of(
+            TextEntryStrategy.REPLACE_VALUE,
+            TextEntryStrategy.SET_VALUE,
+            TextEntryStrategy.ADB_INPUT_TEXT,
+            TextEntryStrategy.CLIPBOARD_PASTE,
+            TextEntryStrategy.PER_CHARACTER);
+    /**
+     * Server error fragments meaning a strategy can never work in this session
+     */
+    private static final List<String> UNSUPPORTED_MESSAGES = List.of(
+            "insecure feature", "unknown mobile command", "not implemented", "not supported");
+    private static final List<TextEntryStrategy> IOS_ORDER = List.of(
+            TextEntryStrategy.SET_VALUE,
+            TextEntryStrategy.PER_CHARACTER);
+
+    private final AppiumDriver driver;
+    private final boolean android;
+    private final Map<By, TextEntryStrategy> fieldStrategies = new ConcurrentHashMap<>();
+    private final Set<TextEntryStrategy> unavailable = EnumSet.noneOf(TextEntryStrategy.class);
+
+    private TextEntry(AppiumDriver driver) {
+        this.driver = driver;
+        this.android = driver instanceof AndroidDriver;
+    }
+
+    /**
+     * Get text entry for the given driver, bound to its session
+     */
+    public static TextEntry forDriver(AppiumDriver driver) {
+        return SessionScope.of(driver).get(TextEntry.class, () -> new TextEntry(driver));
+    }
+
+    /**
+     * Replace the field's content with the text
+     *
+     * @return strategy that produced the expected value
+     */
+    public TextEntryStrategy enter(By field, WebElement element, String text) {
+        boolean secure = isSecure(element);
+        for (TextEntryStrategy strategy : candidates(field, secure)) {
+            long start = System.nanoTime();
+            try {
+                element.clear();
+                strategy.type(driver, element, text);
+            } catch (StaleElementReferenceException e) {
+                throw e;
+            } catch (Exception e) {
+                if (isUnsupported(e)) {
+                    LOG.debug("Text entry strategy {} unsupported in this session: {}", strategy, e.getMessage());
+                    markUnavailable(strategy);
+                } else {
+                    LOG.debug("Text entry strategy {} failed, falling back: {}", strategy, e.getMessage());
+                }
+                continue;
+            }
+            FrameworkMetrics.record(timerName(strategy), System.nanoTime() - start);
+            if (matches(element, text, secure)) {
+                fieldStrategies.put(field, strategy);
+                LOG.debug("Entered text into {} with {}", field, strategy);
+                return strategy;
+            }
+            FrameworkMetrics.increment("text.entry.mismatch." + strategy.name().toLowerCase(Locale.ROOT));
+            LOG.debug("Text entry strategy {} did not produce the expected value in {}, falling back",
+                    strategy, field);
+        }
+        throw new FrameworkException("Unable to enter text into " + field + " with any strategy");
+    }
+
+    /**
+     * Strategy recorded for the field, or null if no text was entered into it yet
+     */
+    public TextEntryStrategy getStrategy(By field) {
+        return fieldStrategies.get(field);
+    }
+
+    private List<TextEntryStrategy> candidates(By field, boolean secure) {
+        List<TextEntryStrategy> candidates = new ArrayList<>();
+        TextEntryStrategy recorded = fieldStrategies.get(field);
+        if (recorded != null && (!secure || recorded.isSecureSafe())) {
+            candidates.add(recorded);
+        }
+        synchronized (unavailable) {
+            for (TextEntryStrategy strategy : android ? ANDROID_ORDER : IOS_ORDER) {
+                if (strategy != recorded && !unavailable.contains(strategy) && strategy.supports(driver)
+                        && (!secure || strategy.isSecureSafe())) {
+                    candidates.add(strategy);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean isUnsupported(Exception e) {
+        if (e instanceof UnsupportedCommandException) {
+            return true;
+        }
+        String message = e.getMessage() == null ? "" : e.getMessage().toLowerCase(Locale.ROOT);
+        return UNSUPPORTED_MESSAGES.stream().anyMatch(message::contains);
+    }
+
+    private void markUnavailable(TextEntryStrategy strategy) {
+        if (strategy == TextEntryStrategy.PER_CHARACTER || strategy == TextEntryStrategy.SET_VALUE) {
+            return;
+        }
+        synchronized (unavailable) {
+            unavailable.add(strategy);
+        }
+    }
+
+    private boolean isSecure(WebElement element) {
+        try {
+            if (android) {
+                return Boolean.parseBoolean(element.getAttribute("password"));
+            }
+            String type = element.getAttribute("type");
+            return type != null && type.contains("Secure");
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Compare the field value with the text; a secure field may instead report a mask of the same length
+     */
+    private boolean matches(WebElement element, String text, boolean secure) {
+        String value = android ? element.getText() : element.getAttribute("value");
+        if (value == null) {
+            return text.isEmpty();
+        }
+        if (value.equals(text)) {
+            return true;
+        }
+        return secure && value.length() == text.length() && isMask(value, text);
+    }
+
+    /**
+     * True if the value repeats one character that the text does not contain, e.g. {@code ••••}
+     */
+    private static boolean isMask(String value, String text) {
+        if (value.isEmpty()) {
+            return true;
+        }
+        char mask = value.charAt(0);
+        if (text.indexOf(mask) >= 0) {
+            return false;
+        }
+        for (int i = 1; i < value.length(); i++) {
+            if (value.charAt(i) != mask) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String timerName(TextEntryStrategy strategy) {
+        return "text.entry." + strategy.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,151 @@
+package com.demo.framework.input;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.android.nativekey.AndroidKey;
+import io.appium.java_client.android.nativekey.KeyEvent;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ways of putting text into a native input field, from a single server call to per-character typing.
+ * Strategies only type; verifying the field value and falling back is done by {@link TextEntry}.
+ */
+public enum TextEntryStrategy {
+
+    /**
+     * UiAutomator2 sets the whole value in one call, without the soft keyboard
+     */
+    REPLACE_VALUE(true) {
+        @Override
+        boolean supports(AppiumDriver driver) {
+            return driver instanceof AndroidDriver;
+        }
+
+        @Override
+        void type(AppiumDriver driver, WebElement element, String text) {
+            driver.executeScript("mobile: replaceElementValue", Map.of(
+                    "elementId", ((RemoteWebElement) element).getId(),
+                    "text", text
+            ));
+        }
+    },
+
+    /**
+     * Whole string in one setValue call; XCUITest types it through the keyboard on the device side
+     */
+    SET_VALUE(true) {
+        @Override
+        boolean supports(AppiumDriver driver) {
+            return true;
+        }
+
+        @Override
+        void type(AppiumDriver driver, WebElement element, String text) {
+            element.sendKeys(text);
+        }
+    },
+
+    /**
+     * {@code adb shell input text} into the focused field; needs the server's adb_shell feature.
+     * The text ends up in the server's shell command log, so it is never used for secure fields.
+     */
+    ADB_INPUT_TEXT(false) {
+        @Override
+        boolean supports(AppiumDriver driver) {
+            return driver instanceof AndroidDriver;
+        }
+
+        @Override
+        void type(AppiumDriver driver, WebElement element, String text) {
+            element.click();
+            driver.executeScript("mobile: shell", Map.of(
+                    "command", "input",
+                    "args", List.of("text", escapeForInput(text))
+            ));
+        }
+    },
+
+    /**
+     * Put the text on the device clipboard and paste it into the focused field.
+     * The text stays on the clipboard, so it is never used for secure fields.
+     */
+    CLIPBOARD_PASTE(false) {
+        @Override
+        boolean supports(AppiumDriver driver) {
+            return driver instanceof AndroidDriver;
+        }
+
+        @Override
+        void type(AppiumDriver driver, WebElement element, String text) {
+            AndroidDriver android = (AndroidDriver) driver;
+            android.setClipboardText(text);
+            element.click();
+            android.pressKey(new KeyEvent(AndroidKey.PASTE));
+        }
+    },
+
+    /**
+     * One call per character with a short pause; slow, but does not drop characters on any platform
+     */
+    PER_CHARACTER(true) {
+        @Override
+        boolean supports(AppiumDriver driver) {
+            return true;
+        }
+
+        @Override
+        void type(AppiumDriver driver, WebElement element, String text) {
+            for (char c : text.toCharArray()) {
+                element.sendKeys(String.valueOf(c));
+                try {
+                    Thread.sleep(CHARACTER_DELAY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    };
+
+    private static final long CHARACTER_DELAY_MS = 50;
+    private static final String SHELL_SPECIAL = "\\'\"`$&|;<>()[]{}*?!~#";
+
+    private final boolean secureSafe;
+
+    TextEntryStrategy(boolean secureSafe) {
+        this.secureSafe = secureSafe;
+    }
+
+    /**
+     * True if the strategy leaves no copy of the text outside the field, so it may enter passwords
+     */
+    boolean isSecureSafe() {
+        return secureSafe;
+    }
+
+    abstract boolean supports(AppiumDriver driver);
+
+    abstract void type(AppiumDriver driver, WebElement element, String text);
+
+    /**
+     * Escape text for {@code input text}: spaces become %s and shell metacharacters are backslash-escaped
+     */
+    static String escapeForInput(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() * 2);
+        for (char c : text.toCharArray()) {
+            if (c == ' ') {
+                escaped.append("%s");
+            } else {
+                if (SHELL_SPECIAL.indexOf(c) >= 0 || c == '%') {
+                    escaped.append('\\');
+                }
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
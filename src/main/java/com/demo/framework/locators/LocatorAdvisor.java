@@ -0,0 +1,110 @@
+package com.demo.framework.locators;
+
+import com.demo.framework.snapshot.UiQuery;
+import com.demo.framework.snapshot.UiSnapshot;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Looks up faster equivalents of a slow locator in the current page source.
+ * <p>
+ * The element found by the slow locator is matched to snapshot nodes by its bounds; unique
+ * accessibility ids, resource-ids (Android) and texts of those nodes become candidates in that
+ * order. A candidate is accepted only if every one of {@value #VERIFY_SAMPLES} finds resolves to
+ * exactly one element with the same bounds on the live tree, and its median find time beats the
+ * original locator's profiled mean.
+ */
+final class LocatorAdvisor {
+
+    private static final int VERIFY_SAMPLES = 3;
+
+    private LocatorAdvisor() {
+    }
+
+    /**
+     * @param snapshot      snapshot of the screen the element was found on
+     * @param originalNanos mean find time of the original locator
+     */
+    static Optional<LocatorSuggestion> propose(AppiumDriver driver, UiSnapshot snapshot, String name, By original,
+                                               WebElement element, long originalNanos) {
+        Rectangle rect = element.getRect();
+        boolean android = driver instanceof AndroidDriver;
+
+        int[] nodes = snapshot.findByBounds(rect);
+        // Descendants follow their ancestors in document order; try the innermost node first
+        for (int i = nodes.length - 1; i >= 0; i--) {
+            for (LocatorStrategy strategy : LocatorStrategy.values()) {
+                Optional<String> value = candidate(snapshot, nodes[i], strategy, android);
+                if (value.isEmpty()) {
+                    continue;
+                }
+                By replacement = strategy.toBy(value.get());
+                if (replacement.equals(original)) {
+                    continue;
+                }
+                long replacementNanos = verify(driver, replacement, rect);
+                if (replacementNanos >= 0 && replacementNanos < originalNanos) {
+                    return Optional.of(new LocatorSuggestion(name, original, replacement, strategy,
+                            originalNanos, replacementNanos));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Locator value for the node with the given strategy, if the snapshot identifies the node uniquely
+     */
+    private static Optional<String> candidate(UiSnapshot snapshot, int node, LocatorStrategy strategy,
+                                              boolean android) {
+        String accessibilityId = snapshot.getAccessibilityId(node);
+        String resourceId = snapshot.getResourceId(node);
+        String text = snapshot.getText(node);
+        return switch (strategy) {
+            case ACCESSIBILITY_ID -> isUnique(snapshot, accessibilityId, UiQuery.accessibilityId(accessibilityId))
+                    ? Optional.of(accessibilityId) : Optional.empty();
+            case ID -> android && isUnique(snapshot, resourceId, UiQuery.resourceId(resourceId))
+                    ? Optional.of(resourceId) : Optional.empty();
+            case UIAUTOMATOR -> android && isUnique(snapshot, text, UiQuery.text(text))
+                    ? Optional.of("new UiSelector().text(\"" + text.replace("\"", "\\\"") + "\")")
+                    : Optional.empty();
+            case PREDICATE -> !android && isUnique(snapshot, text, UiQuery.text(text))
+                    ? Optional.of(iosTextPredicate(snapshot.getClassName(node), text))
+                    : Optional.empty();
+            default -> Optional.empty();
+        };
+    }
+
+    private static String iosTextPredicate(String type, String text) {
+        String quoted = "'" + text.replace("\\", "\\\\").replace("'", "\\'") + "'";
+        return String.format("type == '%s' AND (label == %s OR value == %s)", type, quoted, quoted);
+    }
+
+    private static boolean isUnique(UiSnapshot snapshot, String value, UiQuery query) {
+        return value != null && !value.isEmpty() && snapshot.find(query).length == 1;
+    }
+
+    /**
+     * Median duration of finds with the candidate, or -1 if any find does not resolve to exactly the expected element
+     */
+    private static long verify(AppiumDriver driver, By candidate, Rectangle rect) {
+        long[] samples = new long[VERIFY_SAMPLES];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            List<WebElement> found = driver.findElements(candidate);
+            samples[i] = System.nanoTime() - start;
+            if (found.size() != 1 || !rect.equals(found.get(0).getRect())) {
+                return -1;
+            }
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+}
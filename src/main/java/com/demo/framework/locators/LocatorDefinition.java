@@ -0,0 +1,129 @@
+package com.demo.framework.locators;
+
+import com.demo.framework.snapshot.UiQuery;
+import org.openqa.selenium.By;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled registry entry: logical name, strategy and value template,
+ * plus the equivalent UI snapshot query when one can be expressed.
+ */
+public final class LocatorDefinition {
+
+    private static final Pattern UI_SELECTOR = Pattern.compile(
+            "^new UiSelector\\(\\)\\.(text|description|resourceId)\\(\"([^\"]*)\"\\)$");
+    private static final Pattern CLASS_CHAIN_NAME = Pattern.compile(
+            "\\[`name == [\"']([^\"']*)[\"']`]$");
+    private static final Pattern PREDICATE = Pattern.compile(
+            "^(name|label) == [\"']([^\"']*)[\"']$");
+
+    private final String name;
+    private final LocatorStrategy strategy;
+    private final LocatorTemplate template;
+    private final UiQuery.Attribute snapshotAttribute;
+    private final LocatorTemplate snapshotTemplate;
+
+    LocatorDefinition(String name, LocatorStrategy strategy, LocatorTemplate template,
+                      UiQuery.Attribute snapshotAttribute, LocatorTemplate snapshotTemplate) {
+        this.name = name;
+        this.strategy = strategy;
+        this.template = template;
+        this.snapshotAttribute = snapshotAttribute;
+        this.snapshotTemplate = snapshotTemplate;
+    }
+
+    /**
+     * Create definition deriving the snapshot query from the locator value when possible
+     */
+    static LocatorDefinition of(String name, LocatorStrategy strategy, LocatorTemplate template) {
+        String source = template.getSource();
+        return switch (strategy) {
+            case ACCESSIBILITY_ID -> withQuery(name, strategy, template, UiQuery.Attribute.ACCESSIBILITY_ID, source);
+            case ID -> withQuery(name, strategy, template, UiQuery.Attribute.RESOURCE_ID, source);
+            case CLASS_NAME -> withQuery(name, strategy, template, UiQuery.Attribute.CLASS_NAME, source);
+            case UIAUTOMATOR -> {
+                Matcher matcher = UI_SELECTOR.matcher(source);
+                if (!matcher.matches()) {
+                    yield new LocatorDefinition(name, strategy, template, null, null);
+                }
+                UiQuery.Attribute attribute = switch (matcher.group(1)) {
+                    case "description" -> UiQuery.Attribute.ACCESSIBILITY_ID;
+                    case "resourceId" -> UiQuery.Attribute.RESOURCE_ID;
+                    default -> UiQuery.Attribute.TEXT;
+                };
+                yield withQuery(name, strategy, template, attribute, matcher.group(2));
+            }
+            case CLASS_CHAIN -> {
+                Matcher matcher = CLASS_CHAIN_NAME.matcher(source);
+                yield matcher.find()
+                        ? withQuery(name, strategy, template, UiQuery.Attribute.ACCESSIBILITY_ID, matcher.group(1))
+                        : new LocatorDefinition(name, strategy, template, null, null);
+            }
+            case PREDICATE -> {
+                Matcher matcher = PREDICATE.matcher(source);
+                if (!matcher.matches()) {
+                    yield new LocatorDefinition(name, strategy, template, null, null);
+                }
+                UiQuery.Attribute attribute = "name".equals(matcher.group(1))
+                        ? UiQuery.Attribute.ACCESSIBILITY_ID
+                        : UiQuery.Attribute.TEXT;
+                yield withQuery(name, strategy, template, attribute, matcher.group(2));
+            }
+            default -> new LocatorDefinition(name, strategy, template, null, null);
+        };
+    }
+
+    /**
+     * Copy of this definition with an explicitly declared snapshot query
+     */
+    LocatorDefinition withSnapshotQuery(UiQuery.Attribute attribute, LocatorTemplate queryTemplate) {
+        return new LocatorDefinition(name, strategy, template, attribute, queryTemplate);
+    }
+
+    private static LocatorDefinition withQuery(String name, LocatorStrategy strategy, LocatorTemplate template,
+                                               UiQuery.Attribute attribute, String queryValue) {
+        return new LocatorDefinition(name, strategy, template, attribute, LocatorTemplate.compile(queryValue));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocatorStrategy getStrategy() {
+        return strategy;
+    }
+
+    public LocatorTemplate getTemplate() {
+        return template;
+    }
+
+    By toBy(Object... args) {
+        return strategy.toBy(template.render(args));
+    }
+
+    /**
+     * Snapshot query equivalent to this locator, rendered with the locator's arguments
+     */
+    Optional<UiQuery> toQuery(Object... args) {
+        if (snapshotTemplate == null) {
+            return Optional.empty();
+        }
+        Object[] queryArgs = new Object[snapshotTemplate.getParameters().size()];
+        for (int i = 0; i < queryArgs.length; i++) {
+            queryArgs[i] = args[template.getParameters().indexOf(snapshotTemplate.getParameters().get(i))];
+        }
+        return Optional.of(new UiQuery(snapshotAttribute, snapshotTemplate.render(queryArgs)));
+    }
+
+    LocatorTemplate getSnapshotTemplate() {
+        return snapshotTemplate;
+    }
+
+    @Override
+    public String toString() {
+        return name + "=" + strategy.getPrefix() + ":" + template.getSource();
+    }
+}
@@ -0,0 +1,197 @@
+package com.demo.framework.locators;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.metrics.FrameworkMetrics;
+import com.demo.framework.snapshot.UiSnapshot;
+import com.demo.framework.snapshot.UiSnapshotManager;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times element lookups by strategy and by logical locator name and looks for faster equivalents.
+ * <p>
+ * Opt-in with {@code locator.profiler.enabled=true}. Every find issued through WaitUtils, ActionUtils
+ * and BasePage is then recorded in {@link FrameworkMetrics} under {@code locator.strategy.*} and
+ * {@code locator.name.*}. Once a locator has {@code locator.profiler.minSamples} finds, XPath and class
+ * chain locators, and any locator whose mean find time exceeds {@code locator.profiler.slowThresholdMs},
+ * are analyzed once by {@link LocatorAdvisor} against the session's cached UI snapshot. With
+ * {@code locator.profiler.autoRewrite=true}, verified faster equivalents replace the original locator
+ * for the rest of the run.
+ */
+public final class LocatorProfiler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocatorProfiler.class);
+    private static final String STRATEGY_TIMER = "locator.strategy.";
+    private static final String NAME_TIMER = "locator.name.";
+
+    private static final boolean ENABLED;
+    private static final boolean AUTO_REWRITE;
+    private static final long SLOW_THRESHOLD_MS;
+    private static final int MIN_SAMPLES;
+
+    private static final Map<By, Labels> LABELS = new ConcurrentHashMap<>();
+    private static final Set<By> ANALYZED = ConcurrentHashMap.newKeySet();
+    private static final Map<By, LocatorSuggestion> SUGGESTIONS = new ConcurrentHashMap<>();
+
+    static {
+        ConfigProvider config = ConfigProvider.getDefault();
+        ENABLED = config.getBoolean("locator.profiler.enabled", false);
+        AUTO_REWRITE = config.getBoolean("locator.profiler.autoRewrite", false);
+        SLOW_THRESHOLD_MS = config.getLong("locator.profiler.slowThresholdMs", 300);
+        MIN_SAMPLES = Math.max(1, config.getInt("locator.profiler.minSamples", 5));
+    }
+
+    private LocatorProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Locator to use for a lookup: the verified faster equivalent in auto-rewrite mode, else the locator itself
+     */
+    public static By resolve(By locator) {
+        if (!AUTO_REWRITE) {
+            return locator;
+        }
+        LocatorSuggestion suggestion = SUGGESTIONS.get(locator);
+        return suggestion != null ? suggestion.replacement() : locator;
+    }
+
+    /**
+     * Wrap a locator-based wait condition so each evaluation is timed
+     */
+    public static <T> ExpectedCondition<T> timed(By locator, ExpectedCondition<T> condition) {
+        if (!ENABLED) {
+            return condition;
+        }
+        return new ExpectedCondition<>() {
+            @Override
+            public T apply(WebDriver driver) {
+                long start = System.nanoTime();
+                try {
+                    return condition.apply(driver);
+                } finally {
+                    record(locator, System.nanoTime() - start);
+                }
+            }
+
+            @Override
+            public String toString() {
+                return condition.toString();
+            }
+        };
+    }
+
+    /**
+     * Single timed findElement, honoring rewrites
+     */
+    public static WebElement find(AppiumDriver driver, By locator) {
+        By target = resolve(locator);
+        long start = System.nanoTime();
+        WebElement element;
+        try {
+            element = driver.findElement(target);
+        } finally {
+            if (ENABLED) {
+                record(target, System.nanoTime() - start);
+            }
+        }
+        afterFind(driver, locator, element);
+        return element;
+    }
+
+    /**
+     * Analyze a slow locator once, while the element it found is still on screen.
+     * Analysis is deferred until the session has a cached snapshot, so it never captures a page source itself.
+     */
+    public static void afterFind(AppiumDriver driver, By locator, WebElement element) {
+        if (!ENABLED || ANALYZED.contains(locator) || !isSlow(locator)) {
+            return;
+        }
+        UiSnapshot snapshot = UiSnapshotManager.forDriver(driver).cached();
+        if (snapshot == null || !ANALYZED.add(locator)) {
+            return;
+        }
+        Labels labels = labelsOf(locator);
+        FrameworkMetrics.Timer timer = FrameworkMetrics.timer(NAME_TIMER + labels.name());
+        long originalNanos = timer.getTotalNanos() / Math.max(1, timer.getCount());
+        try {
+            Optional<LocatorSuggestion> proposal =
+                    LocatorAdvisor.propose(driver, snapshot, labels.name(), locator, element, originalNanos);
+            proposal.ifPresentOrElse(suggestion -> {
+                LABELS.put(suggestion.replacement(), new Labels(labels.name(), suggestion.strategy()));
+                SUGGESTIONS.put(locator, suggestion);
+                LOG.warn("Slow locator {}", suggestion.describe());
+            }, () -> LOG.info("Slow locator {} has no faster equivalent in the current page source", labels.name()));
+        } catch (RuntimeException e) {
+            LOG.debug("Unable to analyze locator {}: {}", labels.name(), e.getMessage());
+        }
+    }
+
+    /**
+     * Plain-text report of find timings per strategy and name, slow entries and suggested replacements
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder("Locator finds by strategy:\n");
+        appendTimers(report, FrameworkMetrics.timers(STRATEGY_TIMER));
+        report.append("Locator finds by name:\n");
+        appendTimers(report, FrameworkMetrics.timers(NAME_TIMER));
+        if (!SUGGESTIONS.isEmpty()) {
+            report.append(AUTO_REWRITE ? "Rewritten locators:\n" : "Suggested replacements:\n");
+            SUGGESTIONS.values().forEach(suggestion -> report.append("  ").append(suggestion.describe()).append('\n'));
+        }
+        return report.toString();
+    }
+
+    private static void appendTimers(StringBuilder report, Map<String, FrameworkMetrics.Timer> timers) {
+        timers.forEach((label, timer) -> report.append(String.format("  %-50s %s%s%n", label, timer,
+                timer.getMeanMillis() >= SLOW_THRESHOLD_MS ? "  SLOW" : "")));
+    }
+
+    /**
+     * True once the locator has enough finds and is either a slow strategy or slow on average
+     */
+    private static boolean isSlow(By locator) {
+        Labels labels = labelsOf(locator);
+        FrameworkMetrics.Timer timer = FrameworkMetrics.timer(NAME_TIMER + labels.name());
+        if (timer.getCount() < MIN_SAMPLES || labels.strategy() == LocatorStrategy.CSS) {
+            return false;
+        }
+        return labels.strategy() == LocatorStrategy.XPATH || labels.strategy() == LocatorStrategy.CLASS_CHAIN
+                || timer.getMeanMillis() >= SLOW_THRESHOLD_MS;
+    }
+
+    private static void record(By locator, long nanos) {
+        Labels labels = labelsOf(locator);
+        FrameworkMetrics.record(STRATEGY_TIMER + labels.strategyLabel(), nanos);
+        FrameworkMetrics.record(NAME_TIMER + labels.name(), nanos);
+    }
+
+    private static Labels labelsOf(By locator) {
+        return LABELS.computeIfAbsent(locator, by -> LocatorRegistry.lookup(by)
+                .map(definition -> new Labels(definition.getName(), definition.getStrategy()))
+                .orElseGet(() -> new Labels(by.toString(), LocatorStrategy.of(by).orElse(null))));
+    }
+
+    /**
+     * @param strategy null if the locator is not an Appium or W3C locator
+     */
+    private record Labels(String name, LocatorStrategy strategy) {
+
+        String strategyLabel() {
+            return strategy != null ? strategy.getPrefix() : "unknown";
+        }
+    }
+}
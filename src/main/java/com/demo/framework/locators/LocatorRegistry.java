@@ -0,0 +1,278 @@
+package com.demo.framework.locators;
+
+import com.demo.framework.exceptions.FrameworkException;
+import com.demo.framework.snapshot.UiQuery;
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Declarative, per-platform locator registry loaded from {@code locators/<platform>.properties}.
+ * <p>
+ * Entries have the form {@code logical.name=strategy:value}; values may contain {@code {param}}
+ * placeholders that are compiled once into templates. An optional {@code logical.name.snapshot}
+ * entry ({@code accessibilityId|resourceId|text|className:value}) declares the UI snapshot query
+ * for locators whose value cannot be translated automatically.
+ * <p>
+ * Each registry is loaded and validated once per platform; By instances are cached, and the
+ * reverse mapping lets profiling and snapshot code refer to locators by their logical name.
+ */
+public final class LocatorRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocatorRegistry.class);
+    private static final String RESOURCE_PATTERN = "locators/%s.properties";
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final int MAX_CACHED_VARIANTS = 512;
+    private static final Map<String, LocatorRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+    private final String platform;
+    private final Map<String, LocatorDefinition> definitions;
+    private final Map<String, By> byCache = new ConcurrentHashMap<>();
+    private final Map<By, String> names = new ConcurrentHashMap<>();
+
+    private LocatorRegistry(String platform, Map<String, LocatorDefinition> definitions) {
+        this.platform = platform;
+        this.definitions = definitions;
+        definitions.values().stream()
+                .filter(definition -> !definition.getTemplate().isParameterized())
+                .forEach(definition -> cache(definition.getName(), definition.getName(), definition.toBy()));
+    }
+
+    public static LocatorRegistry android() {
+        return forPlatform("android");
+    }
+
+    public static LocatorRegistry ios() {
+        return forPlatform("ios");
+    }
+
+    /**
+     * Get registry for platform, loading and validating it on first access
+     *
+     * @throws FrameworkException if the registry file is missing or contains invalid entries
+     */
+    public static LocatorRegistry forPlatform(String platformName) {
+        String platform = platformName.trim().toLowerCase();
+        return REGISTRIES.computeIfAbsent(platform, LocatorRegistry::load);
+    }
+
+    /**
+     * Locator for a logical name; arguments follow placeholder order of parameterized entries
+     */
+    public By by(String name, Object... args) {
+        String key = cacheKey(name, args);
+        By cached = byCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        By by = definition(name).toBy(args);
+        if (byCache.size() < MAX_CACHED_VARIANTS) {
+            cache(name, key, by);
+        }
+        return by;
+    }
+
+    /**
+     * UI snapshot query equivalent to the logical locator
+     *
+     * @throws FrameworkException if the locator has no snapshot equivalent
+     */
+    public UiQuery query(String name, Object... args) {
+        LocatorDefinition definition = definition(name);
+        if (args.length != definition.getTemplate().getParameters().size()) {
+            throw new FrameworkException(String.format("Locator '%s' expects parameters %s",
+                    name, definition.getTemplate().getParameters()));
+        }
+        return definition.toQuery(args)
+                .orElseThrow(() -> new FrameworkException("Locator has no snapshot query: " + name));
+    }
+
+    /**
+     * Logical name of a locator produced by this registry
+     */
+    public Optional<String> nameOf(By by) {
+        return Optional.ofNullable(names.get(by));
+    }
+
+    /**
+     * Definition behind a locator produced by any registry loaded so far
+     */
+    public static Optional<LocatorDefinition> lookup(By by) {
+        for (LocatorRegistry registry : REGISTRIES.values()) {
+            Optional<String> name = registry.nameOf(by);
+            if (name.isPresent()) {
+                return Optional.of(registry.definition(name.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public LocatorDefinition definition(String name) {
+        LocatorDefinition definition = definitions.get(name);
+        if (definition == null) {
+            throw new FrameworkException(String.format("Unknown %s locator: %s", platform, name));
+        }
+        return definition;
+    }
+
+    public Set<String> getNames() {
+        return definitions.keySet();
+    }
+
+    public String getPlatform() {
+        return platform;
+    }
+
+    private void cache(String name, String key, By by) {
+        byCache.put(key, by);
+        names.putIfAbsent(by, name);
+    }
+
+    private static String cacheKey(String name, Object[] args) {
+        if (args.length == 0) {
+            return name;
+        }
+        StringBuilder key = new StringBuilder(name);
+        for (Object arg : args) {
+            key.append('\u0000').append(arg);
+        }
+        return key.toString();
+    }
+
+    private static LocatorRegistry load(String platform) {
+        String resource = String.format(RESOURCE_PATTERN, platform);
+        Properties properties = new Properties();
+        try (InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new FrameworkException("Locator registry not found: " + resource);
+            }
+            properties.load(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new FrameworkException("Unable to load locator registry " + resource, e);
+        }
+
+        List<String> problems = new ArrayList<>();
+        Map<String, LocatorDefinition> definitions = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.endsWith(SNAPSHOT_SUFFIX)) {
+                parseDefinition(key, properties.getProperty(key), problems)
+                        .ifPresent(definition -> definitions.put(key, definition));
+            }
+        }
+        for (String key : properties.stringPropertyNames()) {
+            if (key.endsWith(SNAPSHOT_SUFFIX)) {
+                applySnapshotQuery(key, properties.getProperty(key), definitions, problems);
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new FrameworkException("Invalid locator registry " + resource + ":\n  - "
+                    + String.join("\n  - ", problems));
+        }
+        LOG.info("Loaded {} {} locators from {}", definitions.size(), platform, resource);
+        return new LocatorRegistry(platform, Collections.unmodifiableMap(definitions));
+    }
+
+    private static Optional<LocatorDefinition> parseDefinition(String name, String raw, List<String> problems) {
+        int separator = raw.indexOf(':');
+        if (separator <= 0) {
+            problems.add(name + ": expected 'strategy:value' but was '" + raw + "'");
+            return Optional.empty();
+        }
+        String prefix = raw.substring(0, separator).trim();
+        String value = raw.substring(separator + 1).trim();
+        Optional<LocatorStrategy> strategy = LocatorStrategy.fromPrefix(prefix);
+        if (strategy.isEmpty()) {
+            problems.add(name + ": unknown strategy '" + prefix + "', expected one of "
+                    + Arrays.stream(LocatorStrategy.values()).map(LocatorStrategy::getPrefix).toList());
+            return Optional.empty();
+        }
+        if (value.isEmpty()) {
+            problems.add(name + ": empty locator value");
+            return Optional.empty();
+        }
+        LocatorTemplate template;
+        try {
+            template = LocatorTemplate.compile(value);
+        } catch (IllegalArgumentException e) {
+            problems.add(name + ": " + e.getMessage());
+            return Optional.empty();
+        }
+        if (strategy.get() == LocatorStrategy.XPATH) {
+            validateXpath(name, template, problems);
+        }
+        try {
+            return Optional.of(LocatorDefinition.of(name, strategy.get(), template));
+        } catch (IllegalArgumentException e) {
+            problems.add(name + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static void applySnapshotQuery(String key, String raw, Map<String, LocatorDefinition> definitions,
+                                           List<String> problems) {
+        String name = key.substring(0, key.length() - SNAPSHOT_SUFFIX.length());
+        LocatorDefinition definition = definitions.get(name);
+        if (definition == null) {
+            problems.add(key + ": no locator named '" + name + "'");
+            return;
+        }
+        int separator = raw.indexOf(':');
+        UiQuery.Attribute attribute = separator > 0 ? snapshotAttribute(raw.substring(0, separator).trim()) : null;
+        if (attribute == null) {
+            problems.add(key + ": expected 'accessibilityId|resourceId|text|className:value' but was '" + raw + "'");
+            return;
+        }
+        try {
+            LocatorTemplate queryTemplate = LocatorTemplate.compile(raw.substring(separator + 1).trim());
+            if (!definition.getTemplate().getParameters().containsAll(queryTemplate.getParameters())) {
+                problems.add(key + ": placeholders " + queryTemplate.getParameters()
+                        + " are not declared by locator " + definition.getTemplate().getParameters());
+                return;
+            }
+            definitions.put(name, definition.withSnapshotQuery(attribute, queryTemplate));
+        } catch (IllegalArgumentException e) {
+            problems.add(key + ": " + e.getMessage());
+        }
+    }
+
+    private static UiQuery.Attribute snapshotAttribute(String prefix) {
+        return switch (prefix) {
+            case "accessibilityId" -> UiQuery.Attribute.ACCESSIBILITY_ID;
+            case "resourceId" -> UiQuery.Attribute.RESOURCE_ID;
+            case "text" -> UiQuery.Attribute.TEXT;
+            case "className" -> UiQuery.Attribute.CLASS_NAME;
+            default -> null;
+        };
+    }
+
+    /**
+     * Compile xpath with placeholders replaced by a sample value to catch syntax errors at startup
+     */
+    private static void validateXpath(String name, LocatorTemplate template, List<String> problems) {
+        Object[] samples = new Object[template.getParameters().size()];
+        Arrays.fill(samples, "sample");
+        try {
+            XPathFactory.newInstance().newXPath().compile(template.render(samples));
+        } catch (XPathExpressionException e) {
+            problems.add(name + ": invalid xpath '" + template.getSource() + "'");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.demo.framework.locators;
+
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Locator strategies supported in locator registry files, keyed by their prefix
+ * (e.g. {@code accessibilityId:Login}).
+ */
+public enum LocatorStrategy {
+
+    ACCESSIBILITY_ID("accessibilityId", "accessibility id"),
+    ID("id", "id"),
+    CLASS_NAME("className", "class name"),
+    XPATH("xpath", "xpath"),
+    UIAUTOMATOR("uiautomator", "-android uiautomator"),
+    CLASS_CHAIN("classChain", "-ios class chain"),
+    PREDICATE("predicate", "-ios predicate string"),
+    CSS("css", "css selector");
+
+    private final String prefix;
+    private final String using;
+
+    LocatorStrategy(String prefix, String using) {
+        this.prefix = prefix;
+        this.using = using;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Build a Selenium/Appium locator for the given value
+     */
+    public By toBy(String value) {
+        return switch (this) {
+            case ACCESSIBILITY_ID -> AppiumBy.accessibilityId(value);
+            case ID -> AppiumBy.id(value);
+            case CLASS_NAME -> AppiumBy.className(value);
+            case XPATH -> AppiumBy.xpath(value);
+            case UIAUTOMATOR -> AppiumBy.androidUIAutomator(value);
+            case CLASS_CHAIN -> AppiumBy.iOSClassChain(value);
+            case PREDICATE -> AppiumBy.iOSNsPredicateString(value);
+            case CSS -> By.cssSelector(value);
+        };
+    }
+
+    /**
+     * Strategy of a locator from its W3C remote parameters, e.g. {@code -ios class chain}
+     */
+    public static Optional<LocatorStrategy> of(By locator) {
+        if (!(locator instanceof By.Remotable remotable)) {
+            return Optional.empty();
+        }
+        String using = remotable.getRemoteParameters().using();
+        return Arrays.stream(values())
+                .filter(strategy -> strategy.using.equals(using))
+                .findFirst();
+    }
+
+    public static Optional<LocatorStrategy> fromPrefix(String prefix) {
+        return Arrays.stream(values())
+                .filter(strategy -> strategy.prefix.equals(prefix))
+                .findFirst();
+    }
+}
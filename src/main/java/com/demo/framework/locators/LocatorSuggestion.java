@@ -0,0 +1,22 @@
+package com.demo.framework.locators;
+
+import org.openqa.selenium.By;
+
+/**
+ * Faster locator verified to resolve to the same element as a slow one
+ *
+ * @param name             logical name of the original locator
+ * @param original         locator as declared
+ * @param replacement      equivalent locator found in the page source
+ * @param strategy         strategy of the replacement
+ * @param originalNanos    mean find duration of the original locator over the profiled finds
+ * @param replacementNanos median find duration of the replacement over the verification finds
+ */
+public record LocatorSuggestion(String name, By original, By replacement, LocatorStrategy strategy,
+                                long originalNanos, long replacementNanos) {
+
+    public String describe() {
+        return String.format("%s: %s -> %s (%d ms -> %d ms)", name, original, replacement,
+                originalNanos / 1_000_000, replacementNanos / 1_000_000);
+    }
+}
@@ -0,0 +1,112 @@
+package com.demo.framework.locators;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Locator value compiled once into literal segments and named placeholders,
+ * e.g. {@code new UiSelector().textContains("{card}")}.
+ * Rendering concatenates pre-split segments instead of re-parsing a format string per call.
+ */
+public final class LocatorTemplate {
+
+    private final String source;
+    private final String[] segments;
+    private final int[] slots;
+    private final List<String> parameters;
+
+    private LocatorTemplate(String source, String[] segments, int[] slots, List<String> parameters) {
+        this.source = source;
+        this.segments = segments;
+        this.slots = slots;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Compile template; placeholders are {@code {name}} with a Java identifier as name
+     *
+     * @throws IllegalArgumentException if a placeholder is unterminated or has an invalid name
+     */
+    public static LocatorTemplate compile(String source) {
+        List<String> segments = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<String> parameters = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c != '{') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            int end = source.indexOf('}', i);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unterminated placeholder at index " + i);
+            }
+            String name = source.substring(i + 1, end);
+            if (!isIdentifier(name)) {
+                throw new IllegalArgumentException("Invalid placeholder name '" + name + "'");
+            }
+            int slot = parameters.indexOf(name);
+            if (slot < 0) {
+                slot = parameters.size();
+                parameters.add(name);
+            }
+            segments.add(literal.toString());
+            slots.add(slot);
+            literal.setLength(0);
+            i = end + 1;
+        }
+        segments.add(literal.toString());
+
+        return new LocatorTemplate(source, segments.toArray(new String[0]),
+                slots.stream().mapToInt(Integer::intValue).toArray(), List.copyOf(parameters));
+    }
+
+    /**
+     * Names of distinct placeholders in order of first appearance
+     */
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    public boolean isParameterized() {
+        return !parameters.isEmpty();
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Render template with positional arguments matching {@link #getParameters()}
+     */
+    public String render(Object... args) {
+        if (args.length != parameters.size()) {
+            throw new IllegalArgumentException(String.format("Template '%s' expects %d argument(s) %s but got %d",
+                    source, parameters.size(), parameters, args.length));
+        }
+        if (slots.length == 0) {
+            return source;
+        }
+        StringBuilder rendered = new StringBuilder(source.length() + 16);
+        for (int i = 0; i < slots.length; i++) {
+            rendered.append(segments[i]).append(args[slots[i]]);
+        }
+        return rendered.append(segments[slots.length]).toString();
+    }
+
+    private static boolean isIdentifier(String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+package com.demo.framework.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded multi-producer ring of the most recent events.
+ * <p>
+ * Writers claim a sequence number with one atomic increment and overwrite the oldest slot, so logging never
+ * blocks and memory stays bounded however long a test runs. Snapshots are meant to be taken once writers are
+ * done, e.g. after a test.
+ */
+public final class EventRing<E> {
+
+    private final AtomicReferenceArray<Slot<E>> slots;
+    private final int mask;
+    private final AtomicLong next = new AtomicLong();
+
+    /**
+     * @param capacity maximum number of events kept, rounded up to a power of two
+     */
+    public EventRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public void add(E event) {
+        long sequence = next.getAndIncrement();
+        slots.lazySet((int) (sequence & mask), new Slot<>(sequence, event));
+    }
+
+    /**
+     * Events still in the ring, oldest first
+     */
+    public List<E> snapshot() {
+        long end = next.get();
+        long start = Math.max(0, end - slots.length());
+        List<E> events = new ArrayList<>((int) (end - start));
+        for (long sequence = start; sequence < end; sequence++) {
+            Slot<E> slot = slots.get((int) (sequence & mask));
+            // Skip slots a concurrent writer has not published yet or has already overwritten
+            if (slot != null && slot.sequence == sequence) {
+                events.add(slot.event);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Number of events dropped because the ring was full
+     */
+    public long overwritten() {
+        return Math.max(0, next.get() - slots.length());
+    }
+
+    private record Slot<E>(long sequence, E event) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.demo.framework.logging;
+
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+
+/**
+ * Logback appender that keeps the events of each running test in memory.
+ * <p>
+ * Events are routed by the {@value TestLogBuffer#RUN_MDC_KEY} MDC entry set by {@link TestLogBuffer#start} into a
+ * bounded lock-free ring per test invocation; events outside a test are dropped. While the test runs an event only has
+ * its message, thread name and MDC resolved so it stays correct when read later; nothing is laid out or written, the
+ * buffered trace is only rendered when {@link TestLogBuffer} is asked for it on failure.
+ * <pre>
+ * &lt;appender name="TEST" class="com.demo.framework.logging.TestLogAppender"&gt;
+ *     &lt;capacity&gt;4096&lt;/capacity&gt;
+ *     &lt;pattern&gt;%d{HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n&lt;/pattern&gt;
+ * &lt;/appender&gt;
+ * </pre>
+ */
+public class TestLogAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    private int capacity = 4096;
+    private String pattern = "%d{HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n";
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void setPattern(String pattern) {
+        this.pattern = pattern;
+    }
+
+    @Override
+    public void start() {
+        if (capacity <= 0) {
+            addError("Capacity must be positive for appender " + getName());
+            return;
+        }
+        PatternLayout layout = new PatternLayout();
+        layout.setContext(getContext());
+        layout.setPattern(pattern);
+        layout.start();
+        TestLogBuffer.configure(capacity, layout);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        TestLogBuffer.configure(0, null);
+        super.stop();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        String run = event.getMDCPropertyMap().get(TestLogBuffer.RUN_MDC_KEY);
+        if (run == null) {
+            return;
+        }
+        EventRing<ILoggingEvent> ring = TestLogBuffer.ring(run);
+        if (ring != null) {
+            // Message arguments may change and thread name and MDC are resolved lazily; pin them on the logging thread
+            event.prepareForDeferredProcessing();
+            ring.add(event);
+        }
+    }
+}
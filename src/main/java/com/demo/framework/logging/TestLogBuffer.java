@@ -0,0 +1,109 @@
+package com.demo.framework.logging;
+
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import io.qameta.allure.Allure;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-test log capture backed by {@link TestLogAppender}.
+ * <p>
+ * {@link #start} tags the test thread with the test name in the {@value #MDC_KEY} MDC entry and a fresh run id in
+ * the {@value #RUN_MDC_KEY} entry, and opens a ring buffer for that run. Rings are keyed by the run id, so repeated
+ * or parallel invocations of the same test method never share or drop each other's buffer. The full DEBUG trace of
+ * the test collects there while the console and log files only receive INFO and above.
+ * On failure {@link #attach} renders the trace into an Allure attachment; {@link #finish} drops it either way.
+ * Without the appender in {@code logback.xml} only the MDC tag is set.
+ */
+public final class TestLogBuffer {
+
+    public static final String MDC_KEY = "test";
+    public static final String RUN_MDC_KEY = "testRun";
+
+    private static final Map<String, EventRing<ILoggingEvent>> RINGS = new ConcurrentHashMap<>();
+    private static volatile int capacity;
+    private static volatile PatternLayout layout;
+
+    private TestLogBuffer() {
+    }
+
+    static synchronized void configure(int ringCapacity, PatternLayout eventLayout) {
+        capacity = ringCapacity;
+        layout = eventLayout;
+        if (eventLayout == null) {
+            RINGS.clear();
+        }
+    }
+
+    static EventRing<ILoggingEvent> ring(String run) {
+        return RINGS.get(run);
+    }
+
+    /**
+     * Start capturing the log of a test invocation on the current thread, dropping a capture left open by the
+     * previous test on this thread
+     */
+    public static void start(String test) {
+        finish();
+        String run = UUID.randomUUID().toString();
+        MDC.put(MDC_KEY, test);
+        MDC.put(RUN_MDC_KEY, run);
+        if (capacity > 0) {
+            RINGS.put(run, new EventRing<>(capacity));
+        }
+    }
+
+    /**
+     * Buffered log of the current test, empty if nothing was captured
+     */
+    public static String trace() {
+        String run = MDC.get(RUN_MDC_KEY);
+        PatternLayout eventLayout = layout;
+        EventRing<ILoggingEvent> ring = run != null ? RINGS.get(run) : null;
+        if (ring == null || eventLayout == null) {
+            return "";
+        }
+        List<ILoggingEvent> events = ring.snapshot();
+        StringBuilder trace = new StringBuilder(events.size() * 128);
+        if (ring.overwritten() > 0) {
+            trace.append("... ").append(ring.overwritten()).append(" earlier events dropped\n");
+        }
+        synchronized (eventLayout) {
+            for (ILoggingEvent event : events) {
+                trace.append(eventLayout.doLayout(event));
+            }
+        }
+        return trace.toString();
+    }
+
+    /**
+     * Attach the buffered log of the current test to Allure
+     *
+     * @return false if there was nothing to attach
+     */
+    public static boolean attach(String name) {
+        String trace = trace();
+        if (trace.isEmpty()) {
+            return false;
+        }
+        Allure.addAttachment(name, "text/plain", trace, "log");
+        return true;
+    }
+
+    /**
+     * Stop capturing the current test and drop its buffer
+     */
+    public static void finish() {
+        String run = MDC.get(RUN_MDC_KEY);
+        if (run != null) {
+            RINGS.remove(run);
+            MDC.remove(RUN_MDC_KEY);
+        }
+        MDC.remove(MDC_KEY);
+    }
+}
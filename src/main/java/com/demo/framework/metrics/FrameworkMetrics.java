@@ -0,0 +1,126 @@
+package com.demo.framework.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JVM-wide counters and timers for framework internals (locator lookups, caches, etc.).
+ * <p>
+ * Recording is lock-free so it can sit on hot paths shared by parallel sessions;
+ * {@link #report()} renders a sorted plain-text summary for logs and reports.
+ */
+public final class FrameworkMetrics {
+
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, Timer> TIMERS = new ConcurrentHashMap<>();
+
+    private FrameworkMetrics() {
+    }
+
+    /**
+     * Increment named counter by one
+     */
+    public static void increment(String name) {
+        COUNTERS.computeIfAbsent(name, key -> new LongAdder()).increment();
+    }
+
+    public static long count(String name) {
+        LongAdder counter = COUNTERS.get(name);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * Record a duration in nanoseconds against the named timer
+     */
+    public static void record(String name, long nanos) {
+        TIMERS.computeIfAbsent(name, key -> new Timer()).record(nanos);
+    }
+
+    /**
+     * Timer statistics, or an empty timer if nothing was recorded under the name
+     */
+    public static Timer timer(String name) {
+        Timer timer = TIMERS.get(name);
+        return timer != null ? timer : new Timer();
+    }
+
+    /**
+     * All timers whose name starts with the prefix, keyed by the remainder of the name
+     */
+    public static Map<String, Timer> timers(String prefix) {
+        Map<String, Timer> matching = new TreeMap<>();
+        TIMERS.forEach((name, timer) -> {
+            if (name.startsWith(prefix)) {
+                matching.put(name.substring(prefix.length()), timer);
+            }
+        });
+        return matching;
+    }
+
+    /**
+     * Plain-text summary of all counters and timers, sorted by name
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        new TreeMap<>(COUNTERS).forEach((name, counter) ->
+                report.append(String.format("%-60s %10d%n", name, counter.sum())));
+        new TreeMap<>(TIMERS).forEach((name, timer) ->
+                report.append(String.format("%-60s %s%n", name, timer)));
+        return report.toString();
+    }
+
+    /**
+     * Drop all recorded values
+     */
+    public static void reset() {
+        COUNTERS.clear();
+        TIMERS.clear();
+    }
+
+    /**
+     * Count, total and max of recorded durations
+     */
+    public static final class Timer {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private volatile long maxNanos;
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            if (nanos > maxNanos) {
+                synchronized (this) {
+                    if (nanos > maxNanos) {
+                        maxNanos = nanos;
+                    }
+                }
+            }
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public double getMeanMillis() {
+            long samples = getCount();
+            return samples == 0 ? 0 : getTotalNanos() / 1_000_000.0 / samples;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d mean=%.1fms max=%.1fms",
+                    getCount(), getMeanMillis(), maxNanos / 1_000_000.0);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.demo.framework.pages;
 
 import com.demo.framework.drivers.DriverManager;
+import com.demo.framework.locators.LocatorProfiler;
+import com.demo.framework.snapshot.UiQuery;
+import com.demo.framework.snapshot.UiSnapshotManager;
 import com.demo.framework.utils.ActionUtils;
+import com.demo.framework.utils.ElementCache;
 import com.demo.framework.utils.ScreenshotUtils;
 import com.demo.framework.utils.WaitUtils;
 import io.appium.java_client.AppiumDriver;
@@ -18,11 +22,15 @@ public abstract class BasePage {
     protected final AppiumDriver driver;
     protected final WaitUtils wait;
     protected final ActionUtils actions;
+    protected final UiSnapshotManager snapshots;
+    protected final ElementCache elements;
 
     protected BasePage() {
         this.driver = DriverManager.getDriver();
         this.wait = new WaitUtils(driver);
         this.actions = new ActionUtils(driver, wait);
+        this.snapshots = UiSnapshotManager.forDriver(driver);
+        this.elements = ElementCache.forDriver(driver);
     }
 
     public String getPageTitle() {
@@ -34,16 +42,37 @@ public abstract class BasePage {
     }
 
     protected WebElement find(By locator) {
-        return driver.findElement(locator);
+        return LocatorProfiler.find(driver, locator);
     }
 
     public String getPageSource() {
         return driver.getPageSource();
     }
 
+    /**
+     * Check visibility against the cached UI snapshot instead of issuing a find command.
+     * Opt-in for static screens where several checks can share one page source.
+     */
+    protected boolean isVisibleInSnapshot(UiQuery query) {
+        try {
+            return snapshots.awaitVisible(query, WaitUtils.DEFAULT_TIMEOUT);
+        } catch (Exception e) {
+            log.debug("Snapshot check failed for {}: {}", query, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Drop cached page source and element handles after a page-level gesture or navigation
+     */
+    protected void screenChanged() {
+        snapshots.invalidate();
+        elements.invalidate();
+    }
+
     public void captureScreenshot() {
         try {
-            ScreenshotUtils.takeScreenshot(getPageTitle());
+            ScreenshotUtils.takeStepScreenshot(getPageTitle());
             log.info("Screenshot captured for page: {}", getPageTitle());
         } catch (Exception e) {
             log.warn("Failed to capture screenshot", e);
@@ -53,15 +82,18 @@ public abstract class BasePage {
     public void navigateBack() {
         log.info("Navigating back");
         driver.navigate().back();
+        screenChanged();
     }
 
     public void navigateForward() {
         log.info("Navigating forward");
         driver.navigate().forward();
+        screenChanged();
     }
 
     public void refresh() {
         log.info("Refreshing page");
         driver.navigate().refresh();
+        screenChanged();
     }
 }
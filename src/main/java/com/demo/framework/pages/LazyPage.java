@@ -0,0 +1,31 @@
+package com.demo.framework.pages;
+
+import com.demo.framework.drivers.DriverManager;
+import io.appium.java_client.AppiumDriver;
+
+import java.util.function.Supplier;
+
+/**
+ * Page of a flow, resolved through {@link PageFactory} on first use and memoized for the session it was resolved in.
+ * If the current thread has moved on to another driver session, the page is resolved again for that session,
+ * so a flow never drives a page bound to a session that has ended.
+ */
+public final class LazyPage<T> {
+
+    private final Supplier<T> factory;
+    private AppiumDriver driver;
+    private T page;
+
+    LazyPage(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    public T get() {
+        AppiumDriver current = DriverManager.getDriver();
+        if (page == null || driver != current) {
+            page = factory.get();
+            driver = current;
+        }
+        return page;
+    }
+}
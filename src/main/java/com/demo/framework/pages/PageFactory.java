@@ -1,59 +1,63 @@
 package com.demo.framework.pages;
 
-import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.drivers.DriverManager;
+import com.demo.framework.drivers.SessionScope;
 import com.demo.framework.pages.android.*;
 import com.demo.framework.pages.interfaces.*;
 import com.demo.framework.pages.ios.*;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.function.Supplier;
+
 /**
- * Factory for creating platform-specific Page Object instances.
- * Platform is resolved dynamically at runtime to support multi-platform test runs.
+ * Factory for platform-specific Page Object instances.
+ * <p>
+ * Pages are created on first request and cached in the current thread's driver session, so flows of one test
+ * share a page and its waits and action helpers instead of each building their own. The platform is taken from
+ * the session's driver type rather than read from the config. Flows hold pages through {@link #lazy}, so a flow
+ * only creates the pages it actually uses.
  */
 @Slf4j
 @UtilityClass
 public class PageFactory {
 
-    /**
-     * Get current platform dynamically (not cached) to support runtime changes
-     */
-    private static String getPlatform() {
-        return new ConfigProvider().getPlatform().toLowerCase();
-    }
-
     public static HomePage homePage() {
-        String platform = getPlatform();
-        log.debug("Creating HomePage for platform: {}", platform);
-        return isAndroid(platform) ? new AndroidHomePage() : new IOSHomePage();
+        return page(HomePage.class, AndroidHomePage::new, IOSHomePage::new);
     }
 
     public static LoginPage loginPage() {
-        String platform = getPlatform();
-        log.debug("Creating LoginPage for platform: {}", platform);
-        return isAndroid(platform) ? new AndroidLoginPage() : new IOSLoginPage();
+        return page(LoginPage.class, AndroidLoginPage::new, IOSLoginPage::new);
     }
 
     public static SwipePage swipePage() {
-        String platform = getPlatform();
-        log.debug("Creating SwipePage for platform: {}", platform);
-        return isAndroid(platform) ? new AndroidSwipePage() : new IOSSwipePage();
+        return page(SwipePage.class, AndroidSwipePage::new, IOSSwipePage::new);
     }
 
     public static WebViewPage webViewPage() {
-        String platform = getPlatform();
-        log.debug("Creating WebViewPage for platform: {}", platform);
-        return isAndroid(platform) ? new AndroidWebViewPage() : new IOSWebViewPage();
+        return page(WebViewPage.class, AndroidWebViewPage::new, IOSWebViewPage::new);
     }
 
     public static DragPage dragPage() {
-        String platform = getPlatform();
-        log.debug("Creating DragPage for platform: {}", platform);
-        return isAndroid(platform) ? new AndroidDragPage() : new IOSDragPage();
+        return page(DragPage.class, AndroidDragPage::new, IOSDragPage::new);
     }
 
-    private static boolean isAndroid(String platform) {
-        return "android".equalsIgnoreCase(platform);
+    /**
+     * Page resolved on first use and kept for the session it was resolved in, e.g. {@code lazy(PageFactory::homePage)}
+     */
+    public static <T> LazyPage<T> lazy(Supplier<T> page) {
+        return new LazyPage<>(page);
     }
-}
 
+    private static <T> T page(Class<T> type, Supplier<? extends T> android, Supplier<? extends T> ios) {
+        AppiumDriver driver = DriverManager.getDriver();
+        return SessionScope.of(driver).get(type, () -> {
+            boolean isAndroid = driver instanceof AndroidDriver;
+            log.debug("Creating {} for {} session {}", type.getSimpleName(), isAndroid ? "android" : "ios",
+                    driver.getSessionId());
+            return isAndroid ? android.get() : ios.get();
+        });
+    }
+}
@@ -1,18 +1,27 @@
 package com.demo.framework.pages.android;
 
+import com.demo.framework.gestures.Gesture;
+import com.demo.framework.gestures.GestureBuilder;
+import com.demo.framework.gestures.GestureCalibrator;
+import com.demo.framework.locators.LocatorRegistry;
 import com.demo.framework.pages.BasePage;
 import com.demo.framework.pages.interfaces.DragPage;
-import io.appium.java_client.AppiumBy;
+import com.demo.framework.snapshot.UiQuery;
+import com.demo.framework.snapshot.UiSnapshot;
+import com.demo.framework.utils.GestureUtils;
+import com.demo.framework.vision.ImageLocator;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.interactions.PointerInput;
-import org.openqa.selenium.interactions.Sequence;
 
 import java.time.Duration;
-import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Android implementation of Drag and Drop Page
@@ -20,6 +29,7 @@ import java.util.Map;
 @Slf4j
 public class AndroidDragPage extends BasePage implements DragPage {
 
+    private static final LocatorRegistry LOCATORS = LocatorRegistry.android();
     private static final Map<String, String> DRAG_DROP_PAIRS = new LinkedHashMap<>() {{
         put("drag-l1", "drop-l1");
         put("drag-l2", "drop-l2");
@@ -31,12 +41,41 @@ public class AndroidDragPage extends BasePage implements DragPage {
         put("drag-r2", "drop-r2");
         put("drag-r3", "drop-r3");
     }};
-    private static final By DRAGGABLE_ELEMENT = AppiumBy.accessibilityId("drag-l1");
-    private static final By DROP_ZONE = AppiumBy.accessibilityId("drop-l1");
-    private static final By SUCCESS_MESSAGE = AppiumBy.androidUIAutomator(
-            "new UiSelector().text(\"You made it, click retry if you want to try it again.\")");
-    private static final By RESET_BUTTON = AppiumBy.xpath(
-            "//android.widget.TextView[@text=\"\uDB80\uDC6A\"]");
+    private static final List<By> DRAGGABLE_ELEMENTS = DRAG_DROP_PAIRS.keySet().stream()
+            .map(tile -> LOCATORS.by("drag.tile", tile))
+            .toList();
+    /**
+     * Tiles plus their drop zones; the zones stay on screen once every tile has been dropped
+     */
+    private static final List<By> BOARD_ELEMENTS = Stream.concat(DRAGGABLE_ELEMENTS.stream(),
+                    DRAG_DROP_PAIRS.values().stream().map(zone -> LOCATORS.by("drag.dropZone", zone)))
+            .toList();
+    /**
+     * Every tile; a reset is confirmed only once all of them are back on the board
+     */
+    private static final List<UiQuery> DRAGGABLE_NODES = DRAG_DROP_PAIRS.keySet().stream()
+            .map(tile -> LOCATORS.query("drag.tile", tile))
+            .toList();
+    private static final By DRAGGABLE_ELEMENT = LOCATORS.by("drag.tile", "drag-l1");
+    private static final By DROP_ZONE = LOCATORS.by("drag.dropZone", "drop-l1");
+    private static final UiQuery DRAGGABLE_NODE = LOCATORS.query("drag.tile", "drag-l1");
+    private static final UiQuery DROP_ZONE_NODE = LOCATORS.query("drag.dropZone", "drop-l1");
+    private static final By SUCCESS_MESSAGE = LOCATORS.by("drag.successMessage");
+    private static final By RESET_BUTTON = LOCATORS.by("drag.resetButton");
+    private static final String RESET_TEMPLATE = "drag.resetButton";
+    /**
+     * NCC score an image match of the reset glyph needs before it is tapped
+     */
+    private static final double RESET_MIN_SCORE = 0.95;
+    private static final Duration RESET_VERIFY_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration DRAG_GAP = Duration.ofMillis(300);
+
+    private final GestureCalibrator calibrator = GestureCalibrator.forDriver(driver);
+
+    /**
+     * All nine drags as one gesture; tile positions are fixed, so it is built once per session
+     */
+    private Gesture dragAllChain;
 
     @Override
     public boolean isPageLoaded() {
@@ -60,14 +99,69 @@ public class AndroidDragPage extends BasePage implements DragPage {
     @Override
     public void dragElementsToDropZone() {
         log.info("Dragging all elements to drop zones on Android");
+        if (dragAllChain == null) {
+            dragAllChain = buildDragChain(snapshots.current());
+        }
+        if (dragAllChain != null) {
+            dragAllChain.perform(driver);
+        } else {
+            for (Map.Entry<String, String> pair : DRAG_DROP_PAIRS.entrySet()) {
+                performDragDropForPairs(pair);
+            }
+        }
+        waitForElementsToSettle(BOARD_ELEMENTS);
+    }
+
+    /**
+     * Compose every tile-to-zone drag into a single gesture using centers from one UI snapshot,
+     * or return null if any tile or zone is not on screen
+     */
+    private Gesture buildDragChain(UiSnapshot snapshot) {
+        GestureBuilder builder = GestureBuilder.create();
         for (Map.Entry<String, String> pair : DRAG_DROP_PAIRS.entrySet()) {
-            performDragDropForPairs(pair);
+            Rectangle tile = snapshot.getBounds(LOCATORS.query("drag.tile", pair.getKey()));
+            Rectangle zone = snapshot.getBounds(LOCATORS.query("drag.dropZone", pair.getValue()));
+            if (tile == null || zone == null) {
+                log.warn("Cannot prebuild drag chain, {} -> {} not on screen", pair.getKey(), pair.getValue());
+                return null;
+            }
+            builder.drag(center(tile), center(zone), Duration.ZERO, dragDuration()).pause(DRAG_GAP);
         }
+        return builder.build();
+    }
+
+    /**
+     * Calibrate the drag duration for this device once: drag the first tile onto its zone and reset
+     */
+    @Override
+    public Duration calibrateDrag() {
+        log.info("Calibrating drag duration on Android");
+        if (calibrator.isCalibrated(GestureCalibrator.Kind.DRAG)) {
+            return dragDuration();
+        }
+        UiSnapshot snapshot = snapshots.current();
+        Rectangle tile = snapshot.getBounds(DRAGGABLE_NODE);
+        Rectangle zone = snapshot.getBounds(DROP_ZONE_NODE);
+        if (tile == null || zone == null) {
+            log.warn("Drag calibration skipped, tile or drop zone not on screen");
+            return dragDuration();
+        }
+        return calibrator.calibrate(GestureCalibrator.Kind.DRAG, calibrator.positionProbe(DRAGGABLE_NODE,
+                duration -> GestureBuilder.create().drag(center(tile), center(zone), Duration.ZERO, duration).build(),
+                this::resetDragDrop));
+    }
+
+    private Duration dragDuration() {
+        return calibrator.duration(GestureCalibrator.Kind.DRAG);
+    }
+
+    private static Point center(Rectangle rect) {
+        return new Point(rect.getX() + rect.getWidth() / 2, rect.getY() + rect.getHeight() / 2);
     }
 
     private void performDragDropForPairs(Map.Entry<String, String> pair) {
-        WebElement draggable = wait.untilVisible(AppiumBy.accessibilityId(pair.getKey()));
-        WebElement dropZone = wait.untilVisible(AppiumBy.accessibilityId(pair.getValue()));
+        WebElement draggable = wait.untilVisible(LOCATORS.by("drag.tile", pair.getKey()));
+        WebElement dropZone = wait.untilVisible(LOCATORS.by("drag.dropZone", pair.getValue()));
         performDragDrop(
                 draggable.getLocation().getX() + draggable.getSize().getWidth() / 2,
                 draggable.getLocation().getY() + draggable.getSize().getHeight() / 2,
@@ -89,18 +183,29 @@ public class AndroidDragPage extends BasePage implements DragPage {
     public boolean isElementDroppedSuccessfully() {
         log.info("Checking if single element was dropped successfully");
         
-        // Brief pause for UI to settle after drag animation
-        wait.forDuration(Duration.ofMillis(300));
+        // Wait for the drag animation to settle instead of a fixed pause
+        waitForElementsToSettle(List.of(DRAGGABLE_ELEMENT, DROP_ZONE));
         return isElementAtDropZone();
     }
 
+    /**
+     * Wait until all given elements stop moving; tiles removed after a drop count as settled
+     */
+    private void waitForElementsToSettle(List<By> locators) {
+        try {
+            wait.untilGeometryStable(locators);
+        } catch (Exception e) {
+            log.warn("Elements did not settle after drag: {}", e.getMessage());
+        }
+    }
+
     /**
      * Check if draggable element is now at the drop zone position
      */
     private boolean isElementAtDropZone() {
         try {
-            WebElement draggable = driver.findElement(DRAGGABLE_ELEMENT);
-            WebElement dropZone = driver.findElement(DROP_ZONE);
+            WebElement draggable = find(DRAGGABLE_ELEMENT);
+            WebElement dropZone = find(DROP_ZONE);
             
             int tolerance = 50;
             boolean match = Math.abs(draggable.getLocation().getX() - dropZone.getLocation().getX()) < tolerance
@@ -128,7 +233,21 @@ public class AndroidDragPage extends BasePage implements DragPage {
     public void resetDragDrop() {
         log.info("Resetting drag and drop on Android");
         try {
-            wait.untilVisible(RESET_BUTTON);
+            // The glyph-only button is matched by image; the XPath lookup runs to learn the template
+            // and whenever a confident match did not bring every tile back
+            ImageLocator images = ImageLocator.forDriver(driver);
+            Optional<Point> glyph = images.find(RESET_TEMPLATE, RESET_MIN_SCORE);
+            if (glyph.isPresent()) {
+                new GestureUtils(driver).tap(glyph.get().getX(), glyph.get().getY());
+                snapshots.invalidate();
+                if (snapshots.await(snapshot -> DRAGGABLE_NODES.stream().allMatch(snapshot::isVisible),
+                        RESET_VERIFY_TIMEOUT)) {
+                    return;
+                }
+                log.warn("Tap on the matched reset glyph did not reset the board, using the locator");
+            }
+            WebElement reset = wait.untilVisible(RESET_BUTTON);
+            images.learn(RESET_TEMPLATE, reset.getRect());
             actions.click(RESET_BUTTON);
         } catch (Exception e) {
             log.warn("Reset button not found: {}", e.getMessage());
@@ -138,7 +257,7 @@ public class AndroidDragPage extends BasePage implements DragPage {
     @Override
     public boolean isDraggableElementVisible() {
         try {
-            return actions.isDisplayed(DRAGGABLE_ELEMENT);
+            return isVisibleInSnapshot(DRAGGABLE_NODE);
         } catch (Exception e) {
             return false;
         }
@@ -147,7 +266,7 @@ public class AndroidDragPage extends BasePage implements DragPage {
     @Override
     public boolean isDropZoneVisible() {
         try {
-            return actions.isDisplayed(DROP_ZONE);
+            return isVisibleInSnapshot(DROP_ZONE_NODE);
         } catch (Exception e) {
             return false;
         }
@@ -156,7 +275,7 @@ public class AndroidDragPage extends BasePage implements DragPage {
     @Override
     public String getElementState() {
         try {
-            WebElement draggable = driver.findElement(DRAGGABLE_ELEMENT);
+            WebElement draggable = find(DRAGGABLE_ELEMENT);
             String result = String.format("x:%d,y:%d,visible:%s",
                     draggable.getLocation().getX(),
                     draggable.getLocation().getY(),
@@ -169,12 +288,9 @@ public class AndroidDragPage extends BasePage implements DragPage {
     }
 
     private void performDragDrop(int startX, int startY, int endX, int endY) {
-        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-        Sequence sequence = new Sequence(finger, 0)
-                .addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), startX, startY))
-                .addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()))
-                .addAction(finger.createPointerMove(Duration.ofMillis(500), PointerInput.Origin.viewport(), endX, endY))
-                .addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-        driver.perform(Collections.singletonList(sequence));
+        GestureBuilder.create()
+                .drag(new Point(startX, startY), new Point(endX, endY), Duration.ZERO, dragDuration())
+                .build()
+                .perform(driver);
     }
 }
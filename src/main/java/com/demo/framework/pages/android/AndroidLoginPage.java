@@ -1,8 +1,9 @@
 package com.demo.framework.pages.android;
 
+import com.demo.framework.locators.LocatorRegistry;
 import com.demo.framework.pages.BasePage;
 import com.demo.framework.pages.interfaces.LoginPage;
-import io.appium.java_client.AppiumBy;
+import com.demo.framework.snapshot.UiQuery;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
 
@@ -12,16 +13,15 @@ import org.openqa.selenium.By;
 @Slf4j
 public class AndroidLoginPage extends BasePage implements LoginPage {
 
-    private static final By LOGIN_SCREEN = AppiumBy.accessibilityId("Login-screen");
-    private static final By EMAIL_INPUT = AppiumBy.accessibilityId("input-email");
-    private static final By PASSWORD_INPUT = AppiumBy.accessibilityId("input-password");
-    private static final By LOGIN_BUTTON = AppiumBy.accessibilityId("button-LOGIN");
-    private static final By INVALID_EMAIL_ERROR_MESSAGE = AppiumBy.androidUIAutomator(
-            "new UiSelector().text(\"Please enter a valid email address\")");
-    private static final By INVALID_PASSWORD_ERROR_MESSAGE = AppiumBy.androidUIAutomator(
-            "new UiSelector().text(\"Please enter at least 8 characters\")");
-    private static final By SUCCESS_TITLE = AppiumBy.id("android:id/alertTitle");
-    private static final By SUCCESS_MESSAGE = AppiumBy.id("android:id/message");
+    private static final LocatorRegistry LOCATORS = LocatorRegistry.android();
+    private static final By LOGIN_SCREEN = LOCATORS.by("login.screen");
+    private static final By EMAIL_INPUT = LOCATORS.by("login.emailInput");
+    private static final By PASSWORD_INPUT = LOCATORS.by("login.passwordInput");
+    private static final By LOGIN_BUTTON = LOCATORS.by("login.loginButton");
+    private static final UiQuery INVALID_EMAIL_ERROR_MESSAGE = LOCATORS.query("login.invalidEmailError");
+    private static final UiQuery INVALID_PASSWORD_ERROR_MESSAGE = LOCATORS.query("login.invalidPasswordError");
+    private static final By SUCCESS_TITLE = LOCATORS.by("login.successTitle");
+    private static final By SUCCESS_MESSAGE = LOCATORS.by("login.successMessage");
 
     @Override
     public boolean isPageLoaded() {
@@ -56,13 +56,13 @@ public class AndroidLoginPage extends BasePage implements LoginPage {
     @Override
     public boolean isInvalidEmailErrorMessageDisplayed() {
         log.info("Checking if email error message is displayed on Android");
-        return actions.isDisplayed(INVALID_EMAIL_ERROR_MESSAGE);
+        return isVisibleInSnapshot(INVALID_EMAIL_ERROR_MESSAGE);
     }
 
     @Override
     public boolean isInvalidPasswordErrorMessageDisplayed() {
         log.info("Checking if password error message is displayed on Android");
-        return actions.isDisplayed(INVALID_PASSWORD_ERROR_MESSAGE);
+        return isVisibleInSnapshot(INVALID_PASSWORD_ERROR_MESSAGE);
     }
 
     @Override
@@ -70,7 +70,7 @@ public class AndroidLoginPage extends BasePage implements LoginPage {
         log.info("Checking if login was successful on Android");
         try {
             String title = wait.untilVisible(SUCCESS_TITLE).getText();
-            String message = driver.findElement(SUCCESS_MESSAGE).getText();
+            String message = find(SUCCESS_MESSAGE).getText();
             return "Success".equals(title) && "You are logged in!".equals(message);
         } catch (Exception e) {
             log.warn("Login success check failed: {}", e.getMessage());
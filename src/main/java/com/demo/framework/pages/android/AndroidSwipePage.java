@@ -1,27 +1,44 @@
 package com.demo.framework.pages.android;
 
+import com.demo.framework.gestures.CarouselNavigator;
+import com.demo.framework.gestures.ScrollConvergence;
+import com.demo.framework.gestures.ScrollDirection;
+import com.demo.framework.gestures.ScrollEngine;
+import com.demo.framework.gestures.ScrollResult;
+import com.demo.framework.locators.LocatorRegistry;
 import com.demo.framework.pages.BasePage;
 import com.demo.framework.pages.interfaces.SwipePage;
+import com.demo.framework.snapshot.UiQuery;
 import com.demo.framework.utils.GestureUtils;
-import io.appium.java_client.AppiumBy;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
 
+import java.time.Duration;
+
 /**
  * Android implementation of Swipe Page
  */
 @Slf4j
 public class AndroidSwipePage extends BasePage implements SwipePage {
 
-    private static final By SWIPE_SCREEN = AppiumBy.accessibilityId("Swipe-screen");
-    private static final By HIDDEN_TEXT = AppiumBy.androidUIAutomator(
-            "new UiSelector().text(\"You found me!!!\")");
+    private static final LocatorRegistry LOCATORS = LocatorRegistry.android();
+    private static final By SWIPE_SCREEN = LOCATORS.by("swipe.screen");
+    private static final By HIDDEN_TEXT = LOCATORS.by("swipe.hiddenText");
+    private static final UiQuery HIDDEN_TEXT_QUERY = LOCATORS.query("swipe.hiddenText");
+    private static final UiQuery CAROUSEL_QUERY = LOCATORS.query("swipe.carousel");
+    private static final int MAX_CARD_SWIPES = 10;
 
     private final GestureUtils gesture;
+    private final ScrollEngine scroller;
+    private final CarouselNavigator carousel;
+    private final ScrollConvergence convergence;
 
     public AndroidSwipePage() {
         super();
         this.gesture = new GestureUtils(driver);
+        this.scroller = ScrollEngine.forDriver(driver);
+        this.carousel = new CarouselNavigator(driver, CAROUSEL_QUERY);
+        this.convergence = new ScrollConvergence(driver, CAROUSEL_QUERY);
     }
 
     @Override
@@ -40,41 +57,45 @@ public class AndroidSwipePage extends BasePage implements SwipePage {
     @Override
     public void swipeToCard(String cardName) {
         log.info("Swiping to card: {} on Android", cardName);
-        int maxSwipes = 10;
-        for (int i = 0; i < maxSwipes; i++) {
-            if (isCardDisplayed(cardName)) {
-                log.info("Card '{}' found after {} swipes", cardName, i);
-                return;
-            }
+        if (carousel.navigateTo(cardName, () -> isCardDisplayed(cardName))) {
+            log.info("Card '{}' reached", cardName);
+            return;
+        }
+        log.debug("Carousel navigation did not reach '{}', falling back to swipe-and-check", cardName);
+        ScrollResult result = convergence.scrollUntil(() -> isCardDisplayed(cardName), () -> {
             gesture.swipeLeft();
+            carousel.onSwiped(1);
+        }, MAX_CARD_SWIPES);
+        switch (result) {
+            case FOUND -> log.info("Card '{}' found", cardName);
+            case REACHED_END -> log.warn("Card '{}' not found: reached end of carousel", cardName);
+            case LIMIT_REACHED -> log.warn("Card '{}' not found after {} swipes", cardName, MAX_CARD_SWIPES);
         }
-        log.warn("Card '{}' not found after {} swipes", cardName, maxSwipes);
+    }
+
+    @Override
+    public Duration calibrateSwipe() {
+        log.info("Calibrating swipe duration on Android");
+        return gesture.calibrateSwipe(CAROUSEL_QUERY);
     }
 
     @Override
     public void scrollDownToFindHiddenElement() {
         log.info("Scrolling down to find hidden element on Android");
-        int maxScrolls = 5;
-        for (int i = 0; i < maxScrolls; i++) {
-            if (isHiddenTextFound()) {
-                log.info("Hidden element found after {} scrolls", i);
-                return;
-            }
-            gesture.scrollDown();
+        if (scroller.scrollIntoView(HIDDEN_TEXT_QUERY)) {
+            log.info("Hidden element scrolled into view");
+        } else {
+            log.warn("Hidden element not found before end of content");
         }
-        log.warn("Hidden element not found after {} scrolls", maxScrolls);
     }
 
     @Override
     public void scrollToTop() {
         log.info("Scrolling to top on Android");
-        int maxScrolls = 5;
-        for (int i = 0; i < maxScrolls; i++) {
-            gesture.scrollUp();
-            if (isPageLoaded()) {
-                log.info("Reached top after {} scrolls", i);
-                return;
-            }
+        if (scroller.scrollToEdge(ScrollDirection.UP)) {
+            log.info("Reached top of content");
+        } else {
+            log.warn("Top of content not reached");
         }
     }
 
@@ -91,8 +112,7 @@ public class AndroidSwipePage extends BasePage implements SwipePage {
     @Override
     public boolean isCardDisplayed(String cardName) {
         try {
-            By cardLocator = AppiumBy.androidUIAutomator(
-                    String.format("new UiSelector().textContains(\"%s\")", cardName));
+            By cardLocator = LOCATORS.by("swipe.card", cardName);
             // Use quick check without wait for swipe loops
             return actions.isDisplayedQuick(cardLocator);
         } catch (Exception e) {
@@ -1,12 +1,17 @@
 package com.demo.framework.pages.android;
 
+import com.demo.framework.locators.LocatorRegistry;
 import com.demo.framework.pages.BasePage;
 import com.demo.framework.pages.interfaces.WebViewPage;
+import com.demo.framework.utils.ContextManager;
 import com.demo.framework.utils.GestureUtils;
-import io.appium.java_client.AppiumBy;
+import com.demo.framework.webview.WebViewDevTools;
 import io.appium.java_client.android.AndroidDriver;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+
+import java.util.function.Predicate;
 
 /**
  * Android implementation of WebView Page
@@ -14,10 +19,14 @@ import org.openqa.selenium.By;
 @Slf4j
 public class AndroidWebViewPage extends BasePage implements WebViewPage {
 
-    private static final By VIEW_ON_GITHUB_BUTTON = AppiumBy.accessibilityId("View on GitHub");
-    private static final By WEB_CONTENT = By.cssSelector("body");
-    private static final By WEB_TITLE = By.cssSelector("h1, .hero__title");
-    private static final By WEB_LOGO = By.cssSelector(".hero__logo img");
+    private static final LocatorRegistry LOCATORS = LocatorRegistry.android();
+    private static final By VIEW_ON_GITHUB_BUTTON = LOCATORS.by("webview.viewOnGitHubButton");
+    private static final By WEB_CONTENT = LOCATORS.by("webview.content");
+    private static final By WEB_TITLE = LOCATORS.by("webview.title");
+    private static final By WEB_LOGO = LOCATORS.by("webview.logo");
+    private static final String CONTENT_CSS = LOCATORS.definition("webview.content").getTemplate().getSource();
+    private static final String TITLE_CSS = LOCATORS.definition("webview.title").getTemplate().getSource();
+    private static final String LOGO_CSS = LOCATORS.definition("webview.logo").getTemplate().getSource();
 
     private final GestureUtils gesture;
 
@@ -42,9 +51,13 @@ public class AndroidWebViewPage extends BasePage implements WebViewPage {
     @Override
     public boolean isWebViewDisplayed() {
         log.info("Checking if WebView is displayed on Android");
+        Boolean viaDevTools = queryDevTools(devTools -> devTools.exists(CONTENT_CSS));
+        if (viaDevTools != null) {
+            return viaDevTools;
+        }
         try {
             wait.untilVisible(WEB_CONTENT);
-            return driver.findElement(WEB_CONTENT).isDisplayed();
+            return find(WEB_CONTENT).isDisplayed();
         } catch (Exception e) {
             log.warn("WebView not displayed: {}", e.getMessage());
             return false;
@@ -54,6 +67,16 @@ public class AndroidWebViewPage extends BasePage implements WebViewPage {
     @Override
     public boolean isWebViewContentPresent() {
         log.info("Checking if WebView content is present on Android");
+        Boolean viaDevTools = queryDevTools(devTools -> {
+            if (devTools.exists(TITLE_CSS) || devTools.exists(LOGO_CSS)) {
+                return true;
+            }
+            String bodyText = devTools.textOf(CONTENT_CSS);
+            return bodyText != null && !bodyText.isBlank();
+        });
+        if (viaDevTools != null) {
+            return viaDevTools;
+        }
         try {
             // Try to find title or logo with explicit wait
             try {
@@ -67,7 +90,7 @@ public class AndroidWebViewPage extends BasePage implements WebViewPage {
                 } catch (Exception logoEx) {
                     // Final fallback - check body has content
                     wait.untilVisible(WEB_CONTENT);
-                    String bodyText = driver.findElement(WEB_CONTENT).getText();
+                    String bodyText = find(WEB_CONTENT).getText();
                     return bodyText != null && !bodyText.isEmpty();
                 }
             }
@@ -103,4 +126,24 @@ public class AndroidWebViewPage extends BasePage implements WebViewPage {
             }
         }
     }
+
+    /**
+     * Answer a DOM query over the WebView's DevTools socket when enabled, polling until it is true or the
+     * wait times out; null means the chromedriver context is needed, which is then switched to.
+     */
+    private Boolean queryDevTools(Predicate<WebViewDevTools> query) {
+        if (!WebViewDevTools.isEnabledFor(driver)) {
+            return null;
+        }
+        try {
+            WebViewDevTools devTools = WebViewDevTools.forDriver(driver);
+            return wait.untilCondition(d -> query.test(devTools));
+        } catch (TimeoutException e) {
+            return false;
+        } catch (Exception e) {
+            log.warn("WebView DevTools query failed, falling back to chromedriver: {}", e.getMessage());
+            ContextManager.forDriver(driver).switchToWebView();
+            return null;
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package com.demo.framework.pages.interfaces;
 
+import java.time.Duration;
+
 /**
  * Interface for Drag and Drop Page
  */
@@ -25,5 +27,10 @@ public interface DragPage {
 
 
     String getElementState();
+
+    /**
+     * Calibrate the drag duration for this device with the first tile; run from the calibration suite only
+     */
+    Duration calibrateDrag();
 }
 
@@ -1,5 +1,7 @@
 package com.demo.framework.pages.interfaces;
 
+import java.time.Duration;
+
 /**
  * Interface for Swipe/Carousel Page
  */
@@ -16,5 +18,10 @@ public interface SwipePage {
     boolean isCardDisplayed(String cardName);
 
     boolean isHiddenTextFound();
+
+    /**
+     * Calibrate the swipe duration for this device on the carousel; run from the calibration suite only
+     */
+    Duration calibrateSwipe();
 }
 
@@ -1,8 +1,8 @@
 package com.demo.framework.pages.ios;
 
+import com.demo.framework.locators.LocatorRegistry;
 import com.demo.framework.pages.BasePage;
 import com.demo.framework.pages.interfaces.HomePage;
-import io.appium.java_client.AppiumBy;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
 
@@ -12,11 +12,12 @@ import org.openqa.selenium.By;
 @Slf4j
 public class IOSHomePage extends BasePage implements HomePage {
 
-    private static final By HOME_SCREEN = AppiumBy.accessibilityId("Home-screen");
-    private static final By LOGIN_BUTTON = AppiumBy.accessibilityId("Login");
-    private static final By SWIPE_BUTTON = AppiumBy.accessibilityId("Swipe");
-    private static final By WEBVIEW_BUTTON = AppiumBy.accessibilityId("Webview");
-    private static final By DRAG_BUTTON = AppiumBy.accessibilityId("Drag");
+    private static final LocatorRegistry LOCATORS = LocatorRegistry.ios();
+    private static final By HOME_SCREEN = LOCATORS.by("home.screen");
+    private static final By LOGIN_BUTTON = LOCATORS.by("home.loginButton");
+    private static final By SWIPE_BUTTON = LOCATORS.by("home.swipeButton");
+    private static final By WEBVIEW_BUTTON = LOCATORS.by("home.webViewButton");
+    private static final By DRAG_BUTTON = LOCATORS.by("home.dragButton");
 
     @Override
     public String getPageTitle() {
@@ -1,14 +1,21 @@
 package com.demo.framework.pages.ios;
 
+import com.demo.framework.gestures.CarouselNavigator;
+import com.demo.framework.gestures.ScrollConvergence;
+import com.demo.framework.gestures.ScrollDirection;
+import com.demo.framework.gestures.ScrollEngine;
+import com.demo.framework.gestures.ScrollResult;
+import com.demo.framework.locators.LocatorRegistry;
 import com.demo.framework.pages.BasePage;
 import com.demo.framework.pages.interfaces.SwipePage;
+import com.demo.framework.snapshot.UiQuery;
 import com.demo.framework.utils.GestureUtils;
-import io.appium.java_client.AppiumBy;
 import io.appium.java_client.ios.IOSDriver;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
 import org.openqa.selenium.remote.RemoteWebElement;
 
+import java.time.Duration;
 import java.util.Map;
 
 /**
@@ -17,15 +24,24 @@ import java.util.Map;
 @Slf4j
 public class IOSSwipePage extends BasePage implements SwipePage {
 
-    private static final By SWIPE_SCREEN = AppiumBy.accessibilityId("Swipe-screen");
-    private static final By CAROUSEL = AppiumBy.accessibilityId("Carousel");
-    private static final By HIDDEN_TEXT = AppiumBy.iOSClassChain(
-            "**/XCUIElementTypeStaticText[`name == \"You found me!!!\"`]");
+    private static final LocatorRegistry LOCATORS = LocatorRegistry.ios();
+    private static final By SWIPE_SCREEN = LOCATORS.by("swipe.screen");
+    private static final By CAROUSEL = LOCATORS.by("swipe.carousel");
+    private static final By HIDDEN_TEXT = LOCATORS.by("swipe.hiddenText");
+    private static final UiQuery HIDDEN_TEXT_QUERY = LOCATORS.query("swipe.hiddenText");
+    private static final UiQuery CAROUSEL_QUERY = LOCATORS.query("swipe.carousel");
+    private static final int MAX_CARD_SWIPES = 10;
     private final GestureUtils gesture;
+    private final ScrollEngine scroller;
+    private final CarouselNavigator carousel;
+    private final ScrollConvergence convergence;
 
     public IOSSwipePage() {
         super();
         this.gesture = new GestureUtils(driver);
+        this.scroller = ScrollEngine.forDriver(driver);
+        this.carousel = new CarouselNavigator(driver, CAROUSEL_QUERY);
+        this.convergence = new ScrollConvergence(driver, CAROUSEL_QUERY);
     }
 
     @Override
@@ -44,15 +60,26 @@ public class IOSSwipePage extends BasePage implements SwipePage {
     @Override
     public void swipeToCard(String cardName) {
         log.info("Swiping to card: {} on iOS", cardName);
-        int maxSwipes = 10;
-        for (int i = 0; i < maxSwipes; i++) {
-            if (isCardDisplayed(cardName)) {
-                log.info("Card '{}' found after {} swipes", cardName, i);
-                return;
-            }
+        if (carousel.navigateTo(cardName, () -> isCardDisplayed(cardName))) {
+            log.info("Card '{}' reached", cardName);
+            return;
+        }
+        log.debug("Carousel navigation did not reach '{}', falling back to swipe-and-check", cardName);
+        ScrollResult result = convergence.scrollUntil(() -> isCardDisplayed(cardName), () -> {
             swipeLeftOnCarousel();
+            carousel.onSwiped(1);
+        }, MAX_CARD_SWIPES);
+        switch (result) {
+            case FOUND -> log.info("Card '{}' found", cardName);
+            case REACHED_END -> log.warn("Card '{}' not found: reached end of carousel", cardName);
+            case LIMIT_REACHED -> log.warn("Card '{}' not found after {} swipes", cardName, MAX_CARD_SWIPES);
         }
-        log.warn("Card '{}' not found after {} swipes", cardName, maxSwipes);
+    }
+
+    @Override
+    public Duration calibrateSwipe() {
+        log.info("Calibrating swipe duration on iOS");
+        return gesture.calibrateSwipe(CAROUSEL_QUERY);
     }
 
     /**
@@ -60,12 +87,13 @@ public class IOSSwipePage extends BasePage implements SwipePage {
      */
     private void swipeLeftOnCarousel() {
         try {
-            RemoteWebElement carousel = (RemoteWebElement) driver.findElement(CAROUSEL);
+            RemoteWebElement carousel = (RemoteWebElement) find(CAROUSEL);
             ((IOSDriver) driver).executeScript("mobile: swipe", Map.of(
                     "elementId", carousel.getId(),
                     "direction", "left",
                     "velocity", 1500
             ));
+            screenChanged();
             log.info("iOS swipe left executed on carousel");
         } catch (Exception e) {
             log.warn("iOS mobile:swipe failed, falling back to gesture: {}", e.getMessage());
@@ -76,27 +104,20 @@ public class IOSSwipePage extends BasePage implements SwipePage {
     @Override
     public void scrollDownToFindHiddenElement() {
         log.info("Scrolling down to find hidden element on iOS");
-        int maxScrolls = 5;
-        for (int i = 0; i < maxScrolls; i++) {
-            if (isHiddenTextFound()) {
-                log.info("Hidden element found after {} scrolls", i);
-                return;
-            }
-            gesture.scrollDown();
+        if (scroller.scrollIntoView(HIDDEN_TEXT_QUERY)) {
+            log.info("Hidden element scrolled into view");
+        } else {
+            log.warn("Hidden element not found before end of content");
         }
-        log.warn("Hidden element not found after {} scrolls", maxScrolls);
     }
 
     @Override
     public void scrollToTop() {
         log.info("Scrolling to top on iOS");
-        int maxScrolls = 5;
-        for (int i = 0; i < maxScrolls; i++) {
-            gesture.scrollUp();
-            if (isPageLoaded()) {
-                log.info("Reached top after {} scrolls", i);
-                return;
-            }
+        if (scroller.scrollToEdge(ScrollDirection.UP)) {
+            log.info("Reached top of content");
+        } else {
+            log.warn("Top of content not reached");
         }
     }
 
@@ -114,8 +135,7 @@ public class IOSSwipePage extends BasePage implements SwipePage {
     public boolean isCardDisplayed(String cardName) {
         try {
             // Look for the card title specifically - the card header text that shows the card name
-            By cardLocator = AppiumBy.iOSClassChain(
-                    String.format("**/XCUIElementTypeStaticText[`name == \"%s\"`]", cardName));
+            By cardLocator = LOCATORS.by("swipe.card", cardName);
             // Use quick check without wait for swipe loops
             return actions.isDisplayedQuick(cardLocator);
         } catch (Exception e) {
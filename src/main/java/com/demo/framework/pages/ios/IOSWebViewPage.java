@@ -1,9 +1,9 @@
 package com.demo.framework.pages.ios;
 
+import com.demo.framework.locators.LocatorRegistry;
 import com.demo.framework.pages.BasePage;
 import com.demo.framework.pages.interfaces.WebViewPage;
 import com.demo.framework.utils.GestureUtils;
-import io.appium.java_client.AppiumBy;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
 
@@ -13,11 +13,11 @@ import org.openqa.selenium.By;
 @Slf4j
 public class IOSWebViewPage extends BasePage implements WebViewPage {
 
-    private static final By WEB_LOGO = By.cssSelector(".hero__logo img");
-    private static final By WEB_TITLE = By.cssSelector("h1, .hero__title");
-    private static final By WEB_GITHUB_LINK = AppiumBy.iOSClassChain(
-            "**/XCUIElementTypeStaticText[`name == \"View on GitHub\"`]");
-    private static final By WEB_CONTENT = By.cssSelector("body");
+    private static final LocatorRegistry LOCATORS = LocatorRegistry.ios();
+    private static final By WEB_LOGO = LOCATORS.by("webview.logo");
+    private static final By WEB_TITLE = LOCATORS.by("webview.title");
+    private static final By WEB_GITHUB_LINK = LOCATORS.by("webview.viewOnGitHubButton");
+    private static final By WEB_CONTENT = LOCATORS.by("webview.content");
 
     private final GestureUtils gesture;
 
@@ -61,7 +61,7 @@ public class IOSWebViewPage extends BasePage implements WebViewPage {
                 } catch (Exception logoEx) {
                     // Final fallback - check body has content
                     wait.untilVisible(WEB_CONTENT);
-                    String bodyText = driver.findElement(WEB_CONTENT).getText();
+                    String bodyText = find(WEB_CONTENT).getText();
                     return bodyText != null && !bodyText.isEmpty();
                 }
             }
@@ -86,9 +86,7 @@ public class IOSWebViewPage extends BasePage implements WebViewPage {
     public boolean isGitHubPageOpened(String expectedUrl) {
         log.info("Checking if GitHub page is opened on iOS");
         try {
-            By githubNavigation = AppiumBy.iOSClassChain(
-                    "**/XCUIElementTypeOther[`name == \"Organization, navigation\"`]"
-                    + "/XCUIElementTypeOther/XCUIElementTypeOther[1]");
+            By githubNavigation = LOCATORS.by("webview.githubNavigation");
             
             wait.untilVisible(githubNavigation);
             return actions.isDisplayed(githubNavigation);
@@ -0,0 +1,80 @@
+package com.demo.framework.perf;
+
+import java.util.Locale;
+
+/**
+ * Renders a {@link PerfSeries} as an SVG line chart, one panel per metric, for the Allure report
+ */
+final class PerfChart {
+
+    private static final int WIDTH = 720;
+    private static final int PANEL_HEIGHT = 110;
+    private static final int MARGIN_LEFT = 70;
+    private static final int MARGIN_RIGHT = 20;
+    private static final int TITLE_HEIGHT = 22;
+    private static final int GAP = 18;
+    private static final String[] COLORS = {"#d9480f", "#1971c2", "#2f9e44", "#7048e8"};
+
+    private PerfChart() {
+    }
+
+    static String svg(PerfSeries series, String title) {
+        long[] times = series.times();
+        PerfSeries.Metric[] metrics = PerfSeries.Metric.values();
+        int height = TITLE_HEIGHT + metrics.length * (PANEL_HEIGHT + GAP);
+        StringBuilder svg = new StringBuilder(8192);
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(WIDTH)
+                .append("\" height=\"").append(height).append("\" font-family=\"sans-serif\" font-size=\"11\">\n")
+                .append("<rect width=\"100%\" height=\"100%\" fill=\"white\"/>\n")
+                .append("<text x=\"").append(MARGIN_LEFT).append("\" y=\"15\" font-size=\"13\" font-weight=\"bold\">")
+                .append(escape(title)).append("</text>\n");
+
+        long duration = times.length > 0 ? Math.max(1, times[times.length - 1] - times[0]) : 1;
+        int plotWidth = WIDTH - MARGIN_LEFT - MARGIN_RIGHT;
+        for (int panel = 0; panel < metrics.length; panel++) {
+            PerfSeries.Metric metric = metrics[panel];
+            int top = TITLE_HEIGHT + panel * (PANEL_HEIGHT + GAP) + GAP;
+            PerfSeries.Summary summary = series.summary(metric);
+            svg.append("<rect x=\"").append(MARGIN_LEFT).append("\" y=\"").append(top)
+                    .append("\" width=\"").append(plotWidth).append("\" height=\"").append(PANEL_HEIGHT)
+                    .append("\" fill=\"#f8f9fa\" stroke=\"#ced4da\"/>\n")
+                    .append("<text x=\"").append(MARGIN_LEFT).append("\" y=\"").append(top - 4).append("\">")
+                    .append(metric.getLabel());
+            if (summary == null) {
+                svg.append(" (no data)</text>\n");
+                continue;
+            }
+            if (!metric.getUnit().isEmpty()) {
+                svg.append(" (").append(metric.getUnit()).append(')');
+            }
+            svg.append(String.format(Locale.ROOT, ": min %.1f, max %.1f, p95 %.1f</text>%n",
+                    summary.min(), summary.max(), summary.p95()));
+
+            double low = Math.min(0, summary.min());
+            double range = Math.max(1e-9, summary.max() - low);
+            svg.append(axisLabel(top + 10, summary.max())).append(axisLabel(top + PANEL_HEIGHT, low))
+                    .append("<polyline fill=\"none\" stroke-width=\"1.5\" stroke=\"").append(COLORS[panel])
+                    .append("\" points=\"");
+            double[] values = series.values(metric);
+            for (int i = 0; i < values.length; i++) {
+                if (Double.isNaN(values[i])) {
+                    continue;
+                }
+                double x = MARGIN_LEFT + (times[i] - times[0]) * (double) plotWidth / duration;
+                double y = top + PANEL_HEIGHT - (values[i] - low) * PANEL_HEIGHT / range;
+                svg.append(String.format(Locale.ROOT, "%.1f,%.1f ", x, y));
+            }
+            svg.append("\"/>\n");
+        }
+        return svg.append("</svg>\n").toString();
+    }
+
+    private static String axisLabel(int y, double value) {
+        return String.format(Locale.ROOT, "<text x=\"%d\" y=\"%d\" text-anchor=\"end\" fill=\"#495057\">%.0f</text>%n",
+                MARGIN_LEFT - 6, y, value);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,308 @@
+package com.demo.framework.perf;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.drivers.SessionScope;
+import com.demo.framework.drivers.device.AdbCommand;
+import com.demo.framework.drivers.device.DeviceProfile;
+import com.demo.framework.drivers.device.HostCommand;
+import com.demo.framework.exceptions.FrameworkException;
+import com.demo.framework.metrics.FrameworkMetrics;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
+import io.qameta.allure.Allure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Samples CPU, memory and thread count of the app under test in the background of a session.
+ * <p>
+ * Android samples come from the test host through adb: CPU time and threads from {@code /proc/<pid>/stat} and
+ * {@code status}, PSS and Java + native heap from {@code dumpsys meminfo}, the same source as
+ * {@code mobile: getPerformanceData} without occupying the session. iOS simulator apps run as host processes:
+ * the pid comes from {@code simctl spawn launchctl list}, CPU, RSS and threads from {@code ps}. On iOS memory
+ * is RSS and heap is not sampled.
+ * <p>
+ * {@link #report} summarizes the series (min/max/p95), attaches an SVG chart and the JSON series to Allure and
+ * exports the JSON to {@code perf.dir} for trend analysis. Disabled with {@code perf.enabled=false}.
+ */
+public final class PerfSampler implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PerfSampler.class);
+    private static final long COMMAND_TIMEOUT_SECONDS = 10;
+    private static final double ANDROID_CLOCK_TICKS = 100;
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private static final Pattern THREADS = Pattern.compile("^Threads:\\s+(\\d+)", Pattern.MULTILINE);
+    /**
+     * {@code TOTAL PSS:} of the app summary, or the first column of the {@code TOTAL} row on older releases
+     */
+    private static final Pattern TOTAL_PSS =
+            Pattern.compile("TOTAL PSS:\\s+(\\d+)|^\\s*TOTAL\\s+(\\d+)", Pattern.MULTILINE);
+    private static final Pattern JAVA_HEAP = Pattern.compile("Java Heap:\\s+(\\d+)");
+    private static final Pattern NATIVE_HEAP = Pattern.compile("Native Heap:\\s+(\\d+)");
+
+    private static final boolean ENABLED;
+    private static final long INTERVAL_MS;
+    private static final Path EXPORT_DIR;
+
+    static {
+        ConfigProvider config = ConfigProvider.getDefault();
+        ENABLED = config.getBoolean("perf.enabled", true);
+        INTERVAL_MS = Math.max(250, config.getInt("perf.intervalMs", 2000));
+        EXPORT_DIR = Paths.get(config.getString("perf.dir", "build/perf"));
+    }
+
+    private final boolean android;
+    private final String appId;
+    private final String udid;
+    private final String device;
+    private final PerfSeries series = new PerfSeries();
+    private final ScheduledExecutorService executor;
+    private final long startNanos = System.nanoTime();
+    private final AdbCommand adb;
+    private int pid = -1;
+    private long lastCpuTicks = -1;
+    private long lastCpuNanos;
+    private boolean failureLogged;
+
+    private PerfSampler(AppiumDriver driver) {
+        this.android = driver instanceof AndroidDriver;
+        this.udid = DeviceProfile.udid(driver.getCapabilities());
+        this.device = DeviceProfile.key(driver.getCapabilities());
+        this.appId = DeviceProfile.appId(driver);
+        if (appId == null) {
+            throw new FrameworkException("App under test is unknown, cannot sample its performance");
+        }
+        this.adb = android ? AdbCommand.forDevice(udid) : null;
+        if (!android && udid == null) {
+            throw new FrameworkException("Simulator UDID is needed to sample app performance");
+        }
+        this.executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "perf-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Get sampler of the session of the given driver, not yet started
+     */
+    public static PerfSampler forDriver(AppiumDriver driver) {
+        return SessionScope.of(driver).get(PerfSampler.class, () -> new PerfSampler(driver));
+    }
+
+    /**
+     * Sample every {@code perf.intervalMs} until the session ends
+     */
+    public void start() {
+        executor.scheduleWithFixedDelay(this::sample, 0, INTERVAL_MS, TimeUnit.MILLISECONDS);
+        LOG.debug("Sampling performance of {} every {} ms", appId, INTERVAL_MS);
+    }
+
+    public PerfSeries getSeries() {
+        return series;
+    }
+
+    /**
+     * Summarize the series, attach chart and JSON to the current Allure test and export the JSON
+     *
+     * @return false if no sample was taken
+     */
+    public boolean report(String testName) {
+        if (series.size() == 0) {
+            return false;
+        }
+        StringBuilder summary = new StringBuilder();
+        for (PerfSeries.Metric metric : PerfSeries.Metric.values()) {
+            PerfSeries.Summary stats = series.summary(metric);
+            if (stats != null) {
+                summary.append(String.format(Locale.ROOT, "%s%s min %.1f max %.1f p95 %.1f",
+                        summary.length() > 0 ? ", " : "", metric.getKey(), stats.min(), stats.max(), stats.p95()));
+            }
+        }
+        LOG.info("App performance of {} ({} samples): {}", testName, series.size(), summary);
+
+        String json = GSON.toJson(toJson(testName));
+        Allure.addAttachment("App performance", "image/svg+xml",
+                PerfChart.svg(series, appId + " - " + testName), "svg");
+        Allure.addAttachment("App performance series", "application/json", json, "json");
+        try {
+            Files.createDirectories(EXPORT_DIR);
+            Files.writeString(EXPORT_DIR.resolve(testName.replaceAll("[^\\w.-]+", "_") + ".json"), json,
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOG.warn("Unable to export performance series of {}: {}", testName, e.getMessage());
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void sample() {
+        long start = System.nanoTime();
+        try {
+            if (android) {
+                sampleAndroid();
+            } else {
+                sampleSimulator();
+            }
+            FrameworkMetrics.record("perf.sample", System.nanoTime() - start);
+        } catch (FrameworkException e) {
+            // The app may be restarting; resolve the pid again on the next sample
+            pid = -1;
+            lastCpuTicks = -1;
+            if (!failureLogged) {
+                failureLogged = true;
+                LOG.debug("Performance sample of {} failed: {}", appId, e.getMessage());
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Performance sampling of {} stopped: {}", appId, e.getMessage());
+            executor.shutdown();
+        }
+    }
+
+    private void sampleAndroid() {
+        if (pid < 0) {
+            pid = parsePid(adb.run("shell", "pidof", appId));
+        }
+        String proc = adb.run("shell", "cat", "/proc/" + pid + "/stat", "/proc/" + pid + "/status");
+        long now = System.nanoTime();
+        long ticks = cpuTicks(proc);
+        double cpu = lastCpuTicks < 0 ? Double.NaN
+                : (ticks - lastCpuTicks) / ANDROID_CLOCK_TICKS * 100 / ((now - lastCpuNanos) / 1e9);
+        lastCpuTicks = ticks;
+        lastCpuNanos = now;
+        double threads = firstNumber(THREADS, proc);
+
+        String meminfo = adb.run("shell", "dumpsys", "meminfo", String.valueOf(pid));
+        double pss = firstNumber(TOTAL_PSS, meminfo);
+        double heap = firstNumber(JAVA_HEAP, meminfo) + firstNumber(NATIVE_HEAP, meminfo);
+        series.add(elapsedMs(), cpu, pss, heap, threads);
+    }
+
+    private void sampleSimulator() {
+        if (pid < 0) {
+            pid = simulatorPid(exec("xcrun", "simctl", "spawn", udid, "launchctl", "list"), appId);
+        }
+        String[] usage = exec("ps", "-o", "%cpu=,rss=", "-p", String.valueOf(pid)).trim().split("\\s+");
+        if (usage.length < 2) {
+            throw new FrameworkException("No process " + pid);
+        }
+        String threads = exec("ps", "-M", "-p", String.valueOf(pid));
+        series.add(elapsedMs(), Double.parseDouble(usage[0]), Double.parseDouble(usage[1]), Double.NaN,
+                threads.split("\n").length - 1);
+    }
+
+    private long elapsedMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private JsonObject toJson(String testName) {
+        JsonObject json = new JsonObject();
+        json.addProperty("test", testName);
+        json.addProperty("app", appId);
+        json.addProperty("device", device);
+        json.addProperty("intervalMs", INTERVAL_MS);
+        JsonArray times = new JsonArray();
+        for (long time : series.times()) {
+            times.add(time);
+        }
+        json.add("timeMs", times);
+        JsonObject summaries = new JsonObject();
+        for (PerfSeries.Metric metric : PerfSeries.Metric.values()) {
+            JsonArray values = new JsonArray();
+            for (double value : series.values(metric)) {
+                if (Double.isNaN(value)) {
+                    values.add((Number) null);
+                } else {
+                    values.add(value);
+                }
+            }
+            json.add(metric.getKey(), values);
+            PerfSeries.Summary stats = series.summary(metric);
+            if (stats != null) {
+                JsonObject summary = new JsonObject();
+                summary.addProperty("min", stats.min());
+                summary.addProperty("max", stats.max());
+                summary.addProperty("p95", stats.p95());
+                summaries.add(metric.getKey(), summary);
+            }
+        }
+        json.add("summary", summaries);
+        return json;
+    }
+
+    /**
+     * User plus system CPU time in clock ticks, fields 14 and 15 of {@code /proc/<pid>/stat}
+     */
+    static long cpuTicks(String proc) {
+        int end = proc.lastIndexOf(')');
+        if (end < 0) {
+            throw new FrameworkException("Unexpected /proc stat: " + proc.lines().findFirst().orElse(""));
+        }
+        String[] fields = proc.substring(end + 2).split("\\s+", 14);
+        return Long.parseLong(fields[11]) + Long.parseLong(fields[12]);
+    }
+
+    /**
+     * Pid of the app in {@code launchctl list}, whose label is {@code UIKitApplication:<bundle id>[...]}
+     */
+    static int simulatorPid(String launchctl, String bundleId) {
+        for (String line : launchctl.split("\n")) {
+            String[] columns = line.trim().split("\\s+");
+            if (columns.length >= 3 && columns[2].startsWith("UIKitApplication:" + bundleId + "[")) {
+                return parsePid(columns[0]);
+            }
+        }
+        throw new FrameworkException(bundleId + " is not running");
+    }
+
+    static double firstNumber(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        if (!matcher.find()) {
+            return Double.NaN;
+        }
+        for (int group = 1; group <= matcher.groupCount(); group++) {
+            if (matcher.group(group) != null) {
+                return Double.parseDouble(matcher.group(group));
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static int parsePid(String text) {
+        String pid = text.trim();
+        if (!pid.matches("\\d+")) {
+            throw new FrameworkException("App is not running");
+        }
+        return Integer.parseInt(pid);
+    }
+
+    private static String exec(String... command) {
+        return new String(HostCommand.runForBytes(List.of(command), COMMAND_TIMEOUT_SECONDS), StandardCharsets.UTF_8);
+    }
+}
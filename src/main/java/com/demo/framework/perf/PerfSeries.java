@@ -0,0 +1,106 @@
+package com.demo.framework.perf;
+
+import java.util.Arrays;
+
+/**
+ * Time series of app performance samples in primitive column arrays, one column per {@link Metric}.
+ * Missing values (e.g. heap on iOS) are stored as NaN and left out of summaries.
+ */
+public final class PerfSeries {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    public enum Metric {
+        CPU("cpu", "CPU", "%"),
+        MEMORY("memoryKb", "Memory", "KB"),
+        HEAP("heapKb", "Heap", "KB"),
+        THREADS("threads", "Threads", "");
+
+        private final String key;
+        private final String label;
+        private final String unit;
+
+        Metric(String key, String label, String unit) {
+            this.key = key;
+            this.label = label;
+            this.unit = unit;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+    }
+
+    /**
+     * Summary of one metric over the series
+     *
+     * @param samples number of values present
+     */
+    public record Summary(double min, double max, double p95, int samples) {
+    }
+
+    private long[] times = new long[INITIAL_CAPACITY];
+    private final double[][] values = new double[Metric.values().length][INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Append a sample
+     *
+     * @param elapsedMs time since the start of the session
+     */
+    public synchronized void add(long elapsedMs, double cpu, double memoryKb, double heapKb, double threads) {
+        if (size == times.length) {
+            int capacity = size * 2;
+            times = Arrays.copyOf(times, capacity);
+            for (int metric = 0; metric < values.length; metric++) {
+                values[metric] = Arrays.copyOf(values[metric], capacity);
+            }
+        }
+        times[size] = elapsedMs;
+        values[Metric.CPU.ordinal()][size] = cpu;
+        values[Metric.MEMORY.ordinal()][size] = memoryKb;
+        values[Metric.HEAP.ordinal()][size] = heapKb;
+        values[Metric.THREADS.ordinal()][size] = threads;
+        size++;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long[] times() {
+        return Arrays.copyOf(times, size);
+    }
+
+    public synchronized double[] values(Metric metric) {
+        return Arrays.copyOf(values[metric.ordinal()], size);
+    }
+
+    /**
+     * Min, max and nearest-rank 95th percentile of a metric, or null if it has no values
+     */
+    public synchronized Summary summary(Metric metric) {
+        double[] column = values[metric.ordinal()];
+        double[] present = new double[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (!Double.isNaN(column[i])) {
+                present[count++] = column[i];
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        Arrays.sort(present, 0, count);
+        int rank = (int) Math.ceil(0.95 * count) - 1;
+        return new Summary(present[0], present[count - 1], present[rank], count);
+    }
+}
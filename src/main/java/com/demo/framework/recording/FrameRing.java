@@ -0,0 +1,96 @@
+package com.demo.framework.recording;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-size off-heap ring of JPEG frames.
+ * <p>
+ * Frame bytes are appended to one direct buffer and indexed by primitive arrays; the oldest frames are
+ * overwritten when the buffer or the index is full, so steady-state recording allocates nothing on the heap.
+ */
+final class FrameRing {
+
+    private final ByteBuffer data;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final long[] timestamps;
+
+    private int first;
+    private int count;
+    private int writePosition;
+
+    FrameRing(int capacityBytes, int maxFrames) {
+        this.data = ByteBuffer.allocateDirect(capacityBytes);
+        this.offsets = new int[maxFrames];
+        this.lengths = new int[maxFrames];
+        this.timestamps = new long[maxFrames];
+    }
+
+    /**
+     * Append a frame, evicting the oldest frames it overwrites
+     *
+     * @return false if the frame is larger than the whole buffer
+     */
+    synchronized boolean add(byte[] frame, int length, long timestampMillis) {
+        if (length > data.capacity()) {
+            return false;
+        }
+        if (writePosition + length > data.capacity()) {
+            // Frames left in the tail are the oldest ones; drop them before wrapping
+            while (count > 0 && offsets[first] >= writePosition) {
+                evictOldest();
+            }
+            writePosition = 0;
+        }
+        int start = writePosition;
+        int end = start + length;
+        while (count > 0 && (count == offsets.length || overlaps(first, start, end))) {
+            evictOldest();
+        }
+        data.put(start, frame, 0, length);
+        int slot = (first + count) % offsets.length;
+        offsets[slot] = start;
+        lengths[slot] = length;
+        timestamps[slot] = timestampMillis;
+        count++;
+        writePosition = end;
+        return true;
+    }
+
+    /**
+     * Copy of the frames captured at or after the given time, oldest first
+     */
+    synchronized List<RecordedFrame> since(long timestampMillis) {
+        List<RecordedFrame> frames = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int slot = (first + i) % offsets.length;
+            if (timestamps[slot] >= timestampMillis) {
+                byte[] jpeg = new byte[lengths[slot]];
+                data.get(offsets[slot], jpeg);
+                frames.add(new RecordedFrame(timestamps[slot], jpeg));
+            }
+        }
+        return frames;
+    }
+
+    synchronized int size() {
+        return count;
+    }
+
+    synchronized void clear() {
+        first = 0;
+        count = 0;
+        writePosition = 0;
+    }
+
+    private boolean overlaps(int slot, int start, int end) {
+        return offsets[slot] < end && offsets[slot] + lengths[slot] > start;
+    }
+
+    private void evictOldest() {
+        first = (first + 1) % offsets.length;
+        count--;
+    }
+}
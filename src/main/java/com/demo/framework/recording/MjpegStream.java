@@ -0,0 +1,105 @@
+package com.demo.framework.recording;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads JPEG frames from the body of a {@code multipart/x-mixed-replace} MJPEG stream.
+ * <p>
+ * Parts are sized by their {@code Content-Length} header; parts without one are read up to the JPEG
+ * end-of-image marker. Frames are read into one reused buffer.
+ */
+final class MjpegStream implements Closeable {
+
+    private static final int MAX_LINE = 1024;
+
+    private final InputStream in;
+    private byte[] buffer = new byte[256 * 1024];
+
+    MjpegStream(InputStream in) {
+        this.in = new BufferedInputStream(in, 64 * 1024);
+    }
+
+    /**
+     * Read the next frame into {@link #buffer()}
+     *
+     * @return frame length, or -1 at the end of the stream
+     */
+    int next() throws IOException {
+        int contentLength = -1;
+        boolean inHeaders = false;
+        String line;
+        while ((line = readLine()) != null) {
+            if (line.isEmpty()) {
+                if (inHeaders) {
+                    break;
+                }
+                continue;
+            }
+            inHeaders = true;
+            int colon = line.indexOf(':');
+            if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("Content-Length")) {
+                contentLength = Integer.parseInt(line.substring(colon + 1).trim());
+            }
+        }
+        if (line == null) {
+            return -1;
+        }
+        return contentLength >= 0 ? readFully(contentLength) : readToEndOfImage();
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private int readFully(int length) throws IOException {
+        ensureCapacity(length);
+        int read = in.readNBytes(buffer, 0, length);
+        return read == length ? length : -1;
+    }
+
+    private int readToEndOfImage() throws IOException {
+        int length = 0;
+        int previous = -1;
+        int b;
+        while ((b = in.read()) != -1) {
+            ensureCapacity(length + 1);
+            buffer[length++] = (byte) b;
+            if (previous == 0xFF && b == 0xD9) {
+                return length;
+            }
+            previous = b;
+        }
+        return -1;
+    }
+
+    private String readLine() throws IOException {
+        byte[] line = new byte[MAX_LINE];
+        int length = 0;
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            if (b != '\r' && length < MAX_LINE) {
+                line[length++] = (byte) b;
+            }
+        }
+        if (b == -1 && length == 0) {
+            return null;
+        }
+        return new String(line, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private void ensureCapacity(int length) {
+        if (length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(length, buffer.length * 2));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.demo.framework.recording;
+
+/**
+ * One recorded JPEG frame with its capture time
+ */
+public record RecordedFrame(long timestampMillis, byte[] jpeg) {
+}
@@ -0,0 +1,226 @@
+package com.demo.framework.recording;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.drivers.SessionScope;
+import com.demo.framework.metrics.FrameworkMetrics;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.HasSettings;
+import io.qameta.allure.Allure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the last seconds of the device screen in memory, from the MJPEG stream of UiAutomator2 or
+ * WebDriverAgent ({@code appium:mjpegServerPort}).
+ * <p>
+ * A daemon thread appends every streamed JPEG frame to an off-heap {@link FrameRing}; nothing is decoded or
+ * written while the test runs. Only when a test fails are the frames of the last {@code recording.seconds}
+ * encoded into an animated GIF and attached to Allure; on pass they are dropped. Enabled with
+ * {@code recording.enabled=true}.
+ */
+public final class ScreenRecorder implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScreenRecorder.class);
+    private static final long RECONNECT_DELAY_MS = 500;
+    private static final int CONNECT_TIMEOUT_MS = 2000;
+
+    private static final boolean ENABLED;
+    private static final int PORT;
+    private static final Duration WINDOW;
+    private static final int BUFFER_BYTES;
+    private static final int FRAMERATE;
+    private static final int SCALING_PERCENT;
+
+    static {
+        ConfigProvider config = ConfigProvider.getDefault();
+        ENABLED = config.getBoolean("recording.enabled", false);
+        PORT = config.getInt("recording.mjpegPort", 7810);
+        WINDOW = Duration.ofSeconds(Math.max(1, config.getInt("recording.seconds", 20)));
+        BUFFER_BYTES = Math.max(1, config.getInt("recording.bufferMb", 16)) * 1024 * 1024;
+        FRAMERATE = Math.max(1, config.getInt("recording.fps", 5));
+        SCALING_PERCENT = Math.min(100, Math.max(1, config.getInt("recording.scalePercent", 50)));
+    }
+
+    private final URI stream;
+    private final Duration window;
+    private final FrameRing ring;
+    private final Thread reader;
+    private volatile boolean running;
+    private volatile HttpURLConnection connection;
+
+    /**
+     * Recorder for an MJPEG stream, keeping frames of the given window in a buffer of the given size
+     */
+    public ScreenRecorder(URI stream, Duration window, int bufferBytes) {
+        this.stream = stream;
+        this.window = window;
+        // Index sized for far more frames than any MJPEG server sends in the window
+        this.ring = new FrameRing(bufferBytes, (int) Math.max(64, window.toSeconds() * 60));
+        this.reader = new Thread(this::readLoop, "screen-recorder");
+        this.reader.setDaemon(true);
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Host port the MJPEG stream is forwarded to, passed as {@code appium:mjpegServerPort}
+     */
+    public static int getPort() {
+        return PORT;
+    }
+
+    /**
+     * Get the running recorder for the session of the given driver, starting it on first access
+     */
+    public static ScreenRecorder forDriver(AppiumDriver driver) {
+        return SessionScope.of(driver).get(ScreenRecorder.class, () -> {
+            if (driver instanceof HasSettings settings) {
+                try {
+                    settings.setSetting("mjpegServerFramerate", FRAMERATE);
+                    settings.setSetting("mjpegScalingFactor", SCALING_PERCENT);
+                } catch (Exception e) {
+                    LOG.debug("Unable to apply MJPEG settings: {}", e.getMessage());
+                }
+            }
+            URI uri = URI.create("http://" + driver.getRemoteAddress().getHost() + ":" + PORT);
+            return new ScreenRecorder(uri, WINDOW, BUFFER_BYTES).start();
+        });
+    }
+
+    public ScreenRecorder start() {
+        running = true;
+        reader.start();
+        LOG.debug("Screen recording from {}", stream);
+        return this;
+    }
+
+    public int getFrameCount() {
+        return ring.size();
+    }
+
+    /**
+     * Frames of the recording window, oldest first
+     */
+    public List<RecordedFrame> recentFrames() {
+        return ring.since(System.currentTimeMillis() - window.toMillis());
+    }
+
+    /**
+     * Recording window as an animated GIF, thinned to {@code recording.fps}
+     *
+     * @return GIF bytes, or an empty array if nothing was recorded
+     */
+    public byte[] encode() throws IOException {
+        List<RecordedFrame> frames = thin(recentFrames(), 1000L / FRAMERATE);
+        if (frames.isEmpty()) {
+            return new byte[0];
+        }
+        long start = System.nanoTime();
+        byte[] gif = AnimatedGif.encode(frames);
+        FrameworkMetrics.record("recording.encode", System.nanoTime() - start);
+        return gif;
+    }
+
+    /**
+     * Encode the recording window and attach it to the current Allure test
+     *
+     * @return false if there was nothing to attach
+     */
+    public boolean attach(String name) {
+        try {
+            byte[] gif = encode();
+            if (gif.length == 0) {
+                LOG.warn("No screen recording frames received from {}", stream);
+                return false;
+            }
+            Allure.addAttachment(name, "image/gif", new ByteArrayInputStream(gif), "gif");
+            return true;
+        } catch (IOException e) {
+            LOG.warn("Failed to encode screen recording: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Drop recorded frames, e.g. once a test has passed
+     */
+    public void discard() {
+        ring.clear();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        HttpURLConnection current = connection;
+        if (current != null) {
+            current.disconnect();
+        }
+        reader.interrupt();
+        try {
+            reader.join(CONNECT_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ring.clear();
+    }
+
+    private void readLoop() {
+        while (running) {
+            try {
+                HttpURLConnection opened = (HttpURLConnection) stream.toURL().openConnection();
+                opened.setConnectTimeout(CONNECT_TIMEOUT_MS);
+                connection = opened;
+                try (MjpegStream frames = new MjpegStream(opened.getInputStream())) {
+                    int length;
+                    while (running && (length = frames.next()) > 0) {
+                        ring.add(frames.buffer(), length, System.currentTimeMillis());
+                    }
+                }
+            } catch (IOException e) {
+                if (running) {
+                    LOG.debug("MJPEG stream {} unavailable: {}", stream, e.getMessage());
+                }
+            } finally {
+                HttpURLConnection current = connection;
+                if (current != null) {
+                    current.disconnect();
+                }
+            }
+            if (running && !pause()) {
+                return;
+            }
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static List<RecordedFrame> thin(List<RecordedFrame> frames, long minIntervalMillis) {
+        List<RecordedFrame> kept = new ArrayList<>();
+        long last = 0;
+        for (RecordedFrame frame : frames) {
+            if (kept.isEmpty() || frame.timestampMillis() - last >= minIntervalMillis) {
+                kept.add(frame);
+                last = frame.timestampMillis();
+            }
+        }
+        return kept;
+    }
+}
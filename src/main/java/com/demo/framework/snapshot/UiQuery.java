@@ -0,0 +1,44 @@
+package com.demo.framework.snapshot;
+
+import java.util.Objects;
+
+/**
+ * Query against an indexed {@link UiSnapshot}.
+ * Accessibility id maps to content-desc on Android and name on iOS,
+ * text maps to text on Android and label/value on iOS.
+ */
+public record UiQuery(Attribute attribute, String value) {
+
+    public enum Attribute {
+        ACCESSIBILITY_ID,
+        RESOURCE_ID,
+        TEXT,
+        CLASS_NAME
+    }
+
+    public UiQuery {
+        Objects.requireNonNull(attribute, "attribute");
+        Objects.requireNonNull(value, "value");
+    }
+
+    public static UiQuery accessibilityId(String value) {
+        return new UiQuery(Attribute.ACCESSIBILITY_ID, value);
+    }
+
+    public static UiQuery resourceId(String value) {
+        return new UiQuery(Attribute.RESOURCE_ID, value);
+    }
+
+    public static UiQuery text(String value) {
+        return new UiQuery(Attribute.TEXT, value);
+    }
+
+    public static UiQuery className(String value) {
+        return new UiQuery(Attribute.CLASS_NAME, value);
+    }
+
+    @Override
+    public String toString() {
+        return attribute.name().toLowerCase() + "=" + value;
+    }
+}
@@ -0,0 +1,200 @@
+package com.demo.framework.snapshot;
+
+import org.openqa.selenium.Rectangle;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable, array-backed copy of the UI hierarchy captured from a single page source.
+ * <p>
+ * Nodes are stored in document order; node {@code i} is described by the i-th slot of
+ * every column array and its bounds occupy {@code bounds[i * 4 .. i * 4 + 3]}.
+ * Lookups by accessibility id, resource-id, text and class name go through hash indexes,
+ * so existence, visibility, bounds and text queries never touch the device.
+ */
+public final class UiSnapshot {
+
+    private static final int[] NO_NODES = new int[0];
+
+    private final int size;
+    private final int[] parents;
+    private final int[] bounds;
+    private final boolean[] visible;
+    private final String[] classNames;
+    private final String[] accessibilityIds;
+    private final String[] resourceIds;
+    private final String[] texts;
+    private final Map<UiQuery.Attribute, Map<String, int[]>> indexes;
+    private final long capturedAtNanos;
+
+    UiSnapshot(int size, int[] parents, int[] bounds, boolean[] visible, String[] classNames,
+               String[] accessibilityIds, String[] resourceIds, String[] texts,
+               Map<UiQuery.Attribute, Map<String, int[]>> indexes) {
+        this.size = size;
+        this.parents = parents;
+        this.bounds = bounds;
+        this.visible = visible;
+        this.classNames = classNames;
+        this.accessibilityIds = accessibilityIds;
+        this.resourceIds = resourceIds;
+        this.texts = texts;
+        this.indexes = indexes;
+        this.capturedAtNanos = System.nanoTime();
+    }
+
+    /**
+     * Number of nodes in the snapshot
+     */
+    public int size() {
+        return size;
+    }
+
+    public long getCapturedAtNanos() {
+        return capturedAtNanos;
+    }
+
+    /**
+     * Indexes of all nodes matching the query, in document order
+     */
+    public int[] find(UiQuery query) {
+        int[] nodes = indexes.get(query.attribute()).get(query.value());
+        return nodes != null ? nodes : NO_NODES;
+    }
+
+    /**
+     * Index of the first node matching the query, or -1
+     */
+    public int findFirst(UiQuery query) {
+        int[] nodes = find(query);
+        return nodes.length > 0 ? nodes[0] : -1;
+    }
+
+    /**
+     * Indexes of all nodes whose text contains the given fragment
+     */
+    public int[] findTextContaining(String fragment) {
+        int[] matches = new int[4];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (texts[i] != null && texts[i].contains(fragment)) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Indexes of all nodes whose bounds equal the given rectangle, in document order
+     */
+    public int[] findByBounds(Rectangle rect) {
+        int[] matches = new int[4];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int offset = i * 4;
+            if (bounds[offset] == rect.getX() && bounds[offset + 1] == rect.getY()
+                    && bounds[offset + 2] == rect.getWidth() && bounds[offset + 3] == rect.getHeight()) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    public boolean exists(UiQuery query) {
+        return find(query).length > 0;
+    }
+
+    /**
+     * True if any node matching the query is displayed
+     */
+    public boolean isVisible(UiQuery query) {
+        for (int node : find(query)) {
+            if (isVisible(node)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Bounds of the first node matching the query, or null if absent
+     */
+    public Rectangle getBounds(UiQuery query) {
+        int node = findFirst(query);
+        return node >= 0 ? getBounds(node) : null;
+    }
+
+    /**
+     * Text of the first node matching the query, or null if absent
+     */
+    public String getText(UiQuery query) {
+        int node = findFirst(query);
+        return node >= 0 ? texts[node] : null;
+    }
+
+    public boolean isVisible(int node) {
+        return visible[node] && bounds[node * 4 + 2] > 0 && bounds[node * 4 + 3] > 0;
+    }
+
+    public Rectangle getBounds(int node) {
+        int offset = node * 4;
+        return new Rectangle(bounds[offset], bounds[offset + 1], bounds[offset + 3], bounds[offset + 2]);
+    }
+
+    public String getText(int node) {
+        return texts[node];
+    }
+
+    public String getClassName(int node) {
+        return classNames[node];
+    }
+
+    public String getAccessibilityId(int node) {
+        return accessibilityIds[node];
+    }
+
+    public String getResourceId(int node) {
+        return resourceIds[node];
+    }
+
+    /**
+     * Parent node index, or -1 for the root
+     */
+    public int getParent(int node) {
+        return parents[node];
+    }
+
+    /**
+     * Exclusive end of the node's subtree: descendants occupy indexes {@code node + 1 .. end - 1}
+     */
+    public int getSubtreeEnd(int node) {
+        int end = node + 1;
+        while (end < size && parents[end] >= node && parents[end] < end) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Direct children of the given node, in document order
+     */
+    public int[] getChildren(int node) {
+        int[] children = new int[4];
+        int count = 0;
+        for (int i = node + 1; i < size; i++) {
+            if (parents[i] == node) {
+                if (count == children.length) {
+                    children = Arrays.copyOf(children, count * 2);
+                }
+                children[count++] = i;
+            }
+        }
+        return Arrays.copyOf(children, count);
+    }
+}
@@ -0,0 +1,103 @@
+package com.demo.framework.snapshot;
+
+import com.demo.framework.drivers.SessionScope;
+import io.appium.java_client.AppiumDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * Per-session owner of the current {@link UiSnapshot}.
+ * <p>
+ * A snapshot is captured lazily with a single getPageSource() call and reused by every
+ * query until the screen changes. ActionUtils, GestureUtils and page-level gestures call
+ * {@link #invalidate()} after each interaction, so queries never see a pre-action tree.
+ */
+public class UiSnapshotManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UiSnapshotManager.class);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+
+    private final AppiumDriver driver;
+    private volatile UiSnapshot snapshot;
+
+    UiSnapshotManager(AppiumDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Get snapshot manager bound to the session of the given driver
+     */
+    public static UiSnapshotManager forDriver(AppiumDriver driver) {
+        return SessionScope.of(driver).get(UiSnapshotManager.class, () -> new UiSnapshotManager(driver));
+    }
+
+    /**
+     * Current snapshot, captured on first use after an invalidation
+     */
+    public UiSnapshot current() {
+        UiSnapshot current = snapshot;
+        if (current == null) {
+            current = refresh();
+        }
+        return current;
+    }
+
+    /**
+     * Cached snapshot of the current screen, or null if none was captured since the last invalidation
+     */
+    public UiSnapshot cached() {
+        return snapshot;
+    }
+
+    /**
+     * Capture a new snapshot regardless of the cached one
+     */
+    public UiSnapshot refresh() {
+        long start = System.nanoTime();
+        UiSnapshot captured = UiSnapshotParser.parse(driver.getPageSource());
+        snapshot = captured;
+        LOG.debug("Captured UI snapshot with {} nodes in {} ms",
+                captured.size(), (System.nanoTime() - start) / 1_000_000);
+        return captured;
+    }
+
+    /**
+     * Drop the cached snapshot; the next query captures a fresh one
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * Wait until the snapshot satisfies the condition, re-capturing between polls.
+     * The matching snapshot stays cached for follow-up queries on the same screen.
+     */
+    public boolean await(Predicate<UiSnapshot> condition, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        UiSnapshot current = current();
+        while (!condition.test(current)) {
+            if (System.nanoTime() + POLL_INTERVAL.toNanos() > deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            current = refresh();
+        }
+        return true;
+    }
+
+    /**
+     * Wait until a node matching the query is visible
+     */
+    public boolean awaitVisible(UiQuery query, Duration timeout) {
+        LOG.debug("Waiting for snapshot node to be visible: {}", query);
+        return await(s -> s.isVisible(query), timeout);
+    }
+}
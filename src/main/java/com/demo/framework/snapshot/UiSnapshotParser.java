@@ -0,0 +1,229 @@
+package com.demo.framework.snapshot;
+
+import com.demo.framework.exceptions.FrameworkException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streaming StAX parser turning UiAutomator2 or XCUITest page source into a {@link UiSnapshot}.
+ * Attributes are read in a single forward pass into column arrays; no DOM is built.
+ */
+public final class UiSnapshotParser {
+
+    private static final XMLInputFactory FACTORY = createFactory();
+    private static final int INITIAL_CAPACITY = 256;
+
+    private int size;
+    private int[] parents = new int[INITIAL_CAPACITY];
+    private int[] bounds = new int[INITIAL_CAPACITY * 4];
+    private boolean[] visible = new boolean[INITIAL_CAPACITY];
+    private String[] classNames = new String[INITIAL_CAPACITY];
+    private String[] accessibilityIds = new String[INITIAL_CAPACITY];
+    private String[] resourceIds = new String[INITIAL_CAPACITY];
+    private String[] texts = new String[INITIAL_CAPACITY];
+    private final Map<UiQuery.Attribute, Map<String, int[]>> indexes = new EnumMap<>(UiQuery.Attribute.class);
+
+    private UiSnapshotParser() {
+        for (UiQuery.Attribute attribute : UiQuery.Attribute.values()) {
+            indexes.put(attribute, new HashMap<>());
+        }
+    }
+
+    /**
+     * Parse page source XML into an indexed snapshot
+     */
+    public static UiSnapshot parse(String pageSource) {
+        return new UiSnapshotParser().read(pageSource);
+    }
+
+    private UiSnapshot read(String pageSource) {
+        int[] stack = new int[64];
+        int depth = 0;
+        XMLStreamReader reader = null;
+        try {
+            reader = FACTORY.createXMLStreamReader(new StringReader(pageSource));
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    int parent = depth > 0 ? stack[depth - 1] : -1;
+                    int node = addNode(reader, parent);
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, depth * 2);
+                    }
+                    stack[depth++] = node;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new FrameworkException("Unable to parse page source", e);
+        } finally {
+            closeQuietly(reader);
+        }
+        return new UiSnapshot(size, parents, bounds, visible, classNames, accessibilityIds,
+                resourceIds, texts, indexes);
+    }
+
+    private int addNode(XMLStreamReader reader, int parent) {
+        ensureCapacity();
+        int node = size++;
+        parents[node] = parent;
+
+        String className = null;
+        String accessibilityId = null;
+        String resourceId = null;
+        String text = null;
+        String value = null;
+        boolean displayed = true;
+        int offset = node * 4;
+
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String attributeValue = reader.getAttributeValue(i);
+            switch (reader.getAttributeLocalName(i)) {
+                // UiAutomator2
+                case "class" -> className = attributeValue;
+                case "content-desc" -> accessibilityId = attributeValue;
+                case "resource-id" -> resourceId = attributeValue;
+                case "text" -> text = attributeValue;
+                case "displayed" -> displayed = Boolean.parseBoolean(attributeValue);
+                case "bounds" -> parseAndroidBounds(attributeValue, offset);
+                // XCUITest
+                case "type" -> className = attributeValue;
+                case "name" -> accessibilityId = attributeValue;
+                case "label" -> text = attributeValue;
+                case "value" -> value = attributeValue;
+                case "visible" -> displayed = Boolean.parseBoolean(attributeValue);
+                case "x" -> bounds[offset] = parseInt(attributeValue);
+                case "y" -> bounds[offset + 1] = parseInt(attributeValue);
+                case "width" -> bounds[offset + 2] = parseInt(attributeValue);
+                case "height" -> bounds[offset + 3] = parseInt(attributeValue);
+                default -> {
+                    // Attribute not indexed
+                }
+            }
+        }
+
+        if (className == null) {
+            className = reader.getLocalName();
+        }
+        if (isBlank(text)) {
+            text = value;
+        } else if (!isBlank(value) && !value.equals(text)) {
+            index(UiQuery.Attribute.TEXT, value, node);
+        }
+
+        classNames[node] = className;
+        accessibilityIds[node] = emptyToNull(accessibilityId);
+        resourceIds[node] = emptyToNull(resourceId);
+        texts[node] = emptyToNull(text);
+        visible[node] = displayed;
+
+        index(UiQuery.Attribute.CLASS_NAME, classNames[node], node);
+        index(UiQuery.Attribute.ACCESSIBILITY_ID, accessibilityIds[node], node);
+        index(UiQuery.Attribute.RESOURCE_ID, resourceIds[node], node);
+        index(UiQuery.Attribute.TEXT, texts[node], node);
+        return node;
+    }
+
+    /**
+     * Parse UiAutomator2 bounds of the form [x1,y1][x2,y2] without regex
+     */
+    private void parseAndroidBounds(String raw, int offset) {
+        int[] numbers = new int[4];
+        int count = 0;
+        int current = 0;
+        boolean inNumber = false;
+        boolean negative = false;
+        for (int i = 0; i < raw.length() && count < 4; i++) {
+            char c = raw.charAt(i);
+            if (c >= '0' && c <= '9') {
+                current = current * 10 + (c - '0');
+                inNumber = true;
+            } else if (c == '-') {
+                negative = true;
+            } else if (inNumber) {
+                numbers[count++] = negative ? -current : current;
+                current = 0;
+                inNumber = false;
+                negative = false;
+            }
+        }
+        if (count < 4) {
+            return;
+        }
+        bounds[offset] = numbers[0];
+        bounds[offset + 1] = numbers[1];
+        bounds[offset + 2] = numbers[2] - numbers[0];
+        bounds[offset + 3] = numbers[3] - numbers[1];
+    }
+
+    private void index(UiQuery.Attribute attribute, String key, int node) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        indexes.get(attribute).merge(key, new int[]{node}, UiSnapshotParser::append);
+    }
+
+    private static int[] append(int[] existing, int[] added) {
+        int[] merged = Arrays.copyOf(existing, existing.length + added.length);
+        System.arraycopy(added, 0, merged, existing.length, added.length);
+        return merged;
+    }
+
+    private void ensureCapacity() {
+        if (size < parents.length) {
+            return;
+        }
+        int capacity = parents.length * 2;
+        parents = Arrays.copyOf(parents, capacity);
+        bounds = Arrays.copyOf(bounds, capacity * 4);
+        visible = Arrays.copyOf(visible, capacity);
+        classNames = Arrays.copyOf(classNames, capacity);
+        accessibilityIds = Arrays.copyOf(accessibilityIds, capacity);
+        resourceIds = Arrays.copyOf(resourceIds, capacity);
+        texts = Arrays.copyOf(texts, capacity);
+    }
+
+    private static int parseInt(String raw) {
+        try {
+            return (int) Double.parseDouble(raw);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static void closeQuietly(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // Nothing to release for in-memory input
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+}
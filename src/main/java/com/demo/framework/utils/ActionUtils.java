@@ -1,25 +1,43 @@
 package com.demo.framework.utils;
 
+import com.demo.framework.input.TextEntry;
+import com.demo.framework.locators.LocatorProfiler;
+import com.demo.framework.snapshot.UiSnapshotManager;
+import com.demo.framework.utils.ElementCache.Readiness;
 import io.appium.java_client.AppiumDriver;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 /**
- * Utility class for element interactions and user actions
+ * Utility class for element interactions and user actions.
+ * Resolved elements are reused through the session's {@link ElementCache} until the screen changes.
+ * A cached element goes through the same readiness wait as a freshly found one the first time each state is
+ * needed on a screen. Text entry keeps the element generation, so clear-then-type on a field shares one lookup.
  */
 public class ActionUtils {
 
     private static final Logger LOG = LoggerFactory.getLogger(ActionUtils.class);
+
     private final AppiumDriver driver;
     private final WaitUtils wait;
+    private final UiSnapshotManager snapshots;
+    private final ElementCache elements;
+    private final TextEntry textEntry;
 
     public ActionUtils(AppiumDriver driver, WaitUtils wait) {
         this.driver = driver;
         this.wait = wait;
+        this.snapshots = UiSnapshotManager.forDriver(driver);
+        this.elements = ElementCache.forDriver(driver);
+        this.textEntry = TextEntry.forDriver(driver);
     }
 
     /**
@@ -27,52 +45,32 @@ public class ActionUtils {
      */
     public void click(By locator) {
         LOG.debug("Clicking on element: {}", locator);
-        WebElement element = wait.untilClickable(locator);
-        element.click();
+        onElement(locator, Readiness.CLICKABLE, WebElement::click);
+        screenChanged();
     }
 
     /**
-     * Send text to element
+     * Send text to element, using the fastest entry strategy that is verified to work for the field
      */
     public void sendText(By locator, String text) {
         LOG.debug("Sending text '{}' to element: {}", text, locator);
-        WebElement element = wait.untilVisible(locator);
-        element.clear();
-        element.sendKeys(text);
+        onElement(locator, Readiness.VISIBLE, element -> textEntry.enter(locator, element, text));
+        snapshots.invalidate();
     }
 
     /**
-     * Send text to iOS secure text field (password field)
-     * Uses slower character-by-character input to prevent text loss on iOS
+     * Send text to secure text field (password field) without logging it.
+     * Fields that drop characters on fast entry end up on per-character typing through verification.
      */
     public void sendTextToSecureField(By locator, String text) {
         LOG.debug("Sending text to secure field: {}", locator);
-        WebElement element = wait.untilVisible(locator);
-        element.click();
-        element.clear();
-        sleep(200);
-        
-        // Re-acquire element reference after clear to avoid stale element issues
-        element = wait.untilVisible(locator);
-        
-        // Send text character by character with small delays to prevent iOS input loss
-        for (char c : text.toCharArray()) {
-            element.sendKeys(String.valueOf(c));
-            sleep(50);
-        }
-        
-        LOG.debug("Finished sending text to secure field");
-    }
+        onElement(locator, Readiness.VISIBLE, element -> {
+            element.click();
+            textEntry.enter(locator, element, text);
+        });
+        snapshots.invalidate();
 
-    /**
-     * Sleep helper method
-     */
-    private void sleep(long millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        LOG.debug("Finished sending text to secure field with {}", textEntry.getStrategy(locator));
     }
 
     /**
@@ -80,8 +78,7 @@ public class ActionUtils {
      */
     public String getText(By locator) {
         LOG.debug("Getting text from element: {}", locator);
-        WebElement element = wait.untilVisible(locator);
-        return element.getText();
+        return withElement(locator, Readiness.VISIBLE, WebElement::getText);
     }
 
     /**
@@ -89,8 +86,8 @@ public class ActionUtils {
      */
     public void hover(By locator) {
         LOG.debug("Hovering over element: {}", locator);
-        WebElement element = wait.untilVisible(locator);
-        new Actions(driver).moveToElement(element).perform();
+        onElement(locator, Readiness.VISIBLE, element -> new Actions(driver).moveToElement(element).perform());
+        snapshots.invalidate();
     }
 
     /**
@@ -98,8 +95,8 @@ public class ActionUtils {
      */
     public void clearText(By locator) {
         LOG.debug("Clearing text from element: {}", locator);
-        WebElement element = wait.untilVisible(locator);
-        element.clear();
+        onElement(locator, Readiness.VISIBLE, WebElement::clear);
+        snapshots.invalidate();
     }
 
     /**
@@ -108,7 +105,7 @@ public class ActionUtils {
     public boolean isDisplayed(By locator) {
         LOG.debug("Checking if element is displayed: {}", locator);
         try {
-            return wait.untilVisible(locator).isDisplayed();
+            return withElement(locator, Readiness.VISIBLE, WebElement::isDisplayed);
         } catch (Exception e) {
             LOG.debug("Element not displayed: {}", locator);
             return false;
@@ -122,7 +119,7 @@ public class ActionUtils {
     public boolean isDisplayedQuick(By locator) {
         LOG.debug("Quick check if element is displayed: {}", locator);
         try {
-            return driver.findElement(locator).isDisplayed();
+            return LocatorProfiler.find(driver, locator).isDisplayed();
         } catch (Exception e) {
             return false;
         }
@@ -133,8 +130,7 @@ public class ActionUtils {
      */
     public boolean isEnabled(By locator) {
         LOG.debug("Checking if element is enabled: {}", locator);
-        WebElement element = wait.untilPresent(locator);
-        return element.isEnabled();
+        return withElement(locator, Readiness.PRESENT, WebElement::isEnabled);
     }
 
     /**
@@ -142,8 +138,7 @@ public class ActionUtils {
      */
     public String getAttribute(By locator, String attribute) {
         LOG.debug("Getting attribute '{}' from element: {}", attribute, locator);
-        WebElement element = wait.untilVisible(locator);
-        return element.getAttribute(attribute);
+        return withElement(locator, Readiness.VISIBLE, element -> element.getAttribute(attribute));
     }
 
     /**
@@ -151,8 +146,8 @@ public class ActionUtils {
      */
     public void doubleClick(By locator) {
         LOG.debug("Double clicking on element: {}", locator);
-        WebElement element = wait.untilClickable(locator);
-        new Actions(driver).doubleClick(element).perform();
+        onElement(locator, Readiness.CLICKABLE, element -> new Actions(driver).doubleClick(element).perform());
+        screenChanged();
     }
 
     /**
@@ -160,8 +155,8 @@ public class ActionUtils {
      */
     public void rightClick(By locator) {
         LOG.debug("Right clicking on element: {}", locator);
-        WebElement element = wait.untilClickable(locator);
-        new Actions(driver).contextClick(element).perform();
+        onElement(locator, Readiness.CLICKABLE, element -> new Actions(driver).contextClick(element).perform());
+        screenChanged();
     }
 
     /**
@@ -169,10 +164,75 @@ public class ActionUtils {
      */
     public void scrollToAndClick(By locator) {
         LOG.debug("Scrolling to element and clicking: {}", locator);
-        WebElement element = wait.untilPresent(locator);
+        onElement(locator, Readiness.PRESENT, element -> {
+            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
+            element.click();
+        });
+        screenChanged();
+    }
 
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
-        element.click();
+    /**
+     * Drop cached page source and element handles after an interaction that may change the screen
+     */
+    private void screenChanged() {
+        snapshots.invalidate();
+        elements.invalidate();
+    }
+
+    /**
+     * Apply a function to the element for the locator once it reaches the given readiness.
+     * A cache hit saves the find, and the wait too if the state was already confirmed on this screen;
+     * a stale cached handle is evicted and the function retried once on a freshly resolved element.
+     */
+    private <T> T withElement(By locator, Readiness readiness, Function<WebElement, T> action) {
+        long generation = elements.getGeneration();
+        WebElement cached = elements.get(locator);
+        if (cached != null) {
+            try {
+                return action.apply(awaitReady(locator, cached, readiness, generation));
+            } catch (StaleElementReferenceException e) {
+                LOG.debug("Cached element is stale, re-resolving: {}", locator);
+                elements.evict(locator);
+            }
+        }
+        return action.apply(resolve(locator, readiness));
+    }
+
+    private void onElement(By locator, Readiness readiness, Consumer<WebElement> action) {
+        withElement(locator, readiness, element -> {
+            action.accept(element);
+            return null;
+        });
+    }
+
+    /**
+     * Resolve a fresh element and cache it for the current screen generation
+     */
+    private WebElement resolve(By locator, Readiness readiness) {
+        long generation = elements.getGeneration();
+        WebElement element = switch (readiness) {
+            case PRESENT -> wait.untilPresent(locator);
+            case VISIBLE -> wait.untilVisible(locator);
+            case CLICKABLE -> wait.untilClickable(locator);
+        };
+        elements.put(locator, element, generation, readiness);
+        return element;
+    }
+
+    /**
+     * Wait for a cached element to reach the readiness, unless that was already confirmed on this screen
+     */
+    private WebElement awaitReady(By locator, WebElement element, Readiness readiness, long generation) {
+        if (elements.isReady(locator, readiness)) {
+            return element;
+        }
+        WebElement ready = switch (readiness) {
+            case PRESENT -> element;
+            case VISIBLE -> wait.untilVisible(element);
+            case CLICKABLE -> wait.untilClickable(element);
+        };
+        elements.put(locator, ready, generation, readiness);
+        return ready;
     }
 }
 
@@ -1,14 +1,25 @@
 package com.demo.framework.utils;
 
 import com.demo.framework.drivers.DriverManager;
+import com.demo.framework.drivers.SessionScope;
+import com.demo.framework.snapshot.UiSnapshotManager;
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.remote.SupportsContextSwitching;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * Manages context switching between Native and WebView contexts.
+ * <p>
+ * The current context is tracked locally, so switching to the context the session is already in sends
+ * no command. Context handles are cached for a short time and dropped after every switch. Waiting for a
+ * WebView is a single {@code mobile: getContexts} call with {@code waitForWebviewMs}, polled by the server.
+ * Switch contexts through this class only; direct {@code context(...)} calls bypass the tracking.
  */
 @Slf4j
 public class ContextManager {
@@ -17,62 +28,72 @@ public class ContextManager {
     private static final String WEBVIEW_PREFIX = "WEBVIEW";
     private static final int DEFAULT_TIMEOUT_SECONDS = 10;
     private static final int POLL_INTERVAL_MS = 500;
+    private static final long HANDLES_TTL_MS = 2000;
 
     private final AppiumDriver driver;
 
+    private String currentContext;
+    private Set<String> handles;
+    private long handlesExpireAt;
+    private boolean serverWaitSupported = true;
+
     public ContextManager() {
-        this.driver = DriverManager.getDriver();
+        this(DriverManager.getDriver());
+    }
+
+    public ContextManager(AppiumDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Get context manager bound to the session of the given driver
+     */
+    public static ContextManager forDriver(AppiumDriver driver) {
+        return SessionScope.of(driver).get(ContextManager.class, () -> new ContextManager(driver));
     }
 
     public void waitForWebView() {
         waitForWebView(DEFAULT_TIMEOUT_SECONDS);
     }
 
-    public void waitForWebView(int timeoutSeconds) {
+    public synchronized void waitForWebView(int timeoutSeconds) {
         log.info("Waiting for WebView context (timeout: {}s)", timeoutSeconds);
-        long endTime = System.currentTimeMillis() + (timeoutSeconds * 1000L);
-
-        while (System.currentTimeMillis() < endTime) {
-            Set<String> contexts = getContextSwitchingDriver().getContextHandles();
-            for (String context : contexts) {
-                if (context.contains(WEBVIEW_PREFIX)) {
-                    log.info("WebView context found: {}", context);
-                    return;
-                }
-            }
-            try {
-                Thread.sleep(POLL_INTERVAL_MS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("Wait for WebView interrupted");
-                break;
-            }
+        String webView = findWebView(getAvailableContexts());
+        if (webView == null && serverWaitSupported) {
+            webView = findWebView(fetchContextsWaiting(timeoutSeconds * 1000L));
+        }
+        if (webView == null && !serverWaitSupported) {
+            webView = pollForWebView(timeoutSeconds);
+        }
+        if (webView != null) {
+            log.info("WebView context found: {}", webView);
+        } else {
+            log.warn("WebView context not found within {}s timeout", timeoutSeconds);
         }
-        log.warn("WebView context not found within {}s timeout", timeoutSeconds);
     }
 
-    public void switchToWebView() {
+    public synchronized void switchToWebView() {
         log.info("Switching to WebView context");
-        SupportsContextSwitching contextDriver = getContextSwitchingDriver();
-        Set<String> contexts = contextDriver.getContextHandles();
-
-        for (String context : contexts) {
-            if (context.contains(WEBVIEW_PREFIX)) {
-                contextDriver.context(context);
-                log.info("Switched to WebView context: {}", context);
-                return;
-            }
+        String webView = findWebView(getAvailableContexts());
+        if (webView == null) {
+            log.warn("No WebView context available");
+            return;
+        }
+        if (switchTo(webView)) {
+            log.info("Switched to WebView context: {}", webView);
         }
-        log.warn("No WebView context available");
     }
 
-    public void switchToNative() {
+    public synchronized void switchToNative() {
         log.info("Switching to Native context");
-        getContextSwitchingDriver().context(NATIVE_CONTEXT);
+        switchTo(NATIVE_CONTEXT);
     }
 
-    public String getCurrentContext() {
-        return getContextSwitchingDriver().getContext();
+    public synchronized String getCurrentContext() {
+        if (currentContext == null) {
+            currentContext = getContextSwitchingDriver().getContext();
+        }
+        return currentContext;
     }
 
     public boolean isInWebViewContext() {
@@ -84,12 +105,126 @@ public class ContextManager {
         return NATIVE_CONTEXT.equals(getCurrentContext());
     }
 
-    public Set<String> getAvailableContexts() {
-        return getContextSwitchingDriver().getContextHandles();
+    /**
+     * Context handles, cached for a short time
+     */
+    public synchronized Set<String> getAvailableContexts() {
+        if (handles == null || System.currentTimeMillis() > handlesExpireAt) {
+            cacheHandles(getContextSwitchingDriver().getContextHandles());
+        }
+        return handles;
+    }
+
+    /**
+     * Forget the tracked context and cached handles, e.g. after the app was restarted
+     */
+    public synchronized void invalidate() {
+        currentContext = null;
+        handles = null;
+    }
+
+    /**
+     * Switch unless already in the context
+     *
+     * @return true if a context command was sent
+     */
+    private boolean switchTo(String context) {
+        if (context.equals(getCurrentContext())) {
+            log.debug("Already in context {}, not switching", context);
+            return false;
+        }
+        try {
+            getContextSwitchingDriver().context(context);
+            currentContext = context;
+        } catch (RuntimeException e) {
+            invalidate();
+            throw e;
+        }
+        handles = null;
+        contextChanged();
+        return true;
+    }
+
+    /**
+     * Context names in a {@code mobile: getContexts} result, native context first.
+     * XCUITest describes each context by {@code id}; UiAutomator2 lists only WebViews, named by
+     * {@code webviewName}. Entries without a name (e.g. a WebView whose process is unknown) are skipped.
+     */
+    public static Set<String> parseContexts(Object result) {
+        Set<String> contexts = new LinkedHashSet<>();
+        contexts.add(NATIVE_CONTEXT);
+        if (result instanceof List<?> list) {
+            for (Object item : list) {
+                if (item instanceof Map<?, ?> details) {
+                    Object name = details.get("id") != null ? details.get("id") : details.get("webviewName");
+                    if (name != null) {
+                        contexts.add(name.toString());
+                    }
+                } else if (item instanceof String name) {
+                    contexts.add(name);
+                }
+            }
+        }
+        return contexts;
+    }
+
+    /**
+     * Let the server wait for a WebView; falls back to client polling if the command is not supported
+     */
+    private Set<String> fetchContextsWaiting(long waitMillis) {
+        try {
+            Object result = driver.executeScript("mobile: getContexts", Map.of("waitForWebviewMs", waitMillis));
+            cacheHandles(parseContexts(result));
+            return handles;
+        } catch (Exception e) {
+            log.debug("mobile: getContexts not supported, polling context handles: {}", e.getMessage());
+            serverWaitSupported = false;
+            return Collections.emptySet();
+        }
+    }
+
+    private String pollForWebView(int timeoutSeconds) {
+        long endTime = System.currentTimeMillis() + (timeoutSeconds * 1000L);
+        while (System.currentTimeMillis() < endTime) {
+            cacheHandles(getContextSwitchingDriver().getContextHandles());
+            String webView = findWebView(handles);
+            if (webView != null) {
+                return webView;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Wait for WebView interrupted");
+                break;
+            }
+        }
+        return null;
+    }
+
+    private void cacheHandles(Set<String> contexts) {
+        handles = Collections.unmodifiableSet(new LinkedHashSet<>(contexts));
+        handlesExpireAt = System.currentTimeMillis() + HANDLES_TTL_MS;
+    }
+
+    private static String findWebView(Set<String> contexts) {
+        for (String context : contexts) {
+            if (context.contains(WEBVIEW_PREFIX)) {
+                return context;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cached page source and element handles belong to the previous context
+     */
+    private void contextChanged() {
+        UiSnapshotManager.forDriver(driver).invalidate();
+        ElementCache.forDriver(driver).invalidate();
     }
 
     private SupportsContextSwitching getContextSwitchingDriver() {
         return (SupportsContextSwitching) driver;
     }
 }
-
@@ -0,0 +1,120 @@
+package com.demo.framework.utils;
+
+import com.demo.framework.drivers.SessionScope;
+import com.demo.framework.metrics.FrameworkMetrics;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-session cache of resolved elements, keyed by locator and screen generation.
+ * <p>
+ * The generation is bumped by anything that can change the screen (clicks, gestures,
+ * navigation, context switches), which drops every cached handle. Text entry does not
+ * bump it, so sequences such as clear-then-type on one field share a single lookup.
+ * Each entry records the {@link Readiness} its element was last confirmed to reach in the
+ * generation, so a wait for that state runs once per screen rather than once per action.
+ * Handles that go stale within a generation are evicted by the caller and re-resolved.
+ */
+public class ElementCache {
+
+    static final String HITS = "element.cache.hit";
+    static final String MISSES = "element.cache.miss";
+    static final String STALE = "element.cache.stale";
+
+    /**
+     * State an element was confirmed to reach, weakest first
+     */
+    public enum Readiness {
+        PRESENT,
+        VISIBLE,
+        CLICKABLE
+    }
+
+    private final Map<By, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    ElementCache() {
+    }
+
+    /**
+     * Get element cache bound to the session of the given driver
+     */
+    public static ElementCache forDriver(AppiumDriver driver) {
+        return SessionScope.of(driver).get(ElementCache.class, ElementCache::new);
+    }
+
+    /**
+     * Cached element for the locator in the current generation, or null
+     */
+    public WebElement get(By locator) {
+        Entry entry = entries.get(locator);
+        if (entry != null && entry.generation() == generation.get()) {
+            FrameworkMetrics.increment(HITS);
+            return entry.element();
+        }
+        FrameworkMetrics.increment(MISSES);
+        return null;
+    }
+
+    /**
+     * Whether the cached element for the locator was already confirmed to reach the given state on this screen
+     */
+    public boolean isReady(By locator, Readiness readiness) {
+        Entry entry = entries.get(locator);
+        return entry != null && entry.generation() == generation.get() && entry.readiness().compareTo(readiness) >= 0;
+    }
+
+    /**
+     * Cache an element confirmed to reach the given state during the given generation, keeping a stronger state
+     * confirmed earlier; ignored if the screen changed meanwhile
+     */
+    public void put(By locator, WebElement element, long resolvedInGeneration, Readiness readiness) {
+        if (resolvedInGeneration != generation.get()) {
+            return;
+        }
+        entries.merge(locator, new Entry(element, resolvedInGeneration, readiness),
+                (current, update) -> current.element().equals(update.element())
+                        && current.generation() == update.generation()
+                        && current.readiness().compareTo(update.readiness()) > 0 ? current : update);
+    }
+
+    /**
+     * Drop a handle that turned out to be stale
+     */
+    public void evict(By locator) {
+        if (entries.remove(locator) != null) {
+            FrameworkMetrics.increment(STALE);
+        }
+    }
+
+    /**
+     * Start a new screen generation, dropping all cached handles
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Hit, miss and stale counts across all sessions
+     */
+    public static String summary() {
+        long hits = FrameworkMetrics.count(HITS);
+        long misses = FrameworkMetrics.count(MISSES);
+        long total = hits + misses;
+        return String.format("hits=%d misses=%d stale=%d hitRate=%.1f%%", hits, misses,
+                FrameworkMetrics.count(STALE), total == 0 ? 0.0 : hits * 100.0 / total);
+    }
+
+    private record Entry(WebElement element, long generation, Readiness readiness) {
+    }
+}
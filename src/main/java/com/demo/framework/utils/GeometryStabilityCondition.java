@@ -0,0 +1,140 @@
+package com.demo.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.util.List;
+
+/**
+ * Wait condition that becomes true once the rectangles of all tracked elements
+ * stay within a pixel tolerance for N consecutive samples.
+ * <p>
+ * Elements are resolved once and only re-found when they go stale, so every poll
+ * costs a single getRect call per element instead of a find plus two getLocation calls.
+ * An element that is not present is sampled as absent, which lets a drag tile that
+ * disappears after a successful drop count as settled. A sample in which no element is
+ * present, or an element goes stale while being read, is never stable and keeps polling.
+ */
+public class GeometryStabilityCondition implements ExpectedCondition<Boolean> {
+
+    private static final int ABSENT = Integer.MIN_VALUE;
+    private static final Rectangle STALE = new Rectangle(0, 0, 0, 0);
+
+    private final List<By> locators;
+    private final int requiredSamples;
+    private final int tolerance;
+    private final WebElement[] elements;
+    private int[] previous;
+    private int stableSamples;
+
+    public GeometryStabilityCondition(List<By> locators, int requiredSamples, int tolerance) {
+        if (locators.isEmpty()) {
+            throw new IllegalArgumentException("At least one locator is required");
+        }
+        if (requiredSamples < 2) {
+            throw new IllegalArgumentException("At least two samples are required to detect movement");
+        }
+        this.locators = List.copyOf(locators);
+        this.requiredSamples = requiredSamples;
+        this.tolerance = Math.max(0, tolerance);
+        this.elements = new WebElement[this.locators.size()];
+    }
+
+    @Override
+    public Boolean apply(WebDriver driver) {
+        int[] current = sample(driver);
+        if (current == null) {
+            previous = null;
+            stableSamples = 0;
+            return false;
+        }
+        if (previous != null && withinTolerance(previous, current)) {
+            stableSamples++;
+        } else {
+            stableSamples = 1;
+        }
+        previous = current;
+        return stableSamples >= requiredSamples;
+    }
+
+    /**
+     * Sample x, y, width and height of every tracked element in one pass
+     *
+     * @return null if the sample is unusable: an element went stale or none is present
+     */
+    private int[] sample(WebDriver driver) {
+        int[] rects = new int[elements.length * 4];
+        boolean anyPresent = false;
+        for (int i = 0; i < elements.length; i++) {
+            Rectangle rect = readRect(driver, i);
+            if (rect == STALE) {
+                return null;
+            }
+            int offset = i * 4;
+            if (rect == null) {
+                rects[offset] = ABSENT;
+                continue;
+            }
+            anyPresent = true;
+            rects[offset] = rect.getX();
+            rects[offset + 1] = rect.getY();
+            rects[offset + 2] = rect.getWidth();
+            rects[offset + 3] = rect.getHeight();
+        }
+        return anyPresent ? rects : null;
+    }
+
+    /**
+     * Rectangle of a tracked element, null if it is absent, or {@link #STALE} if it went stale
+     * right after being found again
+     */
+    private Rectangle readRect(WebDriver driver, int index) {
+        if (elements[index] != null) {
+            try {
+                return elements[index].getRect();
+            } catch (StaleElementReferenceException e) {
+                elements[index] = null;
+            }
+        }
+        List<WebElement> found = driver.findElements(locators.get(index));
+        if (found.isEmpty()) {
+            return null;
+        }
+        elements[index] = found.get(0);
+        try {
+            return elements[index].getRect();
+        } catch (StaleElementReferenceException e) {
+            elements[index] = null;
+            return STALE;
+        }
+    }
+
+    private boolean withinTolerance(int[] before, int[] after) {
+        for (int offset = 0; offset < before.length; offset += 4) {
+            boolean absentBefore = before[offset] == ABSENT;
+            boolean absentAfter = after[offset] == ABSENT;
+            if (absentBefore || absentAfter) {
+                if (absentBefore != absentAfter) {
+                    return false;
+                }
+                continue;
+            }
+            for (int i = offset; i < offset + 4; i++) {
+                if (Math.abs(before[i] - after[i]) > tolerance) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("geometry of %s to be stable for %d samples (tolerance %dpx)",
+                locators, requiredSamples, tolerance);
+    }
+}
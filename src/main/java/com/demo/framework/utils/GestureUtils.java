@@ -1,17 +1,23 @@
 package com.demo.framework.utils;
 
+import com.demo.framework.gestures.Gesture;
+import com.demo.framework.gestures.GestureBuilder;
+import com.demo.framework.gestures.GestureCalibrator;
+import com.demo.framework.gestures.ScrollConvergence;
+import com.demo.framework.gestures.ScrollResult;
+import com.demo.framework.locators.LocatorProfiler;
+import com.demo.framework.snapshot.UiQuery;
+import com.demo.framework.snapshot.UiSnapshotManager;
 import io.appium.java_client.AppiumDriver;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Dimension;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.interactions.PointerInput;
-import org.openqa.selenium.interactions.Sequence;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
-import java.util.Arrays;
-import java.util.Collections;
 
 /**
  * Utility class for gesture operations on mobile devices
@@ -19,37 +25,82 @@ import java.util.Collections;
 public class GestureUtils {
 
     private static final Logger LOG = LoggerFactory.getLogger(GestureUtils.class);
-    private static final Duration SWIPE_DURATION = Duration.ofMillis(600);
+    private static final Duration SWIPE_GAP = Duration.ofMillis(300);
+    private static final Duration PINCH_DURATION = Duration.ofMillis(500);
+    private static final int MAX_SCROLLS = 5;
     private final AppiumDriver driver;
+    private final UiSnapshotManager snapshots;
+    private final ElementCache elements;
+    private final GestureCalibrator calibrator;
 
     public GestureUtils(AppiumDriver driver) {
         this.driver = driver;
+        this.snapshots = UiSnapshotManager.forDriver(driver);
+        this.elements = ElementCache.forDriver(driver);
+        this.calibrator = GestureCalibrator.forDriver(driver);
+    }
+
+    /**
+     * Calibrate the swipe duration for this device on a horizontally scrolling container, once per device
+     */
+    public Duration calibrateSwipe(UiQuery container) {
+        if (calibrator.isCalibrated(GestureCalibrator.Kind.SWIPE)) {
+            return calibrator.duration(GestureCalibrator.Kind.SWIPE);
+        }
+        Rectangle bounds = snapshots.current().getBounds(container);
+        if (bounds == null) {
+            LOG.debug("Swipe calibration skipped, container not on screen: {}", container);
+            return calibrator.duration(GestureCalibrator.Kind.SWIPE);
+        }
+        int y = bounds.getY() + bounds.getHeight() / 2;
+        Point right = new Point(bounds.getX() + bounds.getWidth() * 4 / 5, y);
+        Point left = new Point(bounds.getX() + bounds.getWidth() / 5, y);
+        Gesture back = GestureBuilder.create()
+                .swipe(left, right, GestureCalibrator.Kind.SWIPE.getDefaultDuration())
+                .build();
+        return calibrator.calibrate(GestureCalibrator.Kind.SWIPE, calibrator.contentProbe(container,
+                duration -> GestureBuilder.create().swipe(right, left, duration).build(),
+                () -> back.perform(driver)));
     }
 
     /**
      * Swipe to the left
      */
     public void swipeLeft() {
-        LOG.info("Swiping left");
+        swipeLeft(1);
+    }
+
+    /**
+     * Swipe to the left several times in a single action
+     */
+    public void swipeLeft(int times) {
+        LOG.info("Swiping left {} time(s)", times);
         Dimension size = driver.manage().window().getSize();
         int startX = (int) (size.getWidth() * 0.8);
         int endX = (int) (size.getWidth() * 0.2);
         int y = size.getHeight() / 2;
 
-        performSwipe(startX, y, endX, y);
+        performSwipe(startX, y, endX, y, times);
     }
 
     /**
      * Swipe to the right
      */
     public void swipeRight() {
-        LOG.info("Swiping right");
+        swipeRight(1);
+    }
+
+    /**
+     * Swipe to the right several times in a single action
+     */
+    public void swipeRight(int times) {
+        LOG.info("Swiping right {} time(s)", times);
         Dimension size = driver.manage().window().getSize();
         int startX = (int) (size.getWidth() * 0.2);
         int endX = (int) (size.getWidth() * 0.8);
         int y = size.getHeight() / 2;
 
-        performSwipe(startX, y, endX, y);
+        performSwipe(startX, y, endX, y, times);
     }
 
     /**
@@ -108,30 +159,66 @@ public class GestureUtils {
      * Perform swipe gesture using W3C Actions API
      */
     private void performSwipe(int startX, int startY, int endX, int endY) {
+        performSwipe(startX, startY, endX, endY, 1);
+    }
+
+    /**
+     * Perform the same swipe several times as one W3C action, pausing between swipes
+     */
+    private void performSwipe(int startX, int startY, int endX, int endY, int times) {
+        Duration duration = calibrator.duration(GestureCalibrator.Kind.SWIPE);
+        GestureBuilder builder = GestureBuilder.create();
+        for (int i = 0; i < times; i++) {
+            if (i > 0) {
+                builder.pause(SWIPE_GAP);
+            }
+            builder.swipe(new Point(startX, startY), new Point(endX, endY), duration);
+        }
+        perform(builder.build());
+    }
+
+    /**
+     * Perform a prebuilt gesture in a single request
+     */
+    public void perform(Gesture gesture) {
         try {
-            PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-            Sequence sequence = new Sequence(finger, 0)
-                    .addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), startX, startY))
-                    .addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()))
-                    .addAction(finger.createPointerMove(SWIPE_DURATION, PointerInput.Origin.viewport(), endX, endY))
-                    .addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-
-            driver.perform(Collections.singletonList(sequence));
+            gesture.perform(driver);
         } catch (Exception e) {
-            LOG.warn("Error performing swipe gesture", e);
+            LOG.warn("Error performing gesture", e);
         }
     }
 
+    /**
+     * Two-finger pinch around a point; a larger end distance zooms in, a smaller one zooms out
+     */
+    public void pinch(int centerX, int centerY, int startDistance, int endDistance) {
+        LOG.info("Pinching at ({}, {}) from {}px to {}px", centerX, centerY, startDistance, endDistance);
+        perform(GestureBuilder.create()
+                .pinch(new Point(centerX, centerY), startDistance, endDistance, PINCH_DURATION)
+                .build());
+    }
+
     /**
      * Scroll to element
      */
     public void scrollToElement(By locator) {
         LOG.info("Scrolling to element: {}", locator);
+        ScrollResult result = new ScrollConvergence(driver, null)
+                .scrollUntil(() -> isPresent(locator), this::swipeUp, MAX_SCROLLS);
+        if (result == ScrollResult.REACHED_END) {
+            LOG.warn("Reached end of content without finding element: {}", locator);
+        } else if (result == ScrollResult.LIMIT_REACHED) {
+            LOG.warn("Element not found after {} scrolls: {}", MAX_SCROLLS, locator);
+        }
+    }
+
+    private boolean isPresent(By locator) {
         try {
-            driver.findElement(locator);
+            LocatorProfiler.find(driver, locator);
+            return true;
         } catch (Exception e) {
             LOG.debug("Element not visible, scrolling down");
-            swipeUp();
+            return false;
         }
     }
 
@@ -157,7 +244,7 @@ public class GestureUtils {
     public void longPress(By locator, int duration) {
         LOG.info("Long pressing on element for {} ms: {}", duration, locator);
         try {
-            org.openqa.selenium.WebElement element = driver.findElement(locator);
+            org.openqa.selenium.WebElement element = LocatorProfiler.find(driver, locator);
             new Actions(driver)
                     .clickAndHold(element)
                     .pause(Duration.ofMillis(duration))
@@ -166,6 +253,9 @@ public class GestureUtils {
             LOG.info("Long press completed");
         } catch (Exception e) {
             LOG.warn("Error performing long press", e);
+        } finally {
+            snapshots.invalidate();
+            elements.invalidate();
         }
     }
 
@@ -174,18 +264,7 @@ public class GestureUtils {
      */
     public void tap(int x, int y) {
         LOG.info("Tapping at coordinates ({}, {})", x, y);
-        try {
-            PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
-            Sequence sequence = new Sequence(finger, 0)
-                    .addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), x, y))
-                    .addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()))
-                    .addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-
-            driver.perform(Arrays.asList(sequence));
-            LOG.info("Tap completed");
-        } catch (Exception e) {
-            LOG.warn("Error performing tap", e);
-        }
+        perform(GestureBuilder.create().tap(new Point(x, y)).build());
     }
 }
 
@@ -0,0 +1,120 @@
+package com.demo.framework.utils;
+
+import com.demo.framework.exceptions.FrameworkException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Difference hash (dHash) of an encoded image.
+ * <p>
+ * The image is decoded subsampled, averaged to a grayscale grid of {@code (size + 1) x size} cells and hashed
+ * to one bit per horizontal neighbour pair (brighter by more than a couple of luma levels or not). The
+ * dead zone keeps flat areas at 0 instead of letting noise decide between equal cells, so near-identical screens
+ * differ in few bits and the Hamming distance between two hashes measures visual change. All arithmetic runs on
+ * primitive arrays.
+ */
+public final class PerceptualHash {
+
+    /**
+     * Decoded samples per grid cell and axis; enough to average out noise without decoding full resolution
+     */
+    private static final int SAMPLES_PER_CELL = 8;
+
+    /**
+     * Mean luma difference a neighbour pair needs to set its bit
+     */
+    private static final int MIN_GRADIENT = 2;
+
+    private PerceptualHash() {
+    }
+
+    /**
+     * Hash of a PNG or JPEG image with {@code size * size} bits
+     *
+     * @param size grid size; a multiple of 8, e.g. 16 for a 256-bit hash
+     * @throws FrameworkException if the image cannot be decoded
+     */
+    public static long[] of(byte[] image, int size) {
+        int columns = size + 1;
+        BufferedImage decoded = decodeSubsampled(image, columns * SAMPLES_PER_CELL);
+        int width = decoded.getWidth();
+        int height = decoded.getHeight();
+        int[] pixels = decoded.getRGB(0, 0, width, height, null, 0, width);
+
+        long[] sums = new long[columns * size];
+        int[] counts = new int[columns * size];
+        for (int y = 0; y < height; y++) {
+            int row = y * size / height * columns;
+            int offset = y * width;
+            for (int x = 0; x < width; x++) {
+                int rgb = pixels[offset + x];
+                // Integer Rec. 601 luma
+                int luma = (((rgb >> 16) & 0xFF) * 299 + ((rgb >> 8) & 0xFF) * 587 + (rgb & 0xFF) * 114) / 1000;
+                int cell = row + x * columns / width;
+                sums[cell] += luma;
+                counts[cell]++;
+            }
+        }
+
+        long[] hash = new long[(size * size + 63) / 64];
+        int bit = 0;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++, bit++) {
+                int left = y * columns + x;
+                long leftCount = counts[left];
+                long rightCount = counts[left + 1];
+                // Compare means by cross-multiplying to stay in integer arithmetic
+                if (sums[left] * rightCount > (sums[left + 1] + MIN_GRADIENT * rightCount) * leftCount) {
+                    hash[bit >>> 6] |= 1L << (bit & 63);
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Number of differing bits between two hashes of the same size
+     */
+    public static int distance(long[] first, long[] second) {
+        if (first.length != second.length) {
+            throw new IllegalArgumentException("Hashes differ in size: " + first.length + " vs " + second.length);
+        }
+        int distance = 0;
+        for (int i = 0; i < first.length; i++) {
+            distance += Long.bitCount(first[i] ^ second[i]);
+        }
+        return distance;
+    }
+
+    /**
+     * Decode with source subsampling so the shorter side keeps about {@code minSamples} pixels
+     */
+    private static BufferedImage decodeSubsampled(byte[] image, int minSamples) {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(new ByteArrayInputStream(image))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                throw new FrameworkException("Unsupported image format for hashing");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                int shorter = Math.min(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, shorter / minSamples);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new FrameworkException("Unable to decode image for hashing", e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.demo.framework.utils;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.drivers.SessionScope;
+import com.demo.framework.drivers.device.AdbCommand;
+import com.demo.framework.drivers.device.DeviceProfile;
+import com.demo.framework.drivers.device.HostCommand;
+import com.demo.framework.exceptions.FrameworkException;
+import com.demo.framework.metrics.FrameworkMetrics;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Captures screenshots as PNG bytes, from the test host when possible instead of through the Appium server.
+ * <p>
+ * Android frames come from {@code adb exec-out screencap}, either as device-encoded PNG or, with
+ * {@code screenshot.host.android=raw}, as the raw framebuffer encoded on the host. iOS simulator frames come
+ * from {@code xcrun simctl io <udid> screenshot}. Host capture does not occupy the automation session. If it
+ * fails once (e.g. adb missing, or a real iOS device) the session falls back to the driver's screenshot command.
+ * Disabled with {@code screenshot.hostCapture=false}.
+ */
+public final class ScreenshotCapture {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScreenshotCapture.class);
+    private static final int RGBA_8888 = 1;
+    private static final long SIMCTL_TIMEOUT_SECONDS = 10;
+
+    private static final boolean HOST_ENABLED;
+    private static final boolean ANDROID_RAW;
+
+    static {
+        ConfigProvider config = ConfigProvider.getDefault();
+        HOST_ENABLED = config.getBoolean("screenshot.hostCapture", true);
+        ANDROID_RAW = "raw".equalsIgnoreCase(config.getString("screenshot.host.android", "png"));
+    }
+
+    private final AppiumDriver driver;
+    private final boolean android;
+    private final String udid;
+    private volatile boolean hostAvailable;
+
+    private ScreenshotCapture(AppiumDriver driver) {
+        this.driver = driver;
+        this.android = driver instanceof AndroidDriver;
+        this.udid = DeviceProfile.udid(driver.getCapabilities());
+        this.hostAvailable = HOST_ENABLED && (android || udid != null);
+    }
+
+    /**
+     * Get screenshot capture for the device of the given driver, bound to its session
+     */
+    public static ScreenshotCapture forDriver(AppiumDriver driver) {
+        return SessionScope.of(driver).get(ScreenshotCapture.class, () -> new ScreenshotCapture(driver));
+    }
+
+    /**
+     * PNG screenshot from the host if available, else from the driver
+     */
+    public byte[] capture() {
+        if (hostAvailable) {
+            try {
+                return captureFromHost();
+            } catch (FrameworkException e) {
+                hostAvailable = false;
+                LOG.warn("Host screenshot capture unavailable, using driver for this session: {}", e.getMessage());
+            }
+        }
+        return captureFromDriver();
+    }
+
+    public boolean isHostAvailable() {
+        return hostAvailable;
+    }
+
+    /**
+     * PNG screenshot through the Appium server
+     */
+    public byte[] captureFromDriver() {
+        long start = System.nanoTime();
+        byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        FrameworkMetrics.record("screenshot.capture.driver", System.nanoTime() - start);
+        return png;
+    }
+
+    /**
+     * PNG screenshot grabbed by host tools, bypassing the Appium server
+     *
+     * @throws FrameworkException if the host tools cannot capture the device screen
+     */
+    public byte[] captureFromHost() {
+        long start = System.nanoTime();
+        byte[] png = android ? captureAndroid() : captureSimulator();
+        FrameworkMetrics.record("screenshot.capture.host", System.nanoTime() - start);
+        return png;
+    }
+
+    private byte[] captureAndroid() {
+        AdbCommand adb = AdbCommand.forDevice(udid);
+        if (!ANDROID_RAW) {
+            return requirePng(adb.runForBytes("exec-out", "screencap", "-p"));
+        }
+        return encodeRawFrame(adb.runForBytes("exec-out", "screencap"));
+    }
+
+    private byte[] captureSimulator() {
+        Path file = null;
+        try {
+            file = Files.createTempFile("simctl-screenshot", ".png");
+            HostCommand.run(List.of("xcrun", "simctl", "io", udid, "screenshot", "--type=png", file.toString()),
+                    SIMCTL_TIMEOUT_SECONDS);
+            return requirePng(Files.readAllBytes(file));
+        } catch (IOException e) {
+            throw new FrameworkException("Unable to capture simulator screenshot", e);
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    LOG.debug("Unable to delete {}", file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Encode a raw {@code screencap} frame: little-endian width, height, pixel format and, from Android 9,
+     * color space, followed by RGBA_8888 pixels
+     */
+    static byte[] encodeRawFrame(byte[] frame) {
+        ByteBuffer buffer = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+        if (frame.length < 12) {
+            throw new FrameworkException("Raw screencap frame too short: " + frame.length + " bytes");
+        }
+        int width = buffer.getInt(0);
+        int height = buffer.getInt(4);
+        int format = buffer.getInt(8);
+        int pixelBytes = width * height * 4;
+        int header = frame.length - pixelBytes;
+        if (format != RGBA_8888 || width <= 0 || height <= 0 || (header != 12 && header != 16)) {
+            throw new FrameworkException("Unsupported raw screencap frame: " + width + "x" + height
+                    + ", format " + format + ", " + frame.length + " bytes");
+        }
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int[] row = new int[width];
+        int offset = header;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++, offset += 4) {
+                row[x] = (frame[offset] & 0xFF) << 16 | (frame[offset + 1] & 0xFF) << 8 | (frame[offset + 2] & 0xFF);
+            }
+            image.setRGB(0, y, width, 1, row, 0, width);
+        }
+        ByteArrayOutputStream png = new ByteArrayOutputStream(pixelBytes / 4);
+        try {
+            ImageIO.write(image, "png", png);
+        } catch (IOException e) {
+            throw new FrameworkException("Unable to encode screencap frame", e);
+        }
+        return png.toByteArray();
+    }
+
+    /**
+     * Guard against tools that exit normally but print an error instead of an image
+     */
+    private static byte[] requirePng(byte[] bytes) {
+        if (bytes.length < 8 || (bytes[0] & 0xFF) != 0x89 || bytes[1] != 'P' || bytes[2] != 'N' || bytes[3] != 'G') {
+            throw new FrameworkException("Host capture did not return a PNG (" + bytes.length + " bytes)");
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,76 @@
+package com.demo.framework.utils;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.drivers.SessionScope;
+import com.demo.framework.metrics.FrameworkMetrics;
+import io.appium.java_client.AppiumDriver;
+
+import java.util.Optional;
+
+/**
+ * Detects step screenshots that show the same screen as the previous one of the session.
+ * <p>
+ * Each screenshot is reduced to a {@link PerceptualHash}; when it is within {@code screenshot.dedup.maxDistance}
+ * bits of the previous screenshot, the caller references the previous attachment instead of writing a new file.
+ * The previous screenshot stays the reference, so slow drift across many steps is still captured.
+ */
+public final class ScreenshotDeduplicator {
+
+    private static final boolean ENABLED;
+    private static final int HASH_SIZE;
+    private static final int MAX_DISTANCE;
+
+    static {
+        ConfigProvider config = ConfigProvider.getDefault();
+        ENABLED = config.getBoolean("screenshot.dedup.enabled", true);
+        HASH_SIZE = Math.max(8, config.getInt("screenshot.dedup.hashSize", 16) / 8 * 8);
+        MAX_DISTANCE = Math.max(0, config.getInt("screenshot.dedup.maxDistance", 3));
+    }
+
+    private long[] previousHash;
+    private String previousSource;
+
+    private ScreenshotDeduplicator() {
+    }
+
+    /**
+     * Get deduplicator for the session of the given driver
+     */
+    public static ScreenshotDeduplicator forDriver(AppiumDriver driver) {
+        return SessionScope.of(driver).get(ScreenshotDeduplicator.class, ScreenshotDeduplicator::new);
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Hash a screenshot for {@link #findPrevious} and {@link #remember}
+     */
+    public long[] hash(byte[] png) {
+        long start = System.nanoTime();
+        long[] hash = PerceptualHash.of(png, HASH_SIZE);
+        FrameworkMetrics.record("screenshot.hash", System.nanoTime() - start);
+        return hash;
+    }
+
+    /**
+     * Attachment source of the previous screenshot if it is near-identical to the given one
+     */
+    public synchronized Optional<String> findPrevious(long[] hash) {
+        if (previousHash == null || previousSource == null
+                || PerceptualHash.distance(previousHash, hash) > MAX_DISTANCE) {
+            return Optional.empty();
+        }
+        FrameworkMetrics.increment("screenshot.deduplicated");
+        return Optional.of(previousSource);
+    }
+
+    /**
+     * Record a written screenshot as the reference for the next one
+     */
+    public synchronized void remember(long[] hash, String source) {
+        previousHash = hash;
+        previousSource = source;
+    }
+}
@@ -1,23 +1,18 @@
 package com.demo.framework.utils;
 
 import com.demo.framework.drivers.DriverManager;
-import com.demo.framework.exceptions.FrameworkException;
 import io.appium.java_client.AppiumDriver;
 import io.qameta.allure.Allure;
-import org.apache.commons.io.FileUtils;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 
 /**
  * Utility class for taking screenshots and integrating with Allure reporting
@@ -32,9 +27,23 @@ public class ScreenshotUtils {
     }
 
     /**
-     * Take screenshot and attach to Allure report
+     * Take screenshot and attach to Allure report.
+     * Only the capture runs on the calling thread, from the host when possible ({@link ScreenshotCapture});
+     * writing is done by {@link ScreenshotWriter}. The screenshot is always written in full.
      */
     public static void takeScreenshot(String name) {
+        takeScreenshot(name, false);
+    }
+
+    /**
+     * Take screenshot of a test step and attach to Allure report. A screen unchanged since the previous step
+     * screenshot ({@link ScreenshotDeduplicator}) is attached as a reference to the previous file instead.
+     */
+    public static void takeStepScreenshot(String name) {
+        takeScreenshot(name, ScreenshotDeduplicator.isEnabled());
+    }
+
+    private static void takeScreenshot(String name, boolean deduplicate) {
         try {
             if (!DriverManager.isDriverInitialized()) {
                 LOG.warn("Driver not initialized, skipping screenshot");
@@ -42,37 +51,57 @@ public class ScreenshotUtils {
             }
 
             AppiumDriver driver = DriverManager.getDriver();
-            File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-
-            String fileName = generateFileName(name);
-            Path screenshotPath = saveScreenshot(screenshot, fileName);
+            byte[] screenshot = ScreenshotCapture.forDriver(driver).capture();
+
+            long[] hash = null;
+            if (deduplicate) {
+                ScreenshotDeduplicator deduplicator = ScreenshotDeduplicator.forDriver(driver);
+                hash = deduplicator.hash(screenshot);
+                Optional<String> previous = deduplicator.findPrevious(hash);
+                if (previous.isPresent()) {
+                    attachReference(name, previous.get());
+                    LOG.info("Screen unchanged, screenshot '{}' references {}", name, previous.get());
+                    return;
+                }
+            }
 
-            attachToAllure(screenshotPath, name);
-            LOG.info("Screenshot saved: {}", screenshotPath);
+            Path screenshotPath = Paths.get(SCREENSHOT_DIR).resolve(generateFileName(name));
+            String source = prepareAllureAttachment(name);
+            ScreenshotWriter.submit(screenshot, screenshotPath, source);
+            if (hash != null) {
+                ScreenshotDeduplicator.forDriver(driver).remember(hash, source);
+            }
+            LOG.info("Screenshot queued: {}", screenshotPath);
         } catch (Exception e) {
             LOG.error("Failed to take screenshot", e);
         }
     }
 
     /**
-     * Take screenshot and save to file
+     * Reserve the Allure attachment in the current test step; its content is written later by the writer
      */
-    private static Path saveScreenshot(File source, String fileName) throws IOException {
-        Path dir = Paths.get(SCREENSHOT_DIR);
-        Files.createDirectories(dir);
-
-        Path destination = dir.resolve(fileName);
-        FileUtils.copyFile(source, destination.toFile());
-
-        return destination;
+    private static String prepareAllureAttachment(String name) {
+        return Allure.getLifecycle().prepareAttachment(name, ScreenshotWriter.getMimeType(),
+                "." + ScreenshotWriter.getExtension());
     }
 
     /**
-     * Attach screenshot to Allure report
+     * Add an attachment to the current test step that points at an already written attachment file
      */
-    private static void attachToAllure(Path screenshotPath, String name) throws IOException {
-        try (FileInputStream fis = new FileInputStream(screenshotPath.toFile())) {
-            Allure.addAttachment(name, "image/png", fis, ".png");
+    private static void attachReference(String name, String source) {
+        Attachment attachment = new Attachment()
+                .setName(name)
+                .setType(ScreenshotWriter.getMimeType())
+                .setSource(source);
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        Optional<String> current = lifecycle.getCurrentTestCaseOrStep();
+        if (current.isEmpty()) {
+            return;
+        }
+        if (current.equals(lifecycle.getCurrentTestCase())) {
+            lifecycle.updateTestCase(testCase -> testCase.getAttachments().add(attachment));
+        } else {
+            lifecycle.updateStep(step -> step.getAttachments().add(attachment));
         }
     }
 
@@ -81,11 +110,11 @@ public class ScreenshotUtils {
      */
     private static String generateFileName(String name) {
         String timestamp = LocalDateTime.now().format(DATE_FORMATTER);
-        return String.format("%s_%s.png", name.replaceAll("\\s+", "_"), timestamp);
+        return String.format("%s_%s.%s", name.replaceAll("\\s+", "_"), timestamp, ScreenshotWriter.getExtension());
     }
 
     /**
-     * Take screenshot on assertion failure
+     * Take screenshot on assertion failure; never deduplicated, as it is the evidence of the failure
      */
     public static void takeScreenshotOnFailure() {
         takeScreenshot("assertion_failure");
@@ -0,0 +1,231 @@
+package com.demo.framework.utils;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.metrics.FrameworkMetrics;
+import io.qameta.allure.Allure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes screenshots off the test thread through a bounded queue.
+ * <p>
+ * Each screenshot is one byte array from the driver: it is optionally downscaled and recompressed, written
+ * once to its file with NIO (memory-mapped with {@code screenshot.mmap=true}), and streamed from the same
+ * array into the Allure attachment reserved on the test thread. When {@code screenshot.queueSize} screenshots
+ * are pending, {@link #submit} blocks the producer until the writer catches up.
+ */
+public final class ScreenshotWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScreenshotWriter.class);
+    private static final String PNG = "png";
+    private static final String JPEG = "jpg";
+
+    private static final int QUEUE_SIZE;
+    private static final boolean MEMORY_MAPPED;
+    private static final double SCALE;
+    private static final String FORMAT;
+    private static final float JPEG_QUALITY;
+
+    private static final BlockingQueue<Job> QUEUE;
+    private static final AtomicInteger IN_FLIGHT = new AtomicInteger();
+
+    static {
+        ConfigProvider config = ConfigProvider.getDefault();
+        QUEUE_SIZE = Math.max(1, config.getInt("screenshot.queueSize", 8));
+        MEMORY_MAPPED = config.getBoolean("screenshot.mmap", false);
+        SCALE = Double.parseDouble(config.getString("screenshot.scale", "1.0"));
+        FORMAT = JPEG.equalsIgnoreCase(config.getString("screenshot.format", PNG)) ? JPEG : PNG;
+        JPEG_QUALITY = Float.parseFloat(config.getString("screenshot.jpegQuality", "0.8"));
+        QUEUE = new ArrayBlockingQueue<>(QUEUE_SIZE);
+        Thread writer = new Thread(ScreenshotWriter::writeLoop, "screenshot-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private ScreenshotWriter() {
+    }
+
+    /**
+     * File extension of written screenshots, without the dot
+     */
+    public static String getExtension() {
+        return FORMAT;
+    }
+
+    public static String getMimeType() {
+        return JPEG.equals(FORMAT) ? "image/jpeg" : "image/png";
+    }
+
+    /**
+     * Queue a PNG screenshot for writing, blocking while the queue is full
+     *
+     * @param allureSource attachment source reserved with {@code prepareAttachment}, or null to skip Allure
+     */
+    public static void submit(byte[] png, Path file, String allureSource) {
+        IN_FLIGHT.incrementAndGet();
+        Job job = new Job(png, file, allureSource);
+        try {
+            if (!QUEUE.offer(job)) {
+                long start = System.nanoTime();
+                QUEUE.put(job);
+                FrameworkMetrics.record("screenshot.backpressure", System.nanoTime() - start);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            IN_FLIGHT.decrementAndGet();
+            LOG.warn("Interrupted while queueing screenshot {}", file);
+        }
+    }
+
+    /**
+     * Wait until every queued screenshot is written, e.g. before the report is generated
+     *
+     * @return false if screenshots were still pending when the timeout elapsed
+     */
+    public static boolean awaitIdle(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (IN_FLIGHT.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                LOG.warn("{} screenshot(s) still pending", IN_FLIGHT.get());
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeLoop() {
+        while (true) {
+            Job job;
+            try {
+                job = QUEUE.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                byte[] bytes = process(job.png());
+                write(job.file(), ByteBuffer.wrap(bytes));
+                if (job.allureSource() != null) {
+                    Allure.getLifecycle().writeAttachment(job.allureSource(), new ByteArrayInputStream(bytes));
+                }
+                FrameworkMetrics.record("screenshot.write", System.nanoTime() - start);
+                LOG.debug("Screenshot written: {} ({} bytes)", job.file(), bytes.length);
+            } catch (Exception e) {
+                LOG.error("Failed to write screenshot {}", job.file(), e);
+            } finally {
+                IN_FLIGHT.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Downscale and recompress when configured; otherwise the driver's bytes are used as they are
+     */
+    private static byte[] process(byte[] png) throws IOException {
+        if (SCALE >= 1.0 && PNG.equals(FORMAT)) {
+            return png;
+        }
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            return png;
+        }
+        if (SCALE < 1.0) {
+            image = downscale(image, SCALE);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(png.length / 2);
+        if (JPEG.equals(FORMAT)) {
+            writeJpeg(image, out);
+        } else {
+            ImageIO.write(image, PNG, out);
+        }
+        return out.toByteArray();
+    }
+
+    private static BufferedImage downscale(BufferedImage source, double scale) {
+        int width = Math.max(1, (int) (source.getWidth() * scale));
+        int height = Math.max(1, (int) (source.getHeight() * scale));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private static void writeJpeg(BufferedImage image, ByteArrayOutputStream out) throws IOException {
+        if (image.getColorModel().hasAlpha()) {
+            BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = rgb.createGraphics();
+            graphics.drawImage(image, 0, 0, null);
+            graphics.dispose();
+            image = rgb;
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static void write(Path file, ByteBuffer buffer) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        if (MEMORY_MAPPED) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, buffer.remaining());
+                mapped.put(buffer);
+                mapped.force();
+            }
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private record Job(byte[] png, Path file, String allureSource) {
+    }
+}
@@ -1,28 +1,43 @@
 package com.demo.framework.utils;
 
+import com.demo.framework.devicelog.CrashWatcher;
+import com.demo.framework.devicelog.DeviceLog;
+import com.demo.framework.devicelog.DeviceLogLine;
+import com.demo.framework.exceptions.FrameworkException;
+import com.demo.framework.locators.LocatorProfiler;
 import io.appium.java_client.AppiumDriver;
 import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 public class WaitUtils {
 
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(15);
     private static final Logger LOG = LoggerFactory.getLogger(WaitUtils.class);
+    private static final Duration STABILITY_POLL_INTERVAL = Duration.ofMillis(100);
+    private static final Duration LOG_POLL_INTERVAL = Duration.ofMillis(50);
+    private static final int DEFAULT_STABLE_SAMPLES = 2;
     private final AppiumDriver driver;
     private final WebDriverWait wait;
+    private final Duration timeout;
 
     public WaitUtils(AppiumDriver driver) {
-        this(driver, Duration.ofSeconds(15));
+        this(driver, DEFAULT_TIMEOUT);
     }
 
     public WaitUtils(AppiumDriver driver, Duration timeout) {
         this.driver = driver;
+        this.timeout = timeout;
         this.wait = new WebDriverWait(driver, timeout);
     }
 
@@ -31,7 +46,7 @@ public class WaitUtils {
      */
     public WebElement untilVisible(By locator) {
         LOG.debug("Waiting for element to be visible: {}", locator);
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return untilFound(locator, ExpectedConditions::visibilityOfElementLocated);
     }
 
     /**
@@ -39,7 +54,21 @@ public class WaitUtils {
      */
     public WebElement untilClickable(By locator) {
         LOG.debug("Waiting for element to be clickable: {}", locator);
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return untilFound(locator, ExpectedConditions::elementToBeClickable);
+    }
+
+    /**
+     * Wait until an already resolved element is visible
+     */
+    public WebElement untilVisible(WebElement element) {
+        return wait.until(watched(ExpectedConditions.visibilityOf(element)));
+    }
+
+    /**
+     * Wait until an already resolved element is clickable
+     */
+    public WebElement untilClickable(WebElement element) {
+        return wait.until(watched(ExpectedConditions.elementToBeClickable(element)));
     }
 
     /**
@@ -47,7 +76,7 @@ public class WaitUtils {
      */
     public WebElement untilPresent(By locator) {
         LOG.debug("Waiting for element to be present: {}", locator);
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return untilFound(locator, ExpectedConditions::presenceOfElementLocated);
     }
 
     /**
@@ -55,7 +84,7 @@ public class WaitUtils {
      */
     public boolean untilInvisible(By locator) {
         LOG.debug("Waiting for element to be invisible: {}", locator);
-        return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return until(locator, ExpectedConditions::invisibilityOfElementLocated);
     }
 
     /**
@@ -63,7 +92,7 @@ public class WaitUtils {
      */
     public boolean untilTextPresent(By locator, String text) {
         LOG.debug("Waiting for text '{}' in element: {}", text, locator);
-        return wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        return until(locator, target -> ExpectedConditions.textToBePresentInElementLocated(target, text));
     }
 
     /**
@@ -71,7 +100,7 @@ public class WaitUtils {
      */
     public int untilElementCount(By locator, int count) {
         LOG.debug("Waiting for element count {} for locator: {}", count, locator);
-        wait.until(ExpectedConditions.numberOfElementsToBeMoreThan(locator, count - 1));
+        until(locator, target -> ExpectedConditions.numberOfElementsToBeMoreThan(target, count - 1));
         return count;
     }
 
@@ -81,7 +110,7 @@ public class WaitUtils {
      */
     public <T> T untilCondition(Function<org.openqa.selenium.WebDriver, T> condition) {
         LOG.debug("Waiting for custom condition");
-        return wait.until(condition);
+        return wait.until(watched(condition));
     }
 
     /**
@@ -105,32 +134,116 @@ public class WaitUtils {
         }
     }
 
+    /**
+     * Mark the current end of the device log, before triggering the action whose log line is awaited
+     */
+    public long logMark() {
+        return deviceLog().mark();
+    }
+
+    /**
+     * Wait until a device log line read since the mark matches the regex
+     * Cheaper than polling the UI for state changes the app logs anyway; lines are matched as printed,
+     * including the logcat tag or iOS process name
+     *
+     * @return the matching line
+     */
+    public DeviceLogLine untilLogged(long mark, String regex) {
+        LOG.debug("Waiting for device log line matching /{}/", regex);
+        Pattern pattern = Pattern.compile(regex);
+        DeviceLog.Cursor cursor = deviceLog().cursor(mark);
+        return new WebDriverWait(driver, timeout, LOG_POLL_INTERVAL)
+                .until(watched(new ExpectedCondition<DeviceLogLine>() {
+                    @Override
+                    public DeviceLogLine apply(WebDriver ignored) {
+                        return cursor.find(pattern).orElse(null);
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "device log line matching /" + regex + "/";
+                    }
+                }));
+    }
+
     /**
      * Wait until element attribute has expected value
      */
     public boolean untilAttributeContains(By locator, String attribute, String value) {
         LOG.debug("Waiting for attribute '{}' to contain '{}' in element: {}", attribute, value, locator);
-        return wait.until(ExpectedConditions.attributeContains(locator, attribute, value));
+        return until(locator, target -> ExpectedConditions.attributeContains(target, attribute, value));
     }
 
     /**
      * Wait until element's position stabilizes (for drag-drop verification)
-     * Returns true when element position doesn't change between checks
+     * Returns true when element geometry doesn't change between two consecutive samples
      */
     public boolean untilPositionStable(By locator) {
-        LOG.debug("Waiting for element position to stabilize: {}", locator);
-        return wait.until(d -> {
-            try {
-                WebElement element = d.findElement(locator);
-                int x1 = element.getLocation().getX();
-                int y1 = element.getLocation().getY();
-                Thread.sleep(100); // Brief pause to detect movement
-                int x2 = element.getLocation().getX();
-                int y2 = element.getLocation().getY();
-                return x1 == x2 && y1 == y2;
-            } catch (Exception e) {
-                return false;
+        return untilGeometryStable(List.of(locator));
+    }
+
+    /**
+     * Wait until the geometry of all given elements stabilizes
+     * Each poll samples every element once; absent elements count as settled as long as one element is present
+     */
+    public boolean untilGeometryStable(List<By> locators) {
+        return untilGeometryStable(locators, DEFAULT_STABLE_SAMPLES, 0);
+    }
+
+    /**
+     * Wait until the geometry of all given elements stays within tolerance for N consecutive samples
+     */
+    public boolean untilGeometryStable(List<By> locators, int requiredSamples, int tolerancePx) {
+        LOG.debug("Waiting for geometry of {} element(s) to stabilize ({} samples, {}px tolerance)",
+                locators.size(), requiredSamples, tolerancePx);
+        return new WebDriverWait(driver, timeout, STABILITY_POLL_INTERVAL)
+                .until(watched(new GeometryStabilityCondition(locators, requiredSamples, tolerancePx)));
+    }
+
+    /**
+     * Wait on a locator condition, timed by the locator profiler
+     */
+    private <T> T until(By locator, Function<By, ExpectedCondition<T>> condition) {
+        By target = LocatorProfiler.resolve(locator);
+        return wait.until(watched(LocatorProfiler.timed(target, condition.apply(target))));
+    }
+
+    private DeviceLog deviceLog() {
+        if (!DeviceLog.isEnabled()) {
+            throw new FrameworkException("Device log waits need devicelog.enabled=true");
+        }
+        DeviceLog log = DeviceLog.forDriver(driver);
+        log.start();
+        if (!log.isRunning()) {
+            throw new FrameworkException("Device log is unavailable for this session");
+        }
+        return log;
+    }
+
+    /**
+     * Check the app for a crash on every poll, so a dead app fails the wait at once instead of timing out
+     */
+    private <T> ExpectedCondition<T> watched(Function<? super WebDriver, T> condition) {
+        return new ExpectedCondition<>() {
+            @Override
+            public T apply(WebDriver ignored) {
+                CrashWatcher.check(driver);
+                return condition.apply(ignored);
+            }
+
+            @Override
+            public String toString() {
+                return condition.toString();
             }
-        });
+        };
+    }
+
+    /**
+     * Wait for an element and hand it to the profiler while it is still on screen
+     */
+    private WebElement untilFound(By locator, Function<By, ExpectedCondition<WebElement>> condition) {
+        WebElement element = until(locator, condition);
+        LocatorProfiler.afterFind(driver, locator, element);
+        return element;
     }
 }
@@ -0,0 +1,93 @@
+package com.demo.framework.vision;
+
+import com.demo.framework.exceptions.FrameworkException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * 8-bit grayscale image as one primitive array, row-major
+ */
+public final class GrayImage {
+
+    private final int width;
+    private final int height;
+    private final int[] pixels;
+
+    public GrayImage(int width, int height, int[] pixels) {
+        if (pixels.length < width * height) {
+            throw new IllegalArgumentException("Expected " + width * height + " pixels, got " + pixels.length);
+        }
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+    }
+
+    /**
+     * Decode a PNG or JPEG image to grayscale
+     *
+     * @throws FrameworkException if the bytes are not a supported image
+     */
+    public static GrayImage decode(byte[] image) {
+        try {
+            BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(image));
+            if (decoded == null) {
+                throw new FrameworkException("Unsupported image format");
+            }
+            return of(decoded);
+        } catch (IOException e) {
+            throw new FrameworkException("Unable to decode image", e);
+        }
+    }
+
+    /**
+     * Grayscale copy of an image, converting its ARGB pixels in place in one array
+     */
+    public static GrayImage of(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        for (int i = 0; i < pixels.length; i++) {
+            int rgb = pixels[i];
+            // Integer Rec. 601 luma
+            pixels[i] = (((rgb >> 16) & 0xFF) * 299 + ((rgb >> 8) & 0xFF) * 587 + (rgb & 0xFF) * 114) / 1000;
+        }
+        return new GrayImage(width, height, pixels);
+    }
+
+    /**
+     * Copy of a region, clamped to the image
+     */
+    public GrayImage crop(int x, int y, int cropWidth, int cropHeight) {
+        int left = Math.max(0, x);
+        int top = Math.max(0, y);
+        int right = Math.min(width, x + cropWidth);
+        int bottom = Math.min(height, y + cropHeight);
+        if (right <= left || bottom <= top) {
+            throw new FrameworkException("Crop " + x + "," + y + " " + cropWidth + "x" + cropHeight
+                    + " is outside the " + width + "x" + height + " image");
+        }
+        int[] region = new int[(right - left) * (bottom - top)];
+        for (int row = top; row < bottom; row++) {
+            System.arraycopy(pixels, row * width + left, region, (row - top) * (right - left), right - left);
+        }
+        return new GrayImage(right - left, bottom - top, region);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Backing array; not copied, callers must not modify it
+     */
+    int[] pixels() {
+        return pixels;
+    }
+}
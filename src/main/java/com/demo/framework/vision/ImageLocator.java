@@ -0,0 +1,169 @@
+package com.demo.framework.vision;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.drivers.SessionScope;
+import com.demo.framework.drivers.device.DeviceProfile;
+import com.demo.framework.exceptions.FrameworkException;
+import com.demo.framework.metrics.FrameworkMetrics;
+import com.demo.framework.utils.ScreenshotCapture;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Finds elements on screen by image, for elements without accessibility ids or stable text.
+ * <p>
+ * Templates are PNG files named after the logical locator, looked up on the classpath under
+ * {@code templates/<platform>/} and then under {@code vision.templates.dir/<device profile>/}. A template
+ * missing for the device can be learned from an element found once the slow way ({@link #learn}); later runs
+ * on the same device profile match the template in one screenshot instead. Matches are returned as tap points
+ * in pointer coordinates, ready for {@code GestureUtils.tap}.
+ */
+public final class ImageLocator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImageLocator.class);
+
+    private static final Path TEMPLATE_DIR;
+    private static final double THRESHOLD;
+    private static final int PYRAMID_LEVELS;
+
+    static {
+        ConfigProvider config = ConfigProvider.getDefault();
+        TEMPLATE_DIR = Paths.get(config.getString("vision.templates.dir", "build/image-templates"));
+        THRESHOLD = Double.parseDouble(config.getString("vision.match.threshold", "0.9"));
+        PYRAMID_LEVELS = config.getInt("vision.pyramid.levels", 4);
+    }
+
+    private final AppiumDriver driver;
+    private final String platform;
+    private final Path deviceDir;
+    private final TemplateMatcher matcher = new TemplateMatcher(THRESHOLD, PYRAMID_LEVELS);
+    private final Map<String, Optional<GrayImage>> templates = new HashMap<>();
+    private Dimension window;
+
+    private ImageLocator(AppiumDriver driver) {
+        this.driver = driver;
+        this.platform = String.valueOf(driver.getCapabilities().getPlatformName()).toLowerCase();
+        this.deviceDir = TEMPLATE_DIR.resolve(DeviceProfile.key(driver.getCapabilities()));
+    }
+
+    /**
+     * Get image locator for the session of the given driver
+     */
+    public static ImageLocator forDriver(AppiumDriver driver) {
+        return SessionScope.of(driver).get(ImageLocator.class, () -> new ImageLocator(driver));
+    }
+
+    public synchronized boolean hasTemplate(String name) {
+        return template(name).isPresent();
+    }
+
+    /**
+     * Tap point of the template in the current screen, or empty if there is no template or no match
+     */
+    public Optional<Point> find(String name) {
+        return find(name, THRESHOLD);
+    }
+
+    /**
+     * Tap point of the template in the current screen if it matches with at least the given NCC score,
+     * for callers that need more certainty than {@code vision.match.threshold} before acting on a match
+     */
+    public synchronized Optional<Point> find(String name, double minScore) {
+        Optional<GrayImage> template = template(name);
+        if (template.isEmpty()) {
+            return Optional.empty();
+        }
+        byte[] png = ScreenshotCapture.forDriver(driver).capture();
+        long start = System.nanoTime();
+        GrayImage screen = GrayImage.decode(png);
+        Optional<TemplateMatch> match = matcher.find(screen, template.get());
+        FrameworkMetrics.record("vision.match", System.nanoTime() - start);
+        if (match.isEmpty()) {
+            LOG.debug("Template '{}' not found on screen", name);
+            return Optional.empty();
+        }
+        if (match.get().score() < minScore) {
+            LOG.debug("Template '{}' match score {} is below {}", name,
+                    String.format("%.3f", match.get().score()), minScore);
+            return Optional.empty();
+        }
+        Point center = match.get().center();
+        double scale = pointerScale(screen.getWidth());
+        LOG.debug("Template '{}' matched at {} (score {})", name, center, String.format("%.3f", match.get().score()));
+        return Optional.of(new Point((int) Math.round(center.getX() * scale), (int) Math.round(center.getY() * scale)));
+    }
+
+    /**
+     * Save the screen region of an element, in pointer coordinates, as the template for this device profile
+     */
+    public synchronized void learn(String name, Rectangle bounds) {
+        try {
+            BufferedImage screen = ImageIO.read(new ByteArrayInputStream(ScreenshotCapture.forDriver(driver).capture()));
+            if (screen == null) {
+                throw new FrameworkException("Unable to decode screenshot");
+            }
+            double scale = 1 / pointerScale(screen.getWidth());
+            int x = Math.max(0, (int) Math.round(bounds.getX() * scale));
+            int y = Math.max(0, (int) Math.round(bounds.getY() * scale));
+            int width = Math.min(screen.getWidth() - x, (int) Math.round(bounds.getWidth() * scale));
+            int height = Math.min(screen.getHeight() - y, (int) Math.round(bounds.getHeight() * scale));
+            if (width <= 0 || height <= 0) {
+                throw new FrameworkException("Element bounds are outside the screen");
+            }
+            BufferedImage region = screen.getSubimage(x, y, width, height);
+            Path file = deviceDir.resolve(name + ".png");
+            Files.createDirectories(deviceDir);
+            ImageIO.write(region, "png", file.toFile());
+            templates.put(name, Optional.of(GrayImage.of(region)));
+            LOG.info("Learned image template '{}' ({}x{}) in {}", name, width, height, file);
+        } catch (IOException | FrameworkException e) {
+            LOG.warn("Unable to learn image template '{}': {}", name, e.getMessage());
+        }
+    }
+
+    private Optional<GrayImage> template(String name) {
+        return templates.computeIfAbsent(name, this::loadTemplate);
+    }
+
+    private Optional<GrayImage> loadTemplate(String name) {
+        String resource = "templates/" + platform + "/" + name + ".png";
+        try (InputStream in = ImageLocator.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in != null) {
+                return Optional.ofNullable(ImageIO.read(in)).map(GrayImage::of);
+            }
+            Path file = deviceDir.resolve(name + ".png");
+            if (Files.isRegularFile(file)) {
+                return Optional.ofNullable(ImageIO.read(file.toFile())).map(GrayImage::of);
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to read image template '{}': {}", name, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Pointer coordinates per screenshot pixel: 1 on Android, 1 / screen scale on iOS
+     */
+    private double pointerScale(int screenshotWidth) {
+        if (window == null) {
+            window = driver.manage().window().getSize();
+        }
+        return (double) window.getWidth() / screenshotWidth;
+    }
+}
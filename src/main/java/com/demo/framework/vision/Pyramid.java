@@ -0,0 +1,136 @@
+package com.demo.framework.vision;
+
+/**
+ * Image pyramid with per-level integral images of pixel values and squared pixel values.
+ * <p>
+ * Each level halves the previous one with a 2x2 box filter. Buffers are kept between builds and only
+ * reallocated when the image size grows, so rebuilding for every screenshot of a session allocates nothing.
+ */
+final class Pyramid {
+
+    private final int[][] pixels;
+    private final int[] widths;
+    private final int[] heights;
+    private final long[][] sums;
+    private final long[][] squares;
+    private int levels;
+
+    Pyramid(int maxLevels) {
+        this.pixels = new int[maxLevels][];
+        this.widths = new int[maxLevels];
+        this.heights = new int[maxLevels];
+        this.sums = new long[maxLevels][];
+        this.squares = new long[maxLevels][];
+    }
+
+    /**
+     * Build the given number of levels; level 0 shares the image's array
+     */
+    void build(GrayImage image, int levelCount) {
+        levels = Math.min(levelCount, pixels.length);
+        pixels[0] = image.pixels();
+        widths[0] = image.getWidth();
+        heights[0] = image.getHeight();
+        integrate(0);
+        for (int level = 1; level < levels; level++) {
+            downsample(level);
+            integrate(level);
+        }
+    }
+
+    int levels() {
+        return levels;
+    }
+
+    int[] pixels(int level) {
+        return pixels[level];
+    }
+
+    int width(int level) {
+        return widths[level];
+    }
+
+    int height(int level) {
+        return heights[level];
+    }
+
+    /**
+     * Sum of pixel values in a rectangle of a level
+     */
+    long sum(int level, int x, int y, int w, int h) {
+        return rect(sums[level], widths[level] + 1, x, y, w, h);
+    }
+
+    /**
+     * Sum of squared pixel values in a rectangle of a level
+     */
+    long sumOfSquares(int level, int x, int y, int w, int h) {
+        return rect(squares[level], widths[level] + 1, x, y, w, h);
+    }
+
+    private static long rect(long[] table, int stride, int x, int y, int w, int h) {
+        int top = y * stride + x;
+        int bottom = (y + h) * stride + x;
+        return table[bottom + w] - table[bottom] - table[top + w] + table[top];
+    }
+
+    private void downsample(int level) {
+        int sourceWidth = widths[level - 1];
+        int width = Math.max(1, sourceWidth / 2);
+        int height = Math.max(1, heights[level - 1] / 2);
+        int[] source = pixels[level - 1];
+        int[] target = ensure(pixels[level], width * height);
+        for (int y = 0; y < height; y++) {
+            int row = 2 * y * sourceWidth;
+            int next = row + sourceWidth;
+            int out = y * width;
+            for (int x = 0; x < width; x++) {
+                int column = 2 * x;
+                target[out + x] = (source[row + column] + source[row + column + 1]
+                        + source[next + column] + source[next + column + 1] + 2) >> 2;
+            }
+        }
+        pixels[level] = target;
+        widths[level] = width;
+        heights[level] = height;
+    }
+
+    private void integrate(int level) {
+        int width = widths[level];
+        int height = heights[level];
+        int stride = width + 1;
+        int size = stride * (height + 1);
+        long[] sum = ensure(sums[level], size);
+        long[] square = ensure(squares[level], size);
+        int[] source = pixels[level];
+        for (int x = 0; x < stride; x++) {
+            sum[x] = 0;
+            square[x] = 0;
+        }
+        for (int y = 0; y < height; y++) {
+            long rowSum = 0;
+            long rowSquare = 0;
+            int in = y * width;
+            int out = (y + 1) * stride;
+            sum[out] = 0;
+            square[out] = 0;
+            for (int x = 0; x < width; x++) {
+                int value = source[in + x];
+                rowSum += value;
+                rowSquare += (long) value * value;
+                sum[out + x + 1] = sum[out - stride + x + 1] + rowSum;
+                square[out + x + 1] = square[out - stride + x + 1] + rowSquare;
+            }
+        }
+        sums[level] = sum;
+        squares[level] = square;
+    }
+
+    private static int[] ensure(int[] buffer, int size) {
+        return buffer != null && buffer.length >= size ? buffer : new int[size];
+    }
+
+    private static long[] ensure(long[] buffer, int size) {
+        return buffer != null && buffer.length >= size ? buffer : new long[size];
+    }
+}
@@ -0,0 +1,13 @@
+package com.demo.framework.vision;
+
+import org.openqa.selenium.Point;
+
+/**
+ * Best match of a template in an image: top-left corner and size in image pixels, and the NCC score (-1..1)
+ */
+public record TemplateMatch(int x, int y, int width, int height, double score) {
+
+    public Point center() {
+        return new Point(x + width / 2, y + height / 2);
+    }
+}
@@ -0,0 +1,207 @@
+package com.demo.framework.vision;
+
+import java.util.Optional;
+
+/**
+ * Finds a template in an image by normalized cross-correlation (NCC), coarse to fine.
+ * <p>
+ * Image and template are reduced to an image pyramid. The coarsest level is scanned exhaustively, in tiles of
+ * positions so the rows under the template stay in cache, keeping the best few separated candidates. Each
+ * candidate is then refined level by level in a small window around its upscaled position. Window means and
+ * variances come from integral images, so each position costs one multiply-add per template pixel.
+ * <p>
+ * Buffers are reused between calls; an instance is not thread-safe and is meant to be kept per session.
+ */
+public final class TemplateMatcher {
+
+    /**
+     * Smallest template side a pyramid level may shrink to; smaller templates lose their structure
+     */
+    private static final int MIN_TEMPLATE_SIDE = 8;
+    private static final int TILE = 32;
+    private static final int CANDIDATES = 4;
+    private static final int REFINE_RADIUS = 2;
+
+    private final double threshold;
+    private final int maxLevels;
+    private final Pyramid screen;
+    private final Pyramid template;
+    private GrayImage lastTemplate;
+    private final double[] candidateScores = new double[CANDIDATES];
+    private final int[] candidateX = new int[CANDIDATES];
+    private final int[] candidateY = new int[CANDIDATES];
+    private int candidateCount;
+
+    /**
+     * @param threshold minimum NCC score of a match at full resolution, e.g. 0.9
+     * @param maxLevels pyramid levels including full resolution; 1 scans the full image
+     */
+    public TemplateMatcher(double threshold, int maxLevels) {
+        this.threshold = threshold;
+        this.maxLevels = Math.max(1, maxLevels);
+        this.screen = new Pyramid(this.maxLevels);
+        this.template = new Pyramid(this.maxLevels);
+    }
+
+    /**
+     * Best match of the template in the image, if its score reaches the threshold
+     */
+    public Optional<TemplateMatch> find(GrayImage image, GrayImage needle) {
+        if (needle.getWidth() > image.getWidth() || needle.getHeight() > image.getHeight()) {
+            return Optional.empty();
+        }
+        int levels = levelsFor(needle);
+        screen.build(image, levels);
+        if (needle != lastTemplate || template.levels() != levels) {
+            template.build(needle, levels);
+            lastTemplate = needle;
+        }
+
+        int coarse = levels - 1;
+        scan(coarse);
+        TemplateMatch best = null;
+        for (int i = 0; i < candidateCount; i++) {
+            int x = candidateX[i];
+            int y = candidateY[i];
+            double score = candidateScores[i];
+            for (int level = coarse - 1; level >= 0; level--) {
+                long refined = refine(level, 2 * x, 2 * y);
+                x = (int) (refined >> 32);
+                y = (int) refined;
+                score = score(level, x, y);
+            }
+            if (best == null || score > best.score()) {
+                best = new TemplateMatch(x, y, needle.getWidth(), needle.getHeight(), score);
+            }
+        }
+        return best != null && best.score() >= threshold ? Optional.of(best) : Optional.empty();
+    }
+
+    private int levelsFor(GrayImage needle) {
+        int side = Math.min(needle.getWidth(), needle.getHeight());
+        int levels = 1;
+        while (levels < maxLevels && side / 2 >= MIN_TEMPLATE_SIDE) {
+            side /= 2;
+            levels++;
+        }
+        return levels;
+    }
+
+    /**
+     * Exhaustive scan of a level, keeping the best separated candidates
+     */
+    private void scan(int level) {
+        candidateCount = 0;
+        int maxX = screen.width(level) - template.width(level);
+        int maxY = screen.height(level) - template.height(level);
+        for (int tileY = 0; tileY <= maxY; tileY += TILE) {
+            int endY = Math.min(tileY + TILE, maxY + 1);
+            for (int tileX = 0; tileX <= maxX; tileX += TILE) {
+                int endX = Math.min(tileX + TILE, maxX + 1);
+                for (int y = tileY; y < endY; y++) {
+                    for (int x = tileX; x < endX; x++) {
+                        offer(level, x, y, score(level, x, y));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Best position within the refine window around (x, y), packed as {@code x << 32 | y}
+     */
+    private long refine(int level, int x, int y) {
+        int maxX = screen.width(level) - template.width(level);
+        int maxY = screen.height(level) - template.height(level);
+        int bestX = Math.min(Math.max(0, x), maxX);
+        int bestY = Math.min(Math.max(0, y), maxY);
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int dy = -REFINE_RADIUS; dy <= REFINE_RADIUS; dy++) {
+            int cy = y + dy;
+            if (cy < 0 || cy > maxY) {
+                continue;
+            }
+            for (int dx = -REFINE_RADIUS; dx <= REFINE_RADIUS; dx++) {
+                int cx = x + dx;
+                if (cx < 0 || cx > maxX) {
+                    continue;
+                }
+                double score = score(level, cx, cy);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestX = cx;
+                    bestY = cy;
+                }
+            }
+        }
+        return (long) bestX << 32 | (bestY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Zero-mean NCC of the template at (x, y) of a level
+     */
+    private double score(int level, int x, int y) {
+        int width = template.width(level);
+        int height = template.height(level);
+        int n = width * height;
+        long imageSum = screen.sum(level, x, y, width, height);
+        double imageVariance = screen.sumOfSquares(level, x, y, width, height) - (double) imageSum * imageSum / n;
+        long templateSum = template.sum(level, 0, 0, width, height);
+        double templateVariance = template.sumOfSquares(level, 0, 0, width, height)
+                - (double) templateSum * templateSum / n;
+        if (imageVariance <= 1e-6 || templateVariance <= 1e-6) {
+            return 0;
+        }
+
+        int[] image = screen.pixels(level);
+        int[] needle = template.pixels(level);
+        int stride = screen.width(level);
+        long dot = 0;
+        for (int row = 0; row < height; row++) {
+            int in = (y + row) * stride + x;
+            int tp = row * width;
+            int rowDot = 0;
+            for (int column = 0; column < width; column++) {
+                rowDot += image[in + column] * needle[tp + column];
+            }
+            dot += rowDot;
+        }
+        double cross = dot - (double) imageSum * templateSum / n;
+        return cross / Math.sqrt(imageVariance * templateVariance);
+    }
+
+    /**
+     * Keep a position among the best candidates, merging it with a candidate closer than half the template
+     */
+    private void offer(int level, int x, int y, double score) {
+        int radiusX = Math.max(1, template.width(level) / 2);
+        int radiusY = Math.max(1, template.height(level) / 2);
+        for (int i = 0; i < candidateCount; i++) {
+            if (Math.abs(candidateX[i] - x) < radiusX && Math.abs(candidateY[i] - y) < radiusY) {
+                if (score > candidateScores[i]) {
+                    candidateScores[i] = score;
+                    candidateX[i] = x;
+                    candidateY[i] = y;
+                }
+                return;
+            }
+        }
+        int slot = candidateCount;
+        if (candidateCount == CANDIDATES) {
+            slot = 0;
+            for (int i = 1; i < CANDIDATES; i++) {
+                if (candidateScores[i] < candidateScores[slot]) {
+                    slot = i;
+                }
+            }
+            if (score <= candidateScores[slot]) {
+                return;
+            }
+        } else {
+            candidateCount++;
+        }
+        candidateScores[slot] = score;
+        candidateX[slot] = x;
+        candidateY[slot] = y;
+    }
+}
@@ -0,0 +1,207 @@
+package com.demo.framework.vision;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.drivers.DriverManager;
+import com.demo.framework.drivers.device.DeviceProfile;
+import com.demo.framework.exceptions.FrameworkException;
+import com.demo.framework.locators.LocatorRegistry;
+import com.demo.framework.metrics.FrameworkMetrics;
+import com.demo.framework.utils.ScreenshotCapture;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
+import io.qameta.allure.Allure;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Visual regression assertions against baselines stored per device profile.
+ * <p>
+ * Baselines are PNG screenshots in {@code visual.baselines.dir/<device profile>/<name>.png}. A missing baseline
+ * fails the check: baselines are only written with {@code visual.baselines.update=true}, which records every
+ * checked screen for review instead of comparing it. On a mismatch the baseline, the screenshot and a
+ * {@link VisualDiff} image are attached to Allure and an {@link AssertionError} fails the test. Off unless
+ * {@code visual.enabled=true}.
+ */
+public final class VisualAssert {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VisualAssert.class);
+
+    private static final boolean ENABLED;
+    private static final Path BASELINE_DIR;
+    private static final boolean UPDATE_BASELINES;
+
+    static {
+        ConfigProvider config = ConfigProvider.getDefault();
+        ENABLED = config.getBoolean("visual.enabled", false);
+        BASELINE_DIR = Paths.get(config.getString("visual.baselines.dir", "build/visual-baselines"));
+        UPDATE_BASELINES = config.getBoolean("visual.baselines.update", false);
+    }
+
+    private VisualAssert() {
+    }
+
+    /**
+     * Assert that the current screen matches its baseline with the default options
+     */
+    public static void assertScreenMatches(String name) {
+        assertScreenMatches(name, VisualDiffOptions.defaults());
+    }
+
+    /**
+     * Assert that the current screen matches its baseline
+     *
+     * @throws AssertionError if the screen differs from the baseline beyond the options' limits
+     */
+    public static void assertScreenMatches(String name, VisualDiffOptions options) {
+        if (!ENABLED) {
+            LOG.info("Visual checks disabled, skipping '{}'", name);
+            return;
+        }
+        AppiumDriver driver = DriverManager.getDriver();
+        byte[] png = ScreenshotCapture.forDriver(driver).capture();
+        BufferedImage actual = read(png);
+        Path baseline = BASELINE_DIR.resolve(DeviceProfile.key(driver.getCapabilities())).resolve(name + ".png");
+
+        if (UPDATE_BASELINES) {
+            record(baseline, png);
+            Allure.addAttachment(name + " (new baseline)", "image/png", new ByteArrayInputStream(png), "png");
+            return;
+        }
+        if (!Files.exists(baseline)) {
+            Allure.addAttachment(name + " (actual)", "image/png", new ByteArrayInputStream(png), "png");
+            throw new AssertionError("No visual baseline '" + name + "' at " + baseline
+                    + "; record and review it with visual.baselines.update=true");
+        }
+
+        BufferedImage expected;
+        try {
+            expected = read(Files.readAllBytes(baseline));
+        } catch (IOException e) {
+            throw new FrameworkException("Unable to read visual baseline " + baseline, e);
+        }
+        List<Rectangle> masks = resolveMasks(driver, options, actual.getWidth());
+
+        long start = System.nanoTime();
+        VisualDiffResult result = VisualDiff.compare(expected, actual, options, masks, false);
+        FrameworkMetrics.record("visual.diff", System.nanoTime() - start);
+        if (result.matches(options.getMaxDiffPercent())) {
+            LOG.info("Screen matches baseline '{}': {}", name, result);
+            return;
+        }
+
+        if (!result.isSizeMismatch()) {
+            result = VisualDiff.compare(expected, actual, options, masks, true);
+        }
+        attach(name, baseline, png, result);
+        throw new AssertionError("Screen differs from baseline '" + name + "': " + result
+                + " (allowed " + options.getMaxDiffPercent() + "%)");
+    }
+
+    /**
+     * Ignore masks of the options in screenshot pixels: locator bounds and the status bar
+     */
+    private static List<Rectangle> resolveMasks(AppiumDriver driver, VisualDiffOptions options, int screenshotWidth) {
+        List<Rectangle> masks = new ArrayList<>();
+        List<String> locators = options.getIgnoredLocators();
+        if (!locators.isEmpty()) {
+            double scale = screenshotWidth / (double) driver.manage().window().getSize().getWidth();
+            LocatorRegistry registry = LocatorRegistry.forPlatform(
+                    String.valueOf(driver.getCapabilities().getPlatformName()));
+            for (String locator : locators) {
+                for (WebElement element : driver.findElements(registry.by(locator))) {
+                    Rectangle bounds = element.getRect();
+                    masks.add(new Rectangle((int) (bounds.getX() * scale), (int) (bounds.getY() * scale),
+                            (int) Math.ceil(bounds.getHeight() * scale), (int) Math.ceil(bounds.getWidth() * scale)));
+                }
+            }
+        }
+        if (options.isIgnoreStatusBar()) {
+            statusBar(driver, screenshotWidth).ifPresent(masks::add);
+        }
+        return masks;
+    }
+
+    /**
+     * Status bar in screenshot pixels: the top offset of {@code mobile: viewportRect} on Android, the status bar
+     * height of {@code mobile: deviceScreenInfo} in points times the screen scale on iOS
+     */
+    private static Optional<Rectangle> statusBar(AppiumDriver driver, int screenshotWidth) {
+        try {
+            int height = driver instanceof AndroidDriver
+                    ? androidStatusBarHeight(driver)
+                    : iosStatusBarHeight(driver, screenshotWidth);
+            if (height > 0) {
+                return Optional.of(new Rectangle(0, 0, height, screenshotWidth));
+            }
+        } catch (Exception e) {
+            LOG.debug("Screen info unavailable, status bar not masked: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private static int androidStatusBarHeight(AppiumDriver driver) {
+        Object viewport = driver.executeScript("mobile: viewportRect");
+        return viewport instanceof Map<?, ?> rect && rect.get("top") instanceof Number top ? top.intValue() : 0;
+    }
+
+    private static int iosStatusBarHeight(AppiumDriver driver, int screenshotWidth) {
+        Object screen = driver.executeScript("mobile: deviceScreenInfo");
+        if (!(screen instanceof Map<?, ?> info) || !(info.get("statusBarSize") instanceof Map<?, ?> statusBar)
+                || !(statusBar.get("height") instanceof Number points)) {
+            return 0;
+        }
+        double scale = info.get("scale") instanceof Number factor
+                ? factor.doubleValue()
+                : screenshotWidth / (double) driver.manage().window().getSize().getWidth();
+        return (int) Math.ceil(points.doubleValue() * scale);
+    }
+
+    private static void attach(String name, Path baseline, byte[] actual, VisualDiffResult result) {
+        try {
+            Allure.addAttachment(name + " (baseline)", "image/png",
+                    new ByteArrayInputStream(Files.readAllBytes(baseline)), "png");
+        } catch (IOException e) {
+            LOG.warn("Unable to attach baseline {}: {}", baseline, e.getMessage());
+        }
+        Allure.addAttachment(name + " (actual)", "image/png", new ByteArrayInputStream(actual), "png");
+        if (result.hasDiffImage()) {
+            Allure.addAttachment(name + " (diff)", "image/png", new ByteArrayInputStream(result.diffImagePng()), "png");
+        }
+    }
+
+    private static void record(Path baseline, byte[] png) {
+        try {
+            Files.createDirectories(baseline.getParent());
+            Files.write(baseline, png);
+            LOG.warn("Recorded visual baseline {}", baseline);
+        } catch (IOException e) {
+            throw new FrameworkException("Unable to write visual baseline " + baseline, e);
+        }
+    }
+
+    private static BufferedImage read(byte[] png) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                throw new FrameworkException("Unsupported screenshot format");
+            }
+            return image;
+        } catch (IOException e) {
+            throw new FrameworkException("Unable to decode screenshot", e);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.demo.framework.vision;
+
+import org.openqa.selenium.Rectangle;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Pixel diff of two screenshots of the same size.
+ * <p>
+ * The screen is split into square tiles. Tiles fully inside an ignore mask are skipped, and within a tile each
+ * row is compared with {@link Arrays#mismatch}, so identical spans cost a vectorized compare and only differing
+ * pixels are inspected. A differing pixel counts when any color channel differs by more than the tolerance,
+ * it is outside the masks, and (optionally) it is not on an anti-aliased edge in either image. Large screens
+ * are compared in parallel on the common fork-join pool. Without a diff image the comparison stops as soon as
+ * the allowed share of differing pixels is exceeded.
+ */
+public final class VisualDiff {
+
+    private static final int TILE = 64;
+    private static final int TILES_PER_TASK = 16;
+    private static final long PARALLEL_PIXELS = 500_000;
+
+    private static final int DIFF_COLOR = 0xFF0000;
+    private static final int ANTIALIASED_COLOR = 0xFFD700;
+    private static final int MASKED_COLOR = 0x9ABEFF;
+
+    private final int width;
+    private final int height;
+    private final int[] expected;
+    private final int[] actual;
+    private final int tolerance;
+    private final boolean ignoreAntialiasing;
+    private final int[][] masks;
+    private final int[] diff;
+    private final long stopAfter;
+    private final int tilesX;
+    private final LongAdder different = new LongAdder();
+    private final LongAdder antialiased = new LongAdder();
+    private final AtomicBoolean stopped = new AtomicBoolean();
+
+    private VisualDiff(int width, int height, int[] expected, int[] actual, VisualDiffOptions options,
+                       List<Rectangle> masks, boolean withDiffImage) {
+        this.width = width;
+        this.height = height;
+        this.expected = expected;
+        this.actual = actual;
+        this.tolerance = options.getTolerance();
+        this.ignoreAntialiasing = options.isIgnoreAntialiasing();
+        this.masks = Stream.concat(options.getIgnoredRegions().stream(), masks.stream())
+                .map(mask -> new int[]{mask.getX(), mask.getY(), mask.getX() + mask.getWidth(),
+                        mask.getY() + mask.getHeight()})
+                .toArray(int[][]::new);
+        this.diff = withDiffImage ? new int[width * height] : null;
+        this.stopAfter = withDiffImage ? Long.MAX_VALUE
+                : (long) Math.floor((long) width * height * options.getMaxDiffPercent() / 100);
+        this.tilesX = (width + TILE - 1) / TILE;
+    }
+
+    /**
+     * Compare a screenshot with its baseline
+     *
+     * @param masks         regions to ignore in screenshot pixels, in addition to those of the options
+     * @param withDiffImage whether to paint a diff image; without one the comparison may stop early
+     */
+    public static VisualDiffResult compare(BufferedImage expected, BufferedImage actual, VisualDiffOptions options,
+                                           List<Rectangle> masks, boolean withDiffImage) {
+        int width = actual.getWidth();
+        int height = actual.getHeight();
+        if (expected.getWidth() != width || expected.getHeight() != height) {
+            return new VisualDiffResult(width, height, true, (long) width * height, 0, true, null);
+        }
+        int[] expectedPixels = expected.getRGB(0, 0, width, height, null, 0, width);
+        int[] actualPixels = actual.getRGB(0, 0, width, height, null, 0, width);
+        return new VisualDiff(width, height, expectedPixels, actualPixels, options, masks, withDiffImage).run();
+    }
+
+    private VisualDiffResult run() {
+        int tiles = tilesX * ((height + TILE - 1) / TILE);
+        if ((long) width * height >= PARALLEL_PIXELS) {
+            ForkJoinPool.commonPool().invoke(new TileTask(0, tiles));
+        } else {
+            compareTiles(0, tiles);
+        }
+        return new VisualDiffResult(width, height, false, different.sum(), antialiased.sum(), !stopped.get(), diff);
+    }
+
+    private void compareTiles(int from, int to) {
+        for (int tile = from; tile < to && !stopped.get(); tile++) {
+            int left = (tile % tilesX) * TILE;
+            int top = (tile / tilesX) * TILE;
+            int right = Math.min(left + TILE, width);
+            int bottom = Math.min(top + TILE, height);
+            long found = fullyMasked(left, top, right, bottom)
+                    ? paintMasked(left, top, right, bottom)
+                    : compareTile(left, top, right, bottom);
+            if (found > 0) {
+                different.add(found);
+                if (different.sum() > stopAfter) {
+                    stopped.set(true);
+                }
+            }
+        }
+    }
+
+    private long compareTile(int left, int top, int right, int bottom) {
+        long found = 0;
+        for (int y = top; y < bottom; y++) {
+            int from = y * width + left;
+            int end = y * width + right;
+            while (from < end) {
+                int mismatch = Arrays.mismatch(expected, from, end, actual, from, end);
+                if (mismatch < 0) {
+                    fade(from, end);
+                    break;
+                }
+                int index = from + mismatch;
+                fade(from, index);
+                found += classify(index, index - y * width, y);
+                from = index + 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Classify a pixel whose ARGB values differ
+     *
+     * @return 1 if it counts as a difference
+     */
+    private int classify(int index, int x, int y) {
+        int a = expected[index];
+        int b = actual[index];
+        if (Math.abs(((a >> 16) & 0xFF) - ((b >> 16) & 0xFF)) <= tolerance
+                && Math.abs(((a >> 8) & 0xFF) - ((b >> 8) & 0xFF)) <= tolerance
+                && Math.abs((a & 0xFF) - (b & 0xFF)) <= tolerance) {
+            fade(index, index + 1);
+            return 0;
+        }
+        if (isMasked(x, y)) {
+            paint(index, MASKED_COLOR);
+            return 0;
+        }
+        if (ignoreAntialiasing && (isAntialiased(expected, actual, x, y) || isAntialiased(actual, expected, x, y))) {
+            antialiased.increment();
+            paint(index, ANTIALIASED_COLOR);
+            return 0;
+        }
+        paint(index, DIFF_COLOR);
+        return 1;
+    }
+
+    /**
+     * Anti-aliasing heuristic of pixelmatch (Vysniauskas, 2009): the pixel lies between a darker and a brighter
+     * neighbour, has at most two identical neighbours, and the darkest or brightest neighbour sits inside a flat
+     * area in both images
+     */
+    private boolean isAntialiased(int[] image, int[] other, int x, int y) {
+        int x0 = Math.max(x - 1, 0);
+        int y0 = Math.max(y - 1, 0);
+        int x2 = Math.min(x + 1, width - 1);
+        int y2 = Math.min(y + 1, height - 1);
+        int zeroes = x == x0 || x == x2 || y == y0 || y == y2 ? 1 : 0;
+        int center = luma(image[y * width + x]);
+        int min = 0;
+        int max = 0;
+        int minX = 0;
+        int minY = 0;
+        int maxX = 0;
+        int maxY = 0;
+        for (int ny = y0; ny <= y2; ny++) {
+            for (int nx = x0; nx <= x2; nx++) {
+                if (nx == x && ny == y) {
+                    continue;
+                }
+                int delta = luma(image[ny * width + nx]) - center;
+                if (delta == 0) {
+                    if (++zeroes > 2) {
+                        return false;
+                    }
+                } else if (delta < min) {
+                    min = delta;
+                    minX = nx;
+                    minY = ny;
+                } else if (delta > max) {
+                    max = delta;
+                    maxX = nx;
+                    maxY = ny;
+                }
+            }
+        }
+        if (min == 0 || max == 0) {
+            return false;
+        }
+        return (hasManySiblings(image, minX, minY) && hasManySiblings(other, minX, minY))
+                || (hasManySiblings(image, maxX, maxY) && hasManySiblings(other, maxX, maxY));
+    }
+
+    private boolean hasManySiblings(int[] image, int x, int y) {
+        int x0 = Math.max(x - 1, 0);
+        int y0 = Math.max(y - 1, 0);
+        int x2 = Math.min(x + 1, width - 1);
+        int y2 = Math.min(y + 1, height - 1);
+        int zeroes = x == x0 || x == x2 || y == y0 || y == y2 ? 1 : 0;
+        int value = image[y * width + x];
+        for (int ny = y0; ny <= y2; ny++) {
+            for (int nx = x0; nx <= x2; nx++) {
+                if ((nx != x || ny != y) && image[ny * width + nx] == value && ++zeroes > 2) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isMasked(int x, int y) {
+        for (int[] mask : masks) {
+            if (x >= mask[0] && x < mask[2] && y >= mask[1] && y < mask[3]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean fullyMasked(int left, int top, int right, int bottom) {
+        for (int[] mask : masks) {
+            if (left >= mask[0] && right <= mask[2] && top >= mask[1] && bottom <= mask[3]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long paintMasked(int left, int top, int right, int bottom) {
+        if (diff != null) {
+            for (int y = top; y < bottom; y++) {
+                Arrays.fill(diff, y * width + left, y * width + right, MASKED_COLOR);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Paint unchanged pixels as the expected screen, grayscale and faded towards white
+     */
+    private void fade(int from, int to) {
+        if (diff == null) {
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            int gray = 255 - (255 - luma(expected[i])) / 10;
+            diff[i] = gray << 16 | gray << 8 | gray;
+        }
+    }
+
+    private void paint(int index, int color) {
+        if (diff != null) {
+            diff[index] = color;
+        }
+    }
+
+    private static int luma(int rgb) {
+        return (((rgb >> 16) & 0xFF) * 299 + ((rgb >> 8) & 0xFF) * 587 + (rgb & 0xFF) * 114) / 1000;
+    }
+
+    private final class TileTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        TileTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TILES_PER_TASK) {
+                compareTiles(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TileTask(from, middle), new TileTask(middle, to));
+        }
+    }
+}
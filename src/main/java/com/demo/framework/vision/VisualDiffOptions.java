@@ -0,0 +1,113 @@
+package com.demo.framework.vision;
+
+import com.demo.framework.config.ConfigProvider;
+import org.openqa.selenium.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of one visual comparison: tolerances, anti-aliasing handling and regions to ignore
+ */
+public final class VisualDiffOptions {
+
+    private static final int DEFAULT_TOLERANCE;
+    private static final double DEFAULT_MAX_DIFF_PERCENT;
+    private static final boolean DEFAULT_ANTIALIASING;
+
+    static {
+        ConfigProvider config = ConfigProvider.getDefault();
+        DEFAULT_TOLERANCE = config.getInt("visual.tolerance", 16);
+        DEFAULT_MAX_DIFF_PERCENT = Double.parseDouble(config.getString("visual.maxDiffPercent", "0.1"));
+        DEFAULT_ANTIALIASING = config.getBoolean("visual.antialiasing", true);
+    }
+
+    private int tolerance = DEFAULT_TOLERANCE;
+    private double maxDiffPercent = DEFAULT_MAX_DIFF_PERCENT;
+    private boolean ignoreAntialiasing = DEFAULT_ANTIALIASING;
+    private boolean ignoreStatusBar = true;
+    private final List<Rectangle> ignoredRegions = new ArrayList<>();
+    private final List<String> ignoredLocators = new ArrayList<>();
+
+    private VisualDiffOptions() {
+    }
+
+    /**
+     * Options with the configured {@code visual.*} defaults
+     */
+    public static VisualDiffOptions defaults() {
+        return new VisualDiffOptions();
+    }
+
+    /**
+     * Largest per-channel difference (0-255) still treated as equal
+     */
+    public VisualDiffOptions tolerance(int tolerance) {
+        this.tolerance = Math.max(0, Math.min(255, tolerance));
+        return this;
+    }
+
+    /**
+     * Share of compared pixels that may differ before the screens count as different
+     */
+    public VisualDiffOptions maxDiffPercent(double maxDiffPercent) {
+        this.maxDiffPercent = Math.max(0, maxDiffPercent);
+        return this;
+    }
+
+    /**
+     * Whether pixels on anti-aliased edges are reported separately instead of as differences
+     */
+    public VisualDiffOptions ignoreAntialiasing(boolean ignoreAntialiasing) {
+        this.ignoreAntialiasing = ignoreAntialiasing;
+        return this;
+    }
+
+    /**
+     * Whether the system status bar (clock, battery) is masked
+     */
+    public VisualDiffOptions ignoreStatusBar(boolean ignoreStatusBar) {
+        this.ignoreStatusBar = ignoreStatusBar;
+        return this;
+    }
+
+    /**
+     * Mask a region given in screenshot pixels
+     */
+    public VisualDiffOptions ignore(Rectangle region) {
+        ignoredRegions.add(region);
+        return this;
+    }
+
+    /**
+     * Mask the bounds of the elements found by a logical locator name of the locator registry
+     */
+    public VisualDiffOptions ignoreLocator(String name) {
+        ignoredLocators.add(name);
+        return this;
+    }
+
+    public int getTolerance() {
+        return tolerance;
+    }
+
+    public double getMaxDiffPercent() {
+        return maxDiffPercent;
+    }
+
+    public boolean isIgnoreAntialiasing() {
+        return ignoreAntialiasing;
+    }
+
+    public boolean isIgnoreStatusBar() {
+        return ignoreStatusBar;
+    }
+
+    public List<Rectangle> getIgnoredRegions() {
+        return List.copyOf(ignoredRegions);
+    }
+
+    public List<String> getIgnoredLocators() {
+        return List.copyOf(ignoredLocators);
+    }
+}
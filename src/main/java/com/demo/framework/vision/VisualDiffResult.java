@@ -0,0 +1,98 @@
+package com.demo.framework.vision;
+
+import com.demo.framework.exceptions.FrameworkException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Outcome of a {@link VisualDiff} comparison
+ */
+public final class VisualDiffResult {
+
+    private final int width;
+    private final int height;
+    private final boolean sizeMismatch;
+    private final long differentPixels;
+    private final long antialiasedPixels;
+    private final boolean complete;
+    private final int[] diffPixels;
+
+    VisualDiffResult(int width, int height, boolean sizeMismatch, long differentPixels, long antialiasedPixels,
+                     boolean complete, int[] diffPixels) {
+        this.width = width;
+        this.height = height;
+        this.sizeMismatch = sizeMismatch;
+        this.differentPixels = differentPixels;
+        this.antialiasedPixels = antialiasedPixels;
+        this.complete = complete;
+        this.diffPixels = diffPixels;
+    }
+
+    /**
+     * Whether the images have the same size and at most the given share of pixels differs
+     */
+    public boolean matches(double maxDiffPercent) {
+        return !sizeMismatch && getDiffPercent() <= maxDiffPercent;
+    }
+
+    public double getDiffPercent() {
+        long total = (long) width * height;
+        return total == 0 ? 0 : differentPixels * 100.0 / total;
+    }
+
+    public boolean isSizeMismatch() {
+        return sizeMismatch;
+    }
+
+    /**
+     * Differing pixels beyond tolerance, excluding masked and anti-aliased pixels
+     */
+    public long getDifferentPixels() {
+        return differentPixels;
+    }
+
+    public long getAntialiasedPixels() {
+        return antialiasedPixels;
+    }
+
+    /**
+     * False if the comparison stopped early once the screens were known to differ; counts are then lower bounds
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public boolean hasDiffImage() {
+        return diffPixels != null;
+    }
+
+    /**
+     * Diff image as PNG: faded expected screen, differences in red, anti-aliasing in yellow, masks in blue
+     */
+    public byte[] diffImagePng() {
+        if (diffPixels == null) {
+            throw new FrameworkException("Comparison was run without a diff image");
+        }
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, width, height, diffPixels, 0, width);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new FrameworkException("Unable to encode diff image", e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public String toString() {
+        if (sizeMismatch) {
+            return "size mismatch";
+        }
+        return String.format("%d pixels differ (%.3f%%), %d anti-aliased%s", differentPixels, getDiffPercent(),
+                antialiasedPixels, complete ? "" : ", stopped early");
+    }
+}
@@ -0,0 +1,95 @@
+package com.demo.framework.webview;
+
+import com.demo.framework.drivers.device.AdbCommand;
+import com.demo.framework.exceptions.FrameworkException;
+import io.appium.java_client.android.AndroidDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Forwards the app's WebView devtools socket to a local port with adb on the test host.
+ * <p>
+ * Debuggable WebViews expose {@code @webview_devtools_remote_<pid>} as an abstract unix socket;
+ * the socket of the app under test is picked by its pid and forwarded to a free local port.
+ * The forward is removed when the returned channel is closed with the session.
+ */
+final class AndroidDevToolsBridge {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AndroidDevToolsBridge.class);
+    private static final String WEBVIEW_SOCKET = "webview_devtools_remote_";
+    private static final String CHROME_SOCKET = "chrome_devtools_remote";
+
+    private AndroidDevToolsBridge() {
+    }
+
+    static WebViewDevTools open(AndroidDriver driver, Duration timeout) {
+        AdbCommand adb = adbFor(driver);
+        String pid = pidOf(adb, driver.getCurrentPackage());
+        String socket = findSocket(adb.run("shell", "cat", "/proc/net/unix"), pid);
+        String port = adb.run("forward", "tcp:0", "localabstract:" + socket).trim();
+        if (!port.matches("\\d+")) {
+            throw new FrameworkException("adb forward did not return a port for " + socket + ": " + port);
+        }
+        LOG.info("Forwarded WebView devtools socket {} to localhost:{}", socket, port);
+        return new WebViewDevTools(URI.create("http://127.0.0.1:" + port), timeout, () -> {
+            try {
+                adb.run("forward", "--remove", "tcp:" + port);
+            } catch (FrameworkException e) {
+                LOG.warn("Failed to remove adb forward tcp:{}: {}", port, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Devtools socket of the process with the given pid; only if the pid is unknown, any WebView or Chrome
+     * devtools socket
+     *
+     * @throws FrameworkException if the app's socket is missing, so the caller falls back to chromedriver
+     *                            rather than inspecting another process
+     */
+    static String findSocket(String unixSockets, String pid) {
+        String fallback = null;
+        for (String line : unixSockets.split("\n")) {
+            int at = line.lastIndexOf('@');
+            if (at < 0) {
+                continue;
+            }
+            String name = line.substring(at + 1).trim();
+            if (!pid.isEmpty() && name.equals(WEBVIEW_SOCKET + pid)) {
+                return name;
+            }
+            if (fallback == null && (name.startsWith(WEBVIEW_SOCKET) || name.equals(CHROME_SOCKET))) {
+                fallback = name;
+            }
+        }
+        if (!pid.isEmpty()) {
+            throw new FrameworkException("No WebView devtools socket for app pid " + pid
+                    + "; is WebView debugging enabled in the app?");
+        }
+        if (fallback == null) {
+            throw new FrameworkException("No WebView devtools socket found; is WebView debugging enabled?");
+        }
+        LOG.warn("App pid unknown, using devtools socket {} which may belong to another app", fallback);
+        return fallback;
+    }
+
+    private static String pidOf(AdbCommand adb, String appPackage) {
+        try {
+            return adb.run("shell", "pidof", appPackage).trim();
+        } catch (FrameworkException e) {
+            LOG.debug("No pid for {}: {}", appPackage, e.getMessage());
+            return "";
+        }
+    }
+
+    private static AdbCommand adbFor(AndroidDriver driver) {
+        Object udid = driver.getCapabilities().getCapability("appium:udid");
+        if (udid == null) {
+            udid = driver.getCapabilities().getCapability("udid");
+        }
+        return AdbCommand.forDevice(udid != null ? udid.toString() : null);
+    }
+}
@@ -0,0 +1,163 @@
+package com.demo.framework.webview;
+
+import com.demo.framework.exceptions.FrameworkException;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal Chrome DevTools Protocol client over a WebSocket.
+ * Commands are matched to responses by id; events are ignored.
+ */
+public final class CdpClient implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CdpClient.class);
+
+    private final WebSocket socket;
+    private final Duration timeout;
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final Map<Integer, CompletableFuture<JsonObject>> pending;
+
+    private CdpClient(WebSocket socket, Duration timeout, Map<Integer, CompletableFuture<JsonObject>> pending) {
+        this.socket = socket;
+        this.timeout = timeout;
+        this.pending = pending;
+    }
+
+    /**
+     * Open a WebSocket to a DevTools target, e.g. the {@code webSocketDebuggerUrl} of a page
+     */
+    public static CdpClient connect(URI webSocketUrl, Duration timeout) {
+        Map<Integer, CompletableFuture<JsonObject>> pending = new ConcurrentHashMap<>();
+        try {
+            WebSocket socket = HttpClient.newHttpClient()
+                    .newWebSocketBuilder()
+                    .connectTimeout(timeout)
+                    .buildAsync(webSocketUrl, new ResponseListener(pending))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            LOG.debug("Connected to DevTools target {}", webSocketUrl);
+            return new CdpClient(socket, timeout, pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while connecting to " + webSocketUrl, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new FrameworkException("Unable to connect to DevTools target " + webSocketUrl, e);
+        }
+    }
+
+    /**
+     * Send a command and wait for its result
+     *
+     * @throws FrameworkException if the target reports an error or does not answer in time
+     */
+    public JsonObject send(String method, JsonObject params) {
+        int id = nextId.getAndIncrement();
+        JsonObject command = new JsonObject();
+        command.addProperty("id", id);
+        command.addProperty("method", method);
+        command.add("params", params != null ? params : new JsonObject());
+
+        CompletableFuture<JsonObject> response = new CompletableFuture<>();
+        pending.put(id, response);
+        try {
+            socket.sendText(command.toString(), true).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            JsonObject message = response.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (message.has("error")) {
+                throw new FrameworkException("CDP " + method + " failed: " + message.get("error"));
+            }
+            return message.has("result") ? message.getAsJsonObject("result") : new JsonObject();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while waiting for CDP " + method, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new FrameworkException("No response to CDP " + method, e);
+        } finally {
+            pending.remove(id);
+        }
+    }
+
+    public boolean isOpen() {
+        return !socket.isInputClosed() && !socket.isOutputClosed();
+    }
+
+    @Override
+    public void close() {
+        pending.values().forEach(response -> response.completeExceptionally(
+                new FrameworkException("DevTools connection closed")));
+        if (!socket.isOutputClosed()) {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "");
+        }
+        socket.abort();
+    }
+
+    /**
+     * Reassembles text frames into messages and completes the command waiting for each response
+     */
+    private static final class ResponseListener implements WebSocket.Listener {
+
+        private final Map<Integer, CompletableFuture<JsonObject>> pending;
+        private final StringBuilder buffer = new StringBuilder();
+
+        ResponseListener(Map<Integer, CompletableFuture<JsonObject>> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            buffer.append(data);
+            if (last) {
+                String text = buffer.toString();
+                buffer.setLength(0);
+                dispatch(text);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            fail(new FrameworkException("DevTools connection closed: " + statusCode + " " + reason));
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            fail(error);
+        }
+
+        private void dispatch(String text) {
+            try {
+                JsonObject message = JsonParser.parseString(text).getAsJsonObject();
+                JsonElement id = message.get("id");
+                if (id == null) {
+                    return;
+                }
+                CompletableFuture<JsonObject> response = pending.get(id.getAsInt());
+                if (response != null) {
+                    response.complete(message);
+                }
+            } catch (RuntimeException e) {
+                LOG.debug("Ignoring malformed CDP message: {}", e.getMessage());
+            }
+        }
+
+        private void fail(Throwable error) {
+            pending.values().forEach(response -> response.completeExceptionally(error));
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.demo.framework.webview;
+
+import com.demo.framework.config.ConfigProvider;
+import com.demo.framework.drivers.SessionScope;
+import com.demo.framework.exceptions.FrameworkException;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Queries a WebView's DOM over the Chrome DevTools Protocol instead of through chromedriver.
+ * <p>
+ * No context switch or chromedriver is needed: the page target is taken from the DevTools HTTP endpoint
+ * ({@code /json/list}) and every query is a single CDP command over one WebSocket. On Android the endpoint
+ * is the app's WebView devtools socket forwarded by {@link AndroidDevToolsBridge}. Enabled with
+ * {@code webview.cdp.enabled=true}; callers fall back to the chromedriver context when it is unavailable.
+ */
+public final class WebViewDevTools implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WebViewDevTools.class);
+    private static final Gson GSON = new Gson();
+    private static final String PAGE_TARGET = "page";
+    private static final String NAVIGATION_TIMING = "JSON.stringify((() => {"
+            + " const t = performance.getEntriesByType('navigation')[0];"
+            + " return t ? t.toJSON() : performance.timing.toJSON(); })())";
+
+    private static final boolean ENABLED;
+    private static final Duration TIMEOUT;
+
+    static {
+        ConfigProvider config = ConfigProvider.getDefault();
+        ENABLED = config.getBoolean("webview.cdp.enabled", false);
+        TIMEOUT = Duration.ofMillis(config.getLong("webview.cdp.timeoutMs", 5000));
+    }
+
+    private final URI endpoint;
+    private final Duration timeout;
+    private final Runnable onClose;
+    private CdpClient client;
+
+    /**
+     * @param endpoint DevTools HTTP endpoint, e.g. {@code http://127.0.0.1:9222}
+     * @param onClose  releases resources behind the endpoint (e.g. a port forward) on close, or null
+     */
+    public WebViewDevTools(URI endpoint, Duration timeout, Runnable onClose) {
+        this.endpoint = endpoint;
+        this.timeout = timeout;
+        this.onClose = onClose;
+    }
+
+    /**
+     * True if CDP queries are enabled and supported for the platform of the driver
+     */
+    public static boolean isEnabledFor(AppiumDriver driver) {
+        return ENABLED && driver instanceof AndroidDriver;
+    }
+
+    /**
+     * Get DevTools channel for the app's WebView, bound to the driver's session and opened on first access
+     *
+     * @throws FrameworkException if CDP is disabled or the WebView devtools socket cannot be reached
+     */
+    public static WebViewDevTools forDriver(AppiumDriver driver) {
+        if (!isEnabledFor(driver)) {
+            throw new FrameworkException("WebView CDP channel is not enabled for this platform");
+        }
+        return SessionScope.of(driver).get(WebViewDevTools.class,
+                () -> AndroidDevToolsBridge.open((AndroidDriver) driver, TIMEOUT));
+    }
+
+    /**
+     * Check if an element matches the CSS selector
+     */
+    public boolean exists(String cssSelector) {
+        JsonObject document = send("DOM.getDocument", params("depth", 0));
+        JsonObject query = new JsonObject();
+        query.addProperty("nodeId", document.getAsJsonObject("root").get("nodeId").getAsInt());
+        query.addProperty("selector", cssSelector);
+        return send("DOM.querySelector", query).get("nodeId").getAsInt() != 0;
+    }
+
+    /**
+     * Rendered text of the first element matching the CSS selector, or null if there is none
+     */
+    public String textOf(String cssSelector) {
+        JsonElement text = evaluate("(e => e ? e.innerText : null)(document.querySelector("
+                + quote(cssSelector) + "))");
+        return text == null || text.isJsonNull() ? null : text.getAsString();
+    }
+
+    /**
+     * Evaluate a JavaScript expression in the page, awaiting promises
+     *
+     * @return the result by value, or null for undefined
+     * @throws FrameworkException if the expression throws
+     */
+    public JsonElement evaluate(String expression) {
+        JsonObject params = params("expression", expression);
+        params.addProperty("returnByValue", true);
+        params.addProperty("awaitPromise", true);
+        JsonObject result = send("Runtime.evaluate", params);
+        if (result.has("exceptionDetails")) {
+            throw new FrameworkException("Script failed in WebView: "
+                    + result.getAsJsonObject("exceptionDetails").get("text"));
+        }
+        JsonObject value = result.getAsJsonObject("result");
+        return value != null ? value.get("value") : null;
+    }
+
+    /**
+     * Navigation timing entry of the current page, in milliseconds relative to navigation start
+     */
+    public Map<String, Double> navigationTiming() {
+        JsonElement json = evaluate(NAVIGATION_TIMING);
+        Map<String, Double> timing = new LinkedHashMap<>();
+        if (json == null || json.isJsonNull()) {
+            return timing;
+        }
+        JsonObject entry = JsonParser.parseString(json.getAsString()).getAsJsonObject();
+        for (Map.Entry<String, JsonElement> field : entry.entrySet()) {
+            JsonElement value = field.getValue();
+            if (value.isJsonPrimitive() && value.getAsJsonPrimitive().isNumber()) {
+                timing.put(field.getKey(), value.getAsDouble());
+            }
+        }
+        return timing;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            if (client != null) {
+                client.close();
+                client = null;
+            }
+        } finally {
+            if (onClose != null) {
+                onClose.run();
+            }
+        }
+    }
+
+    private synchronized JsonObject send(String method, JsonObject params) {
+        if (client == null || !client.isOpen()) {
+            client = CdpClient.connect(pageTarget(), timeout);
+        }
+        return client.send(method, params);
+    }
+
+    /**
+     * WebSocket URL of the first page target listed by the endpoint
+     */
+    private URI pageTarget() {
+        HttpRequest request = HttpRequest.newBuilder(endpoint.resolve("/json/list")).timeout(timeout).GET().build();
+        String body;
+        try {
+            body = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString()).body();
+        } catch (IOException e) {
+            throw new FrameworkException("Unable to list DevTools targets at " + endpoint, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while listing DevTools targets", e);
+        }
+        JsonArray targets = JsonParser.parseString(body).getAsJsonArray();
+        for (JsonElement element : targets) {
+            JsonObject target = element.getAsJsonObject();
+            if (PAGE_TARGET.equals(target.get("type").getAsString()) && target.has("webSocketDebuggerUrl")) {
+                LOG.debug("Using DevTools target {} ({})", target.get("id"), target.get("url"));
+                return URI.create(target.get("webSocketDebuggerUrl").getAsString());
+            }
+        }
+        throw new FrameworkException("No page target at DevTools endpoint " + endpoint);
+    }
+
+    private static JsonObject params(String name, Object value) {
+        JsonObject params = new JsonObject();
+        if (value instanceof Number number) {
+            params.addProperty(name, number);
+        } else {
+            params.addProperty(name, String.valueOf(value));
+        }
+        return params;
+    }
+
+    /**
+     * JavaScript string literal for the value
+     */
+    private static String quote(String value) {
+        return GSON.toJson(value);
+    }
+}
@@ -1,6 +1,15 @@
 package com.demo.framework.listeners;
 
+import com.demo.framework.devicelog.CrashWatcher;
+import com.demo.framework.drivers.DriverManager;
+import com.demo.framework.drivers.SessionScope;
+import com.demo.framework.locators.LocatorProfiler;
+import com.demo.framework.logging.TestLogBuffer;
+import com.demo.framework.perf.PerfSampler;
+import com.demo.framework.recording.ScreenRecorder;
+import com.demo.framework.utils.ElementCache;
 import com.demo.framework.utils.ScreenshotUtils;
+import com.demo.framework.utils.ScreenshotWriter;
 import io.qameta.allure.Allure;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +20,7 @@ import org.testng.ITestResult;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 /**
  * TestNG Listener for Allure reporting and logging
@@ -36,6 +46,13 @@ public class AllureTestListener implements ITestListener {
                 context.getPassedTests().size(),
                 context.getFailedTests().size(),
                 context.getSkippedTests().size());
+        if (LocatorProfiler.isEnabled()) {
+            LOG.info("Locator profile:\n{}", LocatorProfiler.report());
+        }
+        LOG.info("Element cache: {}", ElementCache.summary());
+        if (!ScreenshotWriter.awaitIdle(30, TimeUnit.SECONDS)) {
+            LOG.warn("Not all screenshots were written before the suite finished");
+        }
         LOG.info("========================================");
     }
 
@@ -47,6 +64,10 @@ public class AllureTestListener implements ITestListener {
     @Override
     public void onTestSuccess(ITestResult result) {
         LOG.info("✓ Test PASSED: {} ({}ms)", result.getName(), getTestDuration(result));
+        if (ScreenRecorder.isEnabled() && DriverManager.isDriverInitialized()) {
+            ScreenRecorder.forDriver(DriverManager.getDriver()).discard();
+        }
+        reportPerformance(result);
     }
 
     @Override
@@ -60,6 +81,22 @@ public class AllureTestListener implements ITestListener {
             LOG.warn("Failed to take screenshot", e);
         }
 
+        if (ScreenRecorder.isEnabled() && DriverManager.isDriverInitialized()) {
+            try {
+                ScreenRecorder.forDriver(DriverManager.getDriver()).attach("Screen recording");
+            } catch (Exception e) {
+                LOG.warn("Failed to attach screen recording", e);
+            }
+        }
+
+        if (DriverManager.isDriverInitialized()) {
+            SessionScope.find(DriverManager.getDriver(), CrashWatcher.class)
+                    .ifPresent(watcher -> watcher.attach("Device log"));
+        }
+
+        TestLogBuffer.attach("Test log");
+        reportPerformance(result);
+
         addFailureAttachment(result);
     }
 
@@ -102,6 +139,18 @@ public class AllureTestListener implements ITestListener {
         return result.getEndMillis() - result.getStartMillis();
     }
 
+    private void reportPerformance(ITestResult result) {
+        if (!DriverManager.isDriverInitialized()) {
+            return;
+        }
+        try {
+            SessionScope.find(DriverManager.getDriver(), PerfSampler.class).ifPresent(sampler ->
+                    sampler.report(result.getTestClass().getRealClass().getSimpleName() + "." + result.getName()));
+        } catch (Exception e) {
+            LOG.warn("Failed to report app performance", e);
+        }
+    }
+
     private void addFailureAttachment(ITestResult result) {
         Throwable t = result.getThrowable();
         if (t != null) {
@@ -5,6 +5,8 @@ import com.demo.framework.config.ConfigProvider;
 import com.demo.framework.drivers.DriverManager;
 import com.demo.framework.drivers.device.DeviceManagerFactory;
 import com.demo.framework.drivers.device.IDeviceManager;
+import com.demo.framework.locators.LocatorRegistry;
+import com.demo.framework.logging.TestLogBuffer;
 import io.appium.java_client.AppiumDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,6 +15,7 @@ import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 
+import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -35,6 +38,9 @@ public abstract class BaseTest {
         ConfigProvider provider = new ConfigProvider();
         appiumConfig = provider.getAppiumConfig();
         LOG.info("Framework configuration loaded: {}", appiumConfig);
+
+        // Fail fast on malformed locators before any session is started
+        LocatorRegistry.forPlatform(appiumConfig.platformName());
         
         // Ensure device is booted before tests start
         ensureDeviceReady(appiumConfig);
@@ -90,7 +96,8 @@ public abstract class BaseTest {
      * Start driver before each test
      */
     @BeforeMethod(alwaysRun = true)
-    public void startDriver() {
+    public void startDriver(Method method) {
+        TestLogBuffer.start(getClass().getSimpleName() + "." + method.getName());
         LOG.info("Starting Appium driver");
 
         if (appiumConfig == null) {
@@ -109,12 +116,15 @@ public abstract class BaseTest {
     @AfterMethod(alwaysRun = true)
     public void tearDown() {
         LOG.info("Tearing down driver");
-        
-        // Terminate app before quitting driver to ensure clean state for next test
-        terminateApp();
-        
-        DriverManager.quitDriver();
-        LOG.info("Driver teardown completed");
+        try {
+            // Terminate app before quitting driver to ensure clean state for next test
+            terminateApp();
+
+            DriverManager.quitDriver();
+            LOG.info("Driver teardown completed");
+        } finally {
+            TestLogBuffer.finish();
+        }
     }
 
     /**
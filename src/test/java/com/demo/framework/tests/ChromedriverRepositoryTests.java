@@ -0,0 +1,158 @@
+package com.demo.framework.tests;
+
+import com.demo.framework.drivers.ChromedriverRepository;
+import com.demo.framework.exceptions.FrameworkException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for WebView version detection from recorded dumpsys output and for the chromedriver mapping,
+ * seeded from an archive into a temporary repository directory.
+ */
+public class ChromedriverRepositoryTests {
+
+    private static final String MAPPING = "chromedriver-mapping.properties";
+    private static final String WEBVIEW_UPDATE = """
+            Current WebView Update Service state
+              Fallback logic enabled: false
+              Multiprocess enabled: true
+              Current WebView package (name, version): (com.google.android.webview, 119.0.6045.193)
+              Minimum targetSdkVersion: 33
+              Minimum WebView version code: 604519333
+              Any WebView package installed: true
+              Preferred WebView package (name, version): (com.google.android.webview, 119.0.6045.193)
+            """;
+    private static final String WEBVIEW_UPDATE_UNSET = """
+            Current WebView Update Service state
+              Fallback logic enabled: true
+              Any WebView package installed: true
+            """;
+    private static final String CHROME_PACKAGE = """
+            Packages:
+              Package [com.android.chrome] (3f0b2a1):
+                userId=10112
+                versionCode=410410681 minSdk=24 targetSdk=29
+                versionName=83.0.4103.106
+                splits=[base]
+            """;
+
+    private Path directory;
+
+    @BeforeMethod(alwaysRun = true)
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("chromedriver-repository");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test(groups = {"unit"}, description = "The major version is read from the current WebView package")
+    public void testCurrentWebView() {
+        int major = ChromedriverRepository.detectWebViewMajor(dumpsys(Map.of("webviewupdate", WEBVIEW_UPDATE)));
+
+        assertEquals(major, 119);
+    }
+
+    @Test(groups = {"unit"}, description = "Without a current package the WebView packages are asked in order")
+    public void testPackageFallback() {
+        int major = ChromedriverRepository.detectWebViewMajor(dumpsys(Map.of(
+                "webviewupdate", WEBVIEW_UPDATE_UNSET,
+                "package com.google.android.webview", "Unable to find package: com.google.android.webview",
+                "package com.android.chrome", CHROME_PACKAGE)));
+
+        assertEquals(major, 83);
+    }
+
+    @Test(groups = {"unit"}, description = "A device without a WebView version fails the detection")
+    public void testWebViewNotFound() {
+        expectThrows(FrameworkException.class, () -> ChromedriverRepository.detectWebViewMajor(
+                dumpsys(Map.of("webviewupdate", WEBVIEW_UPDATE_UNSET))));
+    }
+
+    @Test(groups = {"unit"}, description = "A missing version is extracted from the archive and added to the mapping")
+    public void testSeedFromArchive() throws IOException {
+        Path archive = archive(119, "driver 119");
+        ChromedriverRepository repository = new ChromedriverRepository(directory, MAPPING, archive);
+
+        Path binary = repository.forMajorVersion(119).orElseThrow();
+
+        assertTrue(binary.startsWith(directory.resolve("119")));
+        assertEquals(Files.readString(binary), "driver 119");
+        assertEquals(mapping().getProperty("119"), directory.relativize(binary).toString());
+        assertEquals(new ChromedriverRepository(directory, MAPPING, null).forMajorVersion(119), Optional.of(binary),
+                "A seeded version must resolve from the mapping alone");
+    }
+
+    @Test(groups = {"unit"}, description = "Mapped binaries are used as they are and unknown versions stay empty")
+    public void testMappedBinary() throws IOException {
+        Path binary = Files.createDirectories(directory.resolve("custom")).resolve("chromedriver-120");
+        Files.writeString(binary, "driver 120");
+        Files.writeString(directory.resolve(MAPPING), "120=custom/chromedriver-120\n");
+        ChromedriverRepository repository = new ChromedriverRepository(directory, MAPPING, archive(119, "driver 119"));
+
+        assertEquals(repository.forMajorVersion(120), Optional.of(binary));
+        assertEquals(repository.forMajorVersion(121), Optional.empty());
+        assertNull(mapping().getProperty("121"));
+    }
+
+    @Test(groups = {"unit"}, description = "A mapping to a deleted binary is seeded again from the archive")
+    public void testStaleMapping() throws IOException {
+        Files.writeString(directory.resolve(MAPPING), "119=gone/chromedriver\n");
+        ChromedriverRepository repository = new ChromedriverRepository(directory, MAPPING, archive(119, "driver 119"));
+
+        Path binary = repository.forMajorVersion(119).orElseThrow();
+
+        assertEquals(Files.readString(binary), "driver 119");
+        assertEquals(mapping().getProperty("119"), directory.relativize(binary).toString());
+    }
+
+    private static UnaryOperator<String> dumpsys(Map<String, String> outputs) {
+        return service -> outputs.getOrDefault(service, "");
+    }
+
+    /**
+     * Archive with the binary under both host names, nested in a top-level folder like downloaded bundles
+     */
+    private Path archive(int major, String content) throws IOException {
+        Path archive = directory.resolve("chromedrivers.zip");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+            for (String binary : new String[]{"chromedriver", "chromedriver.exe"}) {
+                zip.putNextEntry(new ZipEntry("chromedrivers/" + major + "/" + binary));
+                zip.write(content.getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return archive;
+    }
+
+    private Properties mapping() throws IOException {
+        Properties mapping = new Properties();
+        try (InputStream in = Files.newInputStream(directory.resolve(MAPPING))) {
+            mapping.load(in);
+        }
+        return mapping;
+    }
+}
@@ -0,0 +1,55 @@
+package com.demo.framework.tests;
+
+import com.demo.framework.utils.ContextManager;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for reading context names from {@code mobile: getContexts} results of both drivers.
+ */
+public class ContextManagerTests {
+
+    @Test(groups = {"unit"}, description = "UiAutomator2 WebView details are named by webviewName")
+    public void testAndroidContexts() {
+        Map<String, Object> webView = new HashMap<>();
+        webView.put("proc", "@webview_devtools_remote_4711");
+        webView.put("webview", "webview_devtools_remote_4711");
+        webView.put("webviewName", "WEBVIEW_com.wdiodemoapp");
+        webView.put("pages", List.of(Map.of("id", "8F2C", "type", "page", "url", "https://webdriver.io/")));
+
+        List<String> contexts = List.copyOf(ContextManager.parseContexts(List.of(webView)));
+
+        assertEquals(contexts, List.of("NATIVE_APP", "WEBVIEW_com.wdiodemoapp"),
+                "Page ids must not be taken for context names");
+    }
+
+    @Test(groups = {"unit"}, description = "XCUITest contexts are named by id")
+    public void testIosContexts() {
+        List<Map<String, Object>> result = List.of(
+                Map.of("id", "NATIVE_APP"),
+                Map.of("id", "WEBVIEW_61072.1", "title", "WebdriverIO", "url", "https://webdriver.io/",
+                        "bundleId", "org.reactjs.native.example.wdiodemoapp"));
+
+        List<String> contexts = List.copyOf(ContextManager.parseContexts(result));
+
+        assertEquals(contexts, List.of("NATIVE_APP", "WEBVIEW_61072.1"));
+    }
+
+    @Test(groups = {"unit"}, description = "Unnamed entries and unexpected results are ignored")
+    public void testUnnamedAndUnexpectedResults() {
+        Map<String, Object> unnamed = new HashMap<>();
+        unnamed.put("proc", "@chrome_devtools_remote");
+        unnamed.put("webviewName", null);
+        List<Object> result = new ArrayList<>(Arrays.asList(unnamed, "WEBVIEW_chrome", null));
+
+        assertEquals(List.copyOf(ContextManager.parseContexts(result)), List.of("NATIVE_APP", "WEBVIEW_chrome"));
+        assertEquals(List.copyOf(ContextManager.parseContexts(null)), List.of("NATIVE_APP"));
+    }
+}
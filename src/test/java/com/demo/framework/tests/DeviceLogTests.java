@@ -0,0 +1,146 @@
+package com.demo.framework.tests;
+
+import com.demo.framework.devicelog.DeviceLog;
+import com.demo.framework.devicelog.DeviceLogLine;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for device log line parsing, app line filtering and marker cursors, fed with recorded lines.
+ */
+public class DeviceLogTests {
+
+    private static final String APP = "com.wdiodemoapp";
+    private static final String BUNDLE = "org.reactjs.native.example.wdiodemoapp";
+
+    @Test(groups = {"unit"}, description = "Logcat threadtime lines are split into pid, tag and message")
+    public void testLogcatParsing() {
+        DeviceLog log = android(4711);
+        List<DeviceLogLine> lines = collect(log);
+
+        log.accept("01-15 10:11:12.345  4711  4730 E AndroidRuntime: FATAL EXCEPTION: main");
+        log.accept("01-15 10:11:12.346  4711  4711 D ReactNativeJS   : Tapped login");
+        log.accept("--------- beginning of crash");
+
+        assertEquals(lines, List.of(
+                new DeviceLogLine(4711, "AndroidRuntime", "FATAL EXCEPTION: main",
+                        "01-15 10:11:12.345  4711  4730 E AndroidRuntime: FATAL EXCEPTION: main"),
+                new DeviceLogLine(4711, "ReactNativeJS", "Tapped login",
+                        "01-15 10:11:12.346  4711  4711 D ReactNativeJS   : Tapped login")));
+    }
+
+    @Test(groups = {"unit"}, description = "Only app lines pass, following the app pid across restarts")
+    public void testAndroidAppFilter() {
+        DeviceLog log = android(4711);
+        List<DeviceLogLine> lines = collect(log);
+
+        log.accept("01-15 10:11:12.345  999  999 I OtherApp: not ours");
+        log.accept("01-15 10:11:12.400  4711  4711 I ReactNativeJS: before restart");
+        log.accept("01-15 10:11:13.000  610  640 I ActivityManager: Start proc 5120:" + APP
+                + "/u0a158 for pre-top-activity");
+        log.accept("01-15 10:11:13.100  4711  4711 I ReactNativeJS: stale pid");
+        log.accept("01-15 10:11:13.200  5120  5120 I ReactNativeJS: after restart");
+
+        assertEquals(messages(lines), List.of("before restart", "Start proc 5120:" + APP
+                + "/u0a158 for pre-top-activity", "after restart"));
+    }
+
+    @Test(groups = {"unit"}, description = "Field lines of an ActivityManager report about the app are kept")
+    public void testAndroidReport() {
+        DeviceLog log = android(4711);
+        List<DeviceLogLine> lines = collect(log);
+
+        log.accept("01-15 10:11:14.000  610  655 E ActivityManager: ANR in " + APP + " (" + APP + "/.MainActivity)");
+        log.accept("01-15 10:11:14.001  610  655 E ActivityManager: PID: 4711");
+        log.accept("01-15 10:11:14.002  610  655 E ActivityManager: Reason: Input dispatching timed out");
+        log.accept("01-15 10:11:14.003  610  655 E ActivityManager: Load: 7.5 / 6.1 / 4.2");
+        log.accept("01-15 10:11:14.004  610  655 E ActivityManager: ----- Output from /proc/pressure -----");
+        log.accept("01-15 10:11:14.005  610  655 E ActivityManager: Reason: someone else's report");
+
+        assertEquals(messages(lines), List.of("ANR in " + APP + " (" + APP + "/.MainActivity)", "PID: 4711",
+                "Reason: Input dispatching timed out", "Load: 7.5 / 6.1 / 4.2"));
+    }
+
+    @Test(groups = {"unit"}, description = "Compact simulator lines are parsed and continuation lines keep their header")
+    public void testSyslogParsing() {
+        DeviceLog log = new DeviceLog(List.of("true"), false, BUNDLE, -1);
+        List<DeviceLogLine> lines = collect(log);
+
+        log.accept("Filtering the log data using \"process == \\\"wdiodemoapp\\\"\"");
+        log.accept("Timestamp               Ty Process[PID:TID]");
+        log.accept("2024-01-15 10:11:12.345 E  wdiodemoapp[4321:1a2b] Terminating app due to uncaught exception");
+        log.accept("    reason: 'boom'");
+        log.accept("");
+        log.accept("2024-01-15 10:11:12.400 Df SpringBoard[58:3c4d] [" + BUNDLE + "] exited");
+
+        assertEquals(lines.get(0), new DeviceLogLine(4321, "wdiodemoapp",
+                "Terminating app due to uncaught exception",
+                "2024-01-15 10:11:12.345 E  wdiodemoapp[4321:1a2b] Terminating app due to uncaught exception"));
+        assertEquals(lines.get(1), new DeviceLogLine(4321, "wdiodemoapp", "    reason: 'boom'", "    reason: 'boom'"));
+        assertEquals(lines.get(2).tag(), "SpringBoard");
+        assertEquals(lines.get(2).pid(), 58);
+        assertEquals(lines.size(), 3);
+    }
+
+    @Test(groups = {"unit"}, description = "Cursors read from their mark, consume matches and are independent")
+    public void testCursors() {
+        DeviceLog log = android(4711);
+        log.accept(line("marker ready"));
+        long mark = log.mark();
+        DeviceLog.Cursor first = log.cursor(mark);
+        DeviceLog.Cursor second = log.cursor(mark);
+        Pattern ready = Pattern.compile("marker ready");
+
+        assertEquals(first.find(ready), Optional.empty(), "Lines before the mark must not match");
+        log.accept(line("noise"));
+        log.accept(line("marker ready"));
+        log.accept(line("marker ready"));
+
+        assertEquals(first.find(ready).orElseThrow().raw(), line("marker ready"));
+        assertEquals(first.getPosition(), mark + 2);
+        assertTrue(first.find(ready).isPresent());
+        assertEquals(first.find(ready), Optional.empty(), "Each match is consumed once");
+        assertEquals(second.find(ready).orElseThrow().raw(), line("marker ready"));
+        assertEquals(second.getPosition(), mark + 2);
+    }
+
+    @Test(groups = {"unit"}, description = "A cursor that falls behind skips to the oldest line still kept")
+    public void testCursorFallsBehind() {
+        DeviceLog log = android(4711);
+        DeviceLog.Cursor cursor = log.cursor(log.mark());
+        for (int i = 0; i < 5000; i++) {
+            log.accept(line("line " + i));
+        }
+
+        DeviceLogLine oldest = cursor.find(Pattern.compile("line \\d+$")).orElseThrow();
+
+        int index = Integer.parseInt(oldest.message().substring("line ".length()));
+        assertTrue(index > 0, "Overwritten lines must be skipped");
+        assertEquals(cursor.getPosition(), index + 1L);
+        assertEquals(log.cursor(log.mark()).find(Pattern.compile("line")), Optional.empty());
+    }
+
+    private static DeviceLog android(int appPid) {
+        return new DeviceLog(List.of("true"), true, APP, appPid);
+    }
+
+    private static String line(String message) {
+        return "01-15 10:11:12.345  4711  4711 I ReactNativeJS: " + message;
+    }
+
+    private static List<DeviceLogLine> collect(DeviceLog log) {
+        List<DeviceLogLine> lines = new ArrayList<>();
+        log.subscribe(lines::add);
+        return lines;
+    }
+
+    private static List<String> messages(List<DeviceLogLine> lines) {
+        return lines.stream().map(DeviceLogLine::message).toList();
+    }
+}
@@ -0,0 +1,75 @@
+package com.demo.framework.tests;
+
+import com.demo.framework.logging.EventRing;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for the bounded ring that buffers per-test log events.
+ */
+public class EventRingTests {
+
+    @Test(groups = {"unit"}, description = "Events are kept oldest first until the ring is full")
+    public void testBeforeWraparound() {
+        EventRing<Integer> ring = new EventRing<>(8);
+        IntStream.range(0, 3).forEach(ring::add);
+
+        assertEquals(ring.snapshot(), List.of(0, 1, 2));
+        assertEquals(ring.overwritten(), 0L);
+    }
+
+    @Test(groups = {"unit"}, description = "A full ring keeps the newest events and counts the dropped ones")
+    public void testWraparound() {
+        EventRing<Integer> ring = new EventRing<>(8);
+        IntStream.range(0, 21).forEach(ring::add);
+
+        assertEquals(ring.snapshot(), List.of(13, 14, 15, 16, 17, 18, 19, 20));
+        assertEquals(ring.overwritten(), 13L);
+    }
+
+    @Test(groups = {"unit"}, description = "Capacity is rounded up to a power of two of at least two")
+    public void testCapacityRounding() {
+        EventRing<Integer> ring = new EventRing<>(5);
+        IntStream.range(0, 10).forEach(ring::add);
+        EventRing<Integer> tiny = new EventRing<>(1);
+        IntStream.range(0, 10).forEach(tiny::add);
+
+        assertEquals(ring.snapshot(), List.of(2, 3, 4, 5, 6, 7, 8, 9));
+        assertEquals(tiny.snapshot(), List.of(8, 9));
+    }
+
+    @Test(groups = {"unit"}, description = "Concurrent writers fill the ring without losing its newest events")
+    public void testConcurrentWriters() throws InterruptedException {
+        int writers = 4;
+        int perWriter = 10_000;
+        EventRing<int[]> ring = new EventRing<>(1024);
+        List<Thread> threads = new ArrayList<>();
+        for (int writer = 0; writer < writers; writer++) {
+            int id = writer;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    ring.add(new int[]{id, i});
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        List<int[]> events = ring.snapshot();
+        assertEquals(events.size(), 1024);
+        assertEquals(ring.overwritten(), (long) writers * perWriter - 1024);
+        int[] last = {-1, -1, -1, -1};
+        for (int[] event : events) {
+            assertTrue(event[1] > last[event[0]], "Events of one writer must stay in order");
+            last[event[0]] = event[1];
+        }
+        assertTrue(IntStream.of(last).anyMatch(i -> i == perWriter - 1), "The newest event must be kept");
+    }
+}
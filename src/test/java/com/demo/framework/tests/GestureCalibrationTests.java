@@ -0,0 +1,55 @@
+package com.demo.framework.tests;
+
+import com.demo.framework.flows.DragAndDropFlow;
+import com.demo.framework.flows.SwipeFlow;
+import com.demo.framework.gestures.GestureCalibrator;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+import static com.demo.framework.utils.AllureStepUtils.allureStep;
+import static org.testng.Assert.*;
+
+/**
+ * Calibrates swipe and drag durations for the current device and stores them for later runs.
+ * Run through calibration.xml with gesture.calibration.enabled=true; excluded from the regular suites.
+ */
+@Feature("Gestures")
+@Story("Gesture Calibration")
+public class GestureCalibrationTests extends BaseTest {
+
+    @Test(groups = {"calibration"}, description = "Calibrate swipe duration on the carousel")
+    @Description("Find the shortest swipe duration the carousel still registers on this device")
+    public void testCalibrateSwipe() {
+        SwipeFlow swipeFlow = new SwipeFlow();
+
+        allureStep("Step 1: Navigate to Swipe tab");
+        swipeFlow.navigateToSwipe();
+        assertTrue(swipeFlow.isSwipePageLoaded(), "Swipe page should be loaded");
+
+        allureStep("Step 2: Calibrate swipe duration");
+        assertWithinDefault(swipeFlow.calibrateSwipe(), GestureCalibrator.Kind.SWIPE);
+    }
+
+    @Test(groups = {"calibration"}, description = "Calibrate drag duration on the drag board")
+    @Description("Find the shortest drag duration a tile still follows on this device")
+    public void testCalibrateDrag() {
+        DragAndDropFlow dragAndDropFlow = new DragAndDropFlow();
+
+        allureStep("Step 1: Navigate to Drag and Drop screen");
+        dragAndDropFlow.navigateToDragAndDrop();
+        assertTrue(dragAndDropFlow.isDragPageLoaded(), "Drag and Drop page should be loaded");
+
+        allureStep("Step 2: Calibrate drag duration");
+        assertWithinDefault(dragAndDropFlow.calibrateDrag(), GestureCalibrator.Kind.DRAG);
+        assertTrue(dragAndDropFlow.isDraggableElementVisible(), "Calibration should leave the board reset");
+    }
+
+    private static void assertWithinDefault(Duration duration, GestureCalibrator.Kind kind) {
+        assertTrue(duration.compareTo(kind.getDefaultDuration()) <= 0,
+                kind + " duration " + duration.toMillis() + " ms should not exceed the default");
+    }
+}
@@ -0,0 +1,62 @@
+package com.demo.framework.tests;
+
+import com.demo.framework.locators.LocatorTemplate;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for placeholder compilation and rendering of registry locator values.
+ */
+public class LocatorTemplateTests {
+
+    @Test(groups = {"unit"}, description = "Placeholders are replaced in place, literals are kept verbatim")
+    public void testRendersPlaceholders() {
+        LocatorTemplate template = LocatorTemplate.compile("new UiSelector().textContains(\"{card}\")");
+
+        assertTrue(template.isParameterized());
+        assertEquals(template.getParameters(), List.of("card"));
+        assertEquals(template.render("JS.Foundation"), "new UiSelector().textContains(\"JS.Foundation\")");
+    }
+
+    @Test(groups = {"unit"}, description = "Placeholders at the edges and back to back render without gaps")
+    public void testAdjacentPlaceholders() {
+        LocatorTemplate template = LocatorTemplate.compile("{prefix}{index}-tail");
+
+        assertEquals(template.getParameters(), List.of("prefix", "index"));
+        assertEquals(template.render("drag-l", 1), "drag-l1-tail");
+    }
+
+    @Test(groups = {"unit"}, description = "A repeated placeholder takes a single argument")
+    public void testRepeatedPlaceholder() {
+        LocatorTemplate template = LocatorTemplate.compile("**/XCUIElementTypeAny[`name == '{id}' OR label == '{id}'`]");
+
+        assertEquals(template.getParameters(), List.of("id"));
+        assertEquals(template.render("Login"), "**/XCUIElementTypeAny[`name == 'Login' OR label == 'Login'`]");
+    }
+
+    @Test(groups = {"unit"}, description = "Templates without placeholders render their source")
+    public void testLiteralTemplate() {
+        LocatorTemplate template = LocatorTemplate.compile("button-LOGIN");
+
+        assertFalse(template.isParameterized());
+        assertSame(template.render(), template.getSource());
+    }
+
+    @Test(groups = {"unit"}, description = "Argument count must match the placeholders")
+    public void testArgumentCountMismatch() {
+        LocatorTemplate template = LocatorTemplate.compile("drag-{column}{row}");
+
+        assertThrows(IllegalArgumentException.class, () -> template.render("l"));
+        assertThrows(IllegalArgumentException.class, () -> LocatorTemplate.compile("button").render("extra"));
+    }
+
+    @Test(groups = {"unit"}, description = "Unterminated and non-identifier placeholders are rejected")
+    public void testInvalidPlaceholders() {
+        assertThrows(IllegalArgumentException.class, () -> LocatorTemplate.compile("drag-{tile"));
+        assertThrows(IllegalArgumentException.class, () -> LocatorTemplate.compile("drag-{}"));
+        assertThrows(IllegalArgumentException.class, () -> LocatorTemplate.compile("drag-{1st}"));
+    }
+}
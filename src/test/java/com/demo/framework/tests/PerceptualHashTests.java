@@ -0,0 +1,124 @@
+package com.demo.framework.tests;
+
+import com.demo.framework.exceptions.FrameworkException;
+import com.demo.framework.utils.PerceptualHash;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for the difference hash used to skip unchanged step screenshots.
+ */
+public class PerceptualHashTests {
+
+    private static final int SIZE = 16;
+
+    /**
+     * Distance up to which screenshot dedup treats two steps as unchanged
+     */
+    private static final int DEDUP_DISTANCE = 3;
+
+    @Test(groups = {"unit"}, description = "Identical images hash identically, in size * size bits")
+    public void testIdenticalImages() {
+        byte[] image = png(screen(false));
+
+        long[] hash = PerceptualHash.of(image, SIZE);
+
+        assertEquals(hash.length, SIZE * SIZE / 64);
+        assertEquals(PerceptualHash.distance(hash, PerceptualHash.of(image, SIZE)), 0);
+    }
+
+    @Test(groups = {"unit"}, description = "Slight noise on flat areas keeps the hashes within the dedup limit")
+    public void testNoisyImages() {
+        BufferedImage noisy = screen(false);
+        for (int y = 0; y < noisy.getHeight(); y += 7) {
+            for (int x = 0; x < noisy.getWidth(); x += 5) {
+                noisy.setRGB(x, y, noisy.getRGB(x, y) ^ 0x030303);
+            }
+        }
+
+        int distance = PerceptualHash.distance(PerceptualHash.of(png(screen(false)), SIZE),
+                PerceptualHash.of(png(noisy), SIZE));
+
+        assertTrue(distance <= DEDUP_DISTANCE, "Noise should not flip bits on flat areas, got " + distance);
+    }
+
+    @Test(groups = {"unit"}, description = "Lossy re-encoding keeps the hashes within the dedup limit")
+    public void testReencodedImages() {
+        int distance = PerceptualHash.distance(PerceptualHash.of(png(screen(false)), SIZE),
+                PerceptualHash.of(jpeg(screen(false)), SIZE));
+
+        assertTrue(distance <= DEDUP_DISTANCE, "JPEG artifacts should not flip bits, got " + distance);
+    }
+
+    @Test(groups = {"unit"}, description = "A dialog over the list moves the hash well beyond the dedup limit")
+    public void testChangedImages() {
+        int distance = PerceptualHash.distance(PerceptualHash.of(png(screen(false)), SIZE),
+                PerceptualHash.of(png(screen(true)), SIZE));
+
+        assertTrue(distance > 3 * DEDUP_DISTANCE, "A dialog should change many bits, got " + distance);
+    }
+
+    @Test(groups = {"unit"}, description = "Hashes of different sizes cannot be compared")
+    public void testDistanceSizeMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> PerceptualHash.distance(new long[4], new long[1]));
+    }
+
+    @Test(groups = {"unit"}, description = "Bytes that are not an image fail with a framework exception")
+    public void testUndecodableImage() {
+        assertThrows(FrameworkException.class, () -> PerceptualHash.of(new byte[]{1, 2, 3, 4}, SIZE));
+    }
+
+    /**
+     * Phone-sized screen with a header and a list of rows, optionally covered by a dialog with its own buttons
+     */
+    private static BufferedImage screen(boolean dialog) {
+        BufferedImage image = new BufferedImage(360, 640, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 360, 640);
+        graphics.setColor(new Color(0x1971c2));
+        graphics.fillRect(0, 0, 360, 80);
+        graphics.setColor(new Color(0x868e96));
+        for (int row = 0; row < 6; row++) {
+            graphics.fillRect(24, 120 + row * 70, 120 + row * 30, 28);
+        }
+        if (dialog) {
+            graphics.setColor(Color.DARK_GRAY);
+            graphics.fillRect(20, 200, 320, 360);
+            graphics.setColor(Color.LIGHT_GRAY);
+            graphics.fillRect(60, 240, 240, 40);
+            graphics.fillRect(60, 320, 160, 40);
+            graphics.setColor(new Color(0x40c057));
+            graphics.fillRect(200, 480, 110, 48);
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] png(BufferedImage image) {
+        return encode(image, "png");
+    }
+
+    private static byte[] jpeg(BufferedImage image) {
+        return encode(image, "jpg");
+    }
+
+    private static byte[] encode(BufferedImage image, String format) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, format, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
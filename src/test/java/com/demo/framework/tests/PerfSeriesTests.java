@@ -0,0 +1,95 @@
+package com.demo.framework.tests;
+
+import com.demo.framework.perf.PerfSeries;
+import com.demo.framework.perf.PerfSeries.Metric;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for the columnar performance series and its min/max/p95 summaries.
+ */
+public class PerfSeriesTests {
+
+    @Test(groups = {"unit"}, description = "Summaries use the nearest-rank 95th percentile")
+    public void testSummary() {
+        PerfSeries series = new PerfSeries();
+        List<Integer> cpu = new ArrayList<>(IntStream.rangeClosed(1, 100).boxed().toList());
+        Collections.shuffle(cpu, new Random(1));
+        for (int i = 0; i < cpu.size(); i++) {
+            series.add(i * 500L, cpu.get(i), 1000 + i, 200, 40);
+        }
+
+        assertEquals(series.summary(Metric.CPU), new PerfSeries.Summary(1, 100, 95, 100));
+        assertEquals(series.summary(Metric.MEMORY), new PerfSeries.Summary(1000, 1099, 1094, 100));
+        assertEquals(series.summary(Metric.THREADS), new PerfSeries.Summary(40, 40, 40, 100));
+    }
+
+    @Test(groups = {"unit"}, description = "The percentile rank rounds up on small series")
+    public void testSmallSeries() {
+        PerfSeries single = new PerfSeries();
+        single.add(0, 12.5, 1, 1, 1);
+        PerfSeries twenty = new PerfSeries();
+        IntStream.rangeClosed(1, 20).forEach(i -> twenty.add(i, i, 1, 1, 1));
+
+        assertEquals(single.summary(Metric.CPU), new PerfSeries.Summary(12.5, 12.5, 12.5, 1));
+        assertEquals(twenty.summary(Metric.CPU).p95(), 19.0);
+    }
+
+    @Test(groups = {"unit"}, description = "Missing values are left out of summaries")
+    public void testMissingValues() {
+        PerfSeries series = new PerfSeries();
+        series.add(0, 10, 1000, Double.NaN, 30);
+        series.add(500, Double.NaN, 1100, Double.NaN, 31);
+        series.add(1000, 30, 1200, Double.NaN, 32);
+
+        assertEquals(series.summary(Metric.CPU), new PerfSeries.Summary(10, 30, 30, 2));
+        assertNull(series.summary(Metric.HEAP), "A metric without values has no summary");
+        assertTrue(Double.isNaN(series.values(Metric.HEAP)[1]));
+    }
+
+    @Test(groups = {"unit"}, description = "An empty series has no summaries")
+    public void testEmptySeries() {
+        PerfSeries series = new PerfSeries();
+
+        assertEquals(series.size(), 0);
+        assertEquals(series.times().length, 0);
+        assertNull(series.summary(Metric.CPU));
+    }
+
+    @Test(groups = {"unit"}, description = "Columns grow past their initial capacity and keep sample order")
+    public void testGrowth() {
+        PerfSeries series = new PerfSeries();
+        for (int i = 0; i < 1000; i++) {
+            series.add(i * 10L, i % 100, 2000 + i, i, i / 10);
+        }
+
+        long[] times = series.times();
+        double[] memory = series.values(Metric.MEMORY);
+        assertEquals(series.size(), 1000);
+        assertEquals(times.length, 1000);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(times[i], i * 10L);
+            assertEquals(memory[i], 2000.0 + i);
+        }
+        assertEquals(series.values(Metric.THREADS)[999], 99.0);
+    }
+
+    @Test(groups = {"unit"}, description = "Column copies do not expose the series")
+    public void testCopies() {
+        PerfSeries series = new PerfSeries();
+        series.add(0, 10, 1000, 100, 30);
+
+        series.times()[0] = 42;
+        series.values(Metric.CPU)[0] = 99;
+
+        assertEquals(series.times()[0], 0L);
+        assertEquals(series.values(Metric.CPU)[0], 10.0);
+    }
+}
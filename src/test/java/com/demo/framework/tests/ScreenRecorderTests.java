@@ -0,0 +1,208 @@
+package com.demo.framework.tests;
+
+import com.demo.framework.recording.RecordedFrame;
+import com.demo.framework.recording.ScreenRecorder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for the failure screen recorder against a local MJPEG stub stream.
+ * No device or Appium server is needed.
+ */
+public class ScreenRecorderTests {
+
+    private static final int BUFFER_BYTES = 4 * 1024 * 1024;
+
+    private MjpegStub stub;
+    private ScreenRecorder recorder;
+
+    @AfterMethod(alwaysRun = true)
+    public void stop() throws IOException {
+        if (recorder != null) {
+            recorder.close();
+        }
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @Test(groups = {"unit"}, description = "Streamed frames are kept as valid JPEGs, oldest first")
+    public void testRecordsFrames() throws IOException {
+        record(new MjpegStub(true), BUFFER_BYTES);
+        awaitTrue(() -> recorder.getFrameCount() >= 5, "frames to be recorded");
+
+        List<RecordedFrame> frames = recorder.recentFrames();
+        assertFalse(frames.isEmpty(), "Recording window should contain frames");
+        for (int i = 1; i < frames.size(); i++) {
+            assertTrue(frames.get(i).timestampMillis() >= frames.get(i - 1).timestampMillis(),
+                    "Frames should be ordered by capture time");
+        }
+        assertNotNull(ImageIO.read(new ByteArrayInputStream(frames.get(0).jpeg())), "Frame should decode");
+    }
+
+    @Test(groups = {"unit"}, description = "Parts without Content-Length are read up to the end-of-image marker")
+    public void testRecordsFramesWithoutContentLength() throws IOException {
+        record(new MjpegStub(false), BUFFER_BYTES);
+        awaitTrue(() -> recorder.getFrameCount() >= 3, "frames to be recorded");
+
+        byte[] jpeg = recorder.recentFrames().get(0).jpeg();
+        assertEquals(jpeg.length, stub.getFrameLength(), "Frame should end at the end-of-image marker");
+    }
+
+    @Test(groups = {"unit"}, description = "Only the newest frames that fit the buffer are kept")
+    public void testBufferEvictsOldestFrames() throws IOException {
+        MjpegStub mjpeg = new MjpegStub(true);
+        record(mjpeg, mjpeg.getFrameLength() * 3 + mjpeg.getFrameLength() / 2);
+
+        awaitTrue(() -> stub.getFramesSent() >= 10, "stub to stream frames");
+        assertTrue(recorder.getFrameCount() <= 3, "Buffer should hold at most 3 frames, held "
+                + recorder.getFrameCount());
+        awaitTrue(() -> recorder.getFrameCount() > 0, "frames to be recorded");
+    }
+
+    @Test(groups = {"unit"}, description = "The recording window encodes to an animated GIF")
+    public void testEncodeGif() throws IOException {
+        record(new MjpegStub(true), BUFFER_BYTES);
+        awaitTrue(() -> recorder.getFrameCount() >= 5, "frames to be recorded");
+
+        byte[] gif = recorder.encode();
+        assertEquals(new String(gif, 0, 6, StandardCharsets.US_ASCII), "GIF89a");
+        assertNotNull(ImageIO.read(new ByteArrayInputStream(gif)), "GIF should decode");
+    }
+
+    @Test(groups = {"unit"}, description = "Closed recordings stop reading and keep no frames")
+    public void testClose() throws IOException {
+        record(new MjpegStub(true), BUFFER_BYTES);
+        awaitTrue(() -> recorder.getFrameCount() >= 3, "frames to be recorded");
+
+        recorder.close();
+        assertEquals(recorder.getFrameCount(), 0);
+        assertEquals(recorder.encode().length, 0, "Nothing should be encoded after close");
+    }
+
+    private void record(MjpegStub mjpeg, int bufferBytes) {
+        stub = mjpeg;
+        recorder = new ScreenRecorder(stub.getUri(), Duration.ofSeconds(30), bufferBytes).start();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition, String description) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Timed out waiting for " + description);
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted waiting for " + description);
+            }
+        }
+    }
+
+    /**
+     * Minimal MJPEG server streaming one JPEG every 20 ms to each client, like the UiAutomator2 MJPEG server
+     */
+    private static final class MjpegStub implements AutoCloseable {
+
+        private static final String BOUNDARY = "BoundaryString";
+
+        private final ServerSocket server;
+        private final boolean contentLength;
+        private final byte[] frame;
+        private volatile int framesSent;
+
+        MjpegStub(boolean contentLength) throws IOException {
+            this.server = new ServerSocket(0, 5, InetAddress.getLoopbackAddress());
+            this.contentLength = contentLength;
+            this.frame = jpeg();
+            Thread acceptor = new Thread(this::acceptLoop, "mjpeg-stub");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        URI getUri() {
+            return URI.create("http://127.0.0.1:" + server.getLocalPort());
+        }
+
+        int getFrameLength() {
+            return frame.length;
+        }
+
+        int getFramesSent() {
+            return framesSent;
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+        }
+
+        private void acceptLoop() {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    Thread client = new Thread(() -> stream(socket), "mjpeg-stub-client");
+                    client.setDaemon(true);
+                    client.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void stream(Socket socket) {
+            try (socket; OutputStream out = socket.getOutputStream()) {
+                socket.getInputStream().read(new byte[4096]);
+                out.write(("HTTP/1.0 200 OK\r\nContent-Type: multipart/x-mixed-replace; boundary=" + BOUNDARY
+                        + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                while (!server.isClosed()) {
+                    String headers = "--" + BOUNDARY + "\r\nContent-Type: image/jpeg\r\n"
+                            + (contentLength ? "Content-Length: " + frame.length + "\r\n" : "") + "\r\n";
+                    out.write(headers.getBytes(StandardCharsets.US_ASCII));
+                    out.write(frame);
+                    out.write("\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+                    out.flush();
+                    framesSent++;
+                    Thread.sleep(20);
+                }
+            } catch (IOException e) {
+                // Client disconnected
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private static byte[] jpeg() throws IOException {
+            BufferedImage image = new BufferedImage(120, 240, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = image.createGraphics();
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, 120, 240);
+            graphics.setColor(Color.BLUE);
+            graphics.fillRect(20, 40, 80, 60);
+            graphics.dispose();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "jpg", out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.demo.framework.tests;
+
+import com.demo.framework.vision.GrayImage;
+import com.demo.framework.vision.TemplateMatch;
+import com.demo.framework.vision.TemplateMatcher;
+import org.testng.annotations.Test;
+
+import java.util.Optional;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for coarse-to-fine NCC template matching on synthetic grayscale images.
+ */
+public class TemplateMatcherTests {
+
+    private static final int WIDTH = 360;
+    private static final int HEIGHT = 640;
+
+    @Test(groups = {"unit"}, description = "A crop of the image is found at its exact position")
+    public void testFindsCrop() {
+        GrayImage screen = texture(WIDTH, HEIGHT, 1);
+        GrayImage template = screen.crop(201, 377, 64, 48);
+
+        TemplateMatch match = new TemplateMatcher(0.9, 4).find(screen, template).orElseThrow();
+
+        assertEquals(match.x(), 201);
+        assertEquals(match.y(), 377);
+        assertEquals(match.score(), 1.0, 1e-6);
+        assertEquals(match.center().getX(), 201 + 32);
+        assertEquals(match.center().getY(), 377 + 24);
+    }
+
+    @Test(groups = {"unit"}, description = "Pyramid search agrees with a full-resolution scan")
+    public void testPyramidMatchesFullScan() {
+        GrayImage screen = texture(WIDTH, HEIGHT, 2);
+        GrayImage template = screen.crop(12, 590, 40, 40);
+
+        TemplateMatch coarse = new TemplateMatcher(0.9, 4).find(screen, template).orElseThrow();
+        TemplateMatch full = new TemplateMatcher(0.9, 1).find(screen, template).orElseThrow();
+
+        assertEquals(coarse.x(), full.x());
+        assertEquals(coarse.y(), full.y());
+        assertEquals(full.x(), 12);
+        assertEquals(full.y(), 590);
+    }
+
+    @Test(groups = {"unit"}, description = "A match is found again after the screen changes around it")
+    public void testReusesBuffersAcrossScreens() {
+        TemplateMatcher matcher = new TemplateMatcher(0.9, 4);
+        int[] firstPixels = texturePixels(WIDTH, HEIGHT, 3);
+        GrayImage template = new GrayImage(WIDTH, HEIGHT, firstPixels).crop(100, 100, 48, 48);
+        assertTrue(matcher.find(new GrayImage(WIDTH, HEIGHT, firstPixels), template).isPresent());
+
+        int[] secondPixels = texturePixels(WIDTH, HEIGHT, 4);
+        for (int y = 0; y < 48; y++) {
+            System.arraycopy(firstPixels, (100 + y) * WIDTH + 100, secondPixels, (500 + y) * WIDTH + 250, 48);
+        }
+        TemplateMatch match = matcher.find(new GrayImage(WIDTH, HEIGHT, secondPixels), template).orElseThrow();
+
+        assertEquals(match.x(), 250);
+        assertEquals(match.y(), 500);
+    }
+
+    @Test(groups = {"unit"}, description = "An absent template scores below the threshold")
+    public void testRejectsAbsentTemplate() {
+        GrayImage screen = texture(WIDTH, HEIGHT, 5);
+        GrayImage template = texture(WIDTH, HEIGHT, 6).crop(80, 80, 48, 48);
+
+        assertEquals(new TemplateMatcher(0.9, 4).find(screen, template), Optional.empty());
+    }
+
+    @Test(groups = {"unit"}, description = "A template larger than the image never matches")
+    public void testRejectsOversizedTemplate() {
+        GrayImage screen = texture(64, 64, 7);
+        GrayImage template = texture(80, 40, 7);
+
+        assertEquals(new TemplateMatcher(0.9, 4).find(screen, template), Optional.empty());
+    }
+
+    private static GrayImage texture(int width, int height, long seed) {
+        return new GrayImage(width, height, texturePixels(width, height, seed));
+    }
+
+    /**
+     * Smooth random texture: a coarse random grid, bilinearly upscaled, so structure survives downsampling
+     */
+    private static int[] texturePixels(int width, int height, long seed) {
+        int cell = 16;
+        int gridWidth = width / cell + 2;
+        int gridHeight = height / cell + 2;
+        Random random = new Random(seed);
+        int[] grid = new int[gridWidth * gridHeight];
+        for (int i = 0; i < grid.length; i++) {
+            grid[i] = random.nextInt(256);
+        }
+        int[] pixels = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            int gy = y / cell;
+            int fy = y % cell;
+            for (int x = 0; x < width; x++) {
+                int gx = x / cell;
+                int fx = x % cell;
+                int top = grid[gy * gridWidth + gx] * (cell - fx) + grid[gy * gridWidth + gx + 1] * fx;
+                int bottom = grid[(gy + 1) * gridWidth + gx] * (cell - fx) + grid[(gy + 1) * gridWidth + gx + 1] * fx;
+                pixels[y * width + x] = (top * (cell - fy) + bottom * fy) / (cell * cell);
+            }
+        }
+        return pixels;
+    }
+}
@@ -0,0 +1,129 @@
+package com.demo.framework.tests;
+
+import com.demo.framework.exceptions.FrameworkException;
+import com.demo.framework.snapshot.UiQuery;
+import com.demo.framework.snapshot.UiSnapshot;
+import com.demo.framework.snapshot.UiSnapshotParser;
+import org.openqa.selenium.Rectangle;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for the page-source snapshot parser and its indexed queries
+ * against captured UiAutomator2 and XCUITest page sources.
+ */
+public class UiSnapshotTests {
+
+    private static final String ANDROID_SOURCE = """
+            <?xml version='1.0' encoding='UTF-8' standalone='yes' ?>
+            <hierarchy index="0" class="hierarchy" rotation="0" width="1080" height="2280">
+              <android.widget.FrameLayout index="0" class="android.widget.FrameLayout" text="" \
+            resource-id="" content-desc="" displayed="true" bounds="[0,0][1080,2280]">
+                <android.view.ViewGroup index="0" class="android.view.ViewGroup" text="" \
+            resource-id="" content-desc="Drag-drop-screen" displayed="true" bounds="[0,100][1080,2200]">
+                  <android.widget.ImageView index="0" class="android.widget.ImageView" text="" \
+            resource-id="" content-desc="drag-l1" displayed="true" bounds="[40,1500][340,1800]"/>
+                  <android.widget.ImageView index="1" class="android.widget.ImageView" text="" \
+            resource-id="" content-desc="drop-l1" displayed="true" bounds="[40,300][340,600]"/>
+                  <android.widget.TextView index="2" class="android.widget.TextView" text="Drag and Drop" \
+            resource-id="com.wdiodemoapp:id/title" content-desc="" displayed="true" bounds="[40,120][1040,200]"/>
+                  <android.widget.Button index="3" class="android.widget.Button" text="Renew" \
+            resource-id="" content-desc="renew" displayed="false" bounds="[0,0][0,0]"/>
+                </android.view.ViewGroup>
+                <android.widget.TextView index="1" class="android.widget.TextView" text="Drag and Drop" \
+            resource-id="" content-desc="" displayed="true" bounds="[0,2200][1080,2280]"/>
+              </android.widget.FrameLayout>
+            </hierarchy>
+            """;
+
+    private static final String IOS_SOURCE = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <AppiumAUT>
+              <XCUIElementTypeApplication type="XCUIElementTypeApplication" name="wdiodemoapp" \
+            label="wdiodemoapp" enabled="true" visible="true" x="0" y="0" width="390" height="844">
+                <XCUIElementTypeTextField type="XCUIElementTypeTextField" name="input-email" \
+            label="" value="user@example.com" enabled="true" visible="true" x="20" y="200" width="350" height="44"/>
+                <XCUIElementTypeStaticText type="XCUIElementTypeStaticText" name="header" \
+            label="Login" value="Login / Sign up Form" enabled="true" visible="true" x="20" y="100" width="350" height="30"/>
+                <XCUIElementTypeButton type="XCUIElementTypeButton" name="button-LOGIN" \
+            label="LOGIN" enabled="true" visible="false" x="20" y="900" width="350" height="44"/>
+              </XCUIElementTypeApplication>
+            </AppiumAUT>
+            """;
+
+    @Test(groups = {"unit"}, description = "Android nodes are indexed by content-desc, resource-id, text and class")
+    public void testAndroidIndexes() {
+        UiSnapshot snapshot = UiSnapshotParser.parse(ANDROID_SOURCE);
+
+        assertEquals(snapshot.size(), 8, "Every element should become a node");
+        assertTrue(snapshot.exists(UiQuery.accessibilityId("drag-l1")));
+        assertFalse(snapshot.exists(UiQuery.accessibilityId("drag-l2")));
+        assertEquals(snapshot.getText(UiQuery.resourceId("com.wdiodemoapp:id/title")), "Drag and Drop");
+        assertEquals(snapshot.find(UiQuery.text("Drag and Drop")).length, 2, "Both title nodes should match");
+        assertEquals(snapshot.find(UiQuery.className("android.widget.ImageView")).length, 2);
+        assertEquals(snapshot.find(UiQuery.resourceId("")).length, 0, "Empty attributes should not be indexed");
+    }
+
+    @Test(groups = {"unit"}, description = "UiAutomator2 bounds are converted to x, y, width and height")
+    public void testAndroidBounds() {
+        UiSnapshot snapshot = UiSnapshotParser.parse(ANDROID_SOURCE);
+
+        assertEquals(snapshot.getBounds(UiQuery.accessibilityId("drag-l1")), new Rectangle(40, 1500, 300, 300));
+        assertEquals(snapshot.getBounds(UiQuery.resourceId("com.wdiodemoapp:id/title")),
+                new Rectangle(40, 120, 80, 1000));
+        assertNull(snapshot.getBounds(UiQuery.accessibilityId("missing")), "Absent nodes should have no bounds");
+
+        int tile = snapshot.findFirst(UiQuery.accessibilityId("drag-l1"));
+        assertEquals(snapshot.findByBounds(new Rectangle(40, 1500, 300, 300)), new int[]{tile});
+    }
+
+    @Test(groups = {"unit"}, description = "Hidden and zero-sized nodes are not visible")
+    public void testVisibility() {
+        UiSnapshot snapshot = UiSnapshotParser.parse(ANDROID_SOURCE);
+
+        assertTrue(snapshot.isVisible(UiQuery.accessibilityId("drop-l1")));
+        assertFalse(snapshot.isVisible(UiQuery.accessibilityId("renew")), "displayed=false should not be visible");
+        assertFalse(snapshot.isVisible(UiQuery.accessibilityId("missing")));
+    }
+
+    @Test(groups = {"unit"}, description = "Parent, children and subtree ranges follow document order")
+    public void testTreeStructure() {
+        UiSnapshot snapshot = UiSnapshotParser.parse(ANDROID_SOURCE);
+        int screen = snapshot.findFirst(UiQuery.accessibilityId("Drag-drop-screen"));
+        int frame = snapshot.getParent(screen);
+
+        assertEquals(snapshot.getParent(0), -1, "Root should have no parent");
+        assertEquals(snapshot.getClassName(frame), "android.widget.FrameLayout");
+        assertEquals(snapshot.getChildren(screen).length, 4);
+        assertEquals(snapshot.getChildren(frame), new int[]{screen, screen + 5});
+        assertEquals(snapshot.getSubtreeEnd(screen), screen + 5, "Subtree should end before the sibling");
+        assertEquals(snapshot.getSubtreeEnd(0), snapshot.size());
+    }
+
+    @Test(groups = {"unit"}, description = "XCUITest nodes map name, label/value, type and visible")
+    public void testIosAttributes() {
+        UiSnapshot snapshot = UiSnapshotParser.parse(IOS_SOURCE);
+
+        assertEquals(snapshot.getText(UiQuery.accessibilityId("input-email")), "user@example.com",
+                "Value should stand in for an empty label");
+        assertEquals(snapshot.getText(UiQuery.accessibilityId("header")), "Login");
+        assertTrue(snapshot.exists(UiQuery.text("Login / Sign up Form")), "A differing value should be indexed as text");
+        assertTrue(snapshot.exists(UiQuery.className("XCUIElementTypeButton")));
+        assertEquals(snapshot.getBounds(UiQuery.accessibilityId("button-LOGIN")), new Rectangle(20, 900, 44, 350));
+        assertFalse(snapshot.isVisible(UiQuery.accessibilityId("button-LOGIN")));
+        assertEquals(snapshot.findTextContaining("Sign up").length, 0, "Only the primary text is searched");
+        assertEquals(snapshot.findTextContaining("user@").length, 1);
+    }
+
+    @Test(groups = {"unit"}, description = "Malformed page source fails with a framework exception")
+    public void testMalformedSource() {
+        assertThrows(FrameworkException.class, () -> UiSnapshotParser.parse("<hierarchy><node></hierarchy>"));
+    }
+
+    @Test(groups = {"unit"}, description = "Queries render as attribute=value")
+    public void testQueryToString() {
+        assertEquals(UiQuery.accessibilityId("drag-l1").toString(), "accessibility_id=drag-l1");
+        assertThrows(NullPointerException.class, () -> UiQuery.text(null));
+    }
+}
@@ -0,0 +1,168 @@
+package com.demo.framework.tests;
+
+import com.demo.framework.vision.VisualDiff;
+import com.demo.framework.vision.VisualDiffOptions;
+import com.demo.framework.vision.VisualDiffResult;
+import org.openqa.selenium.Rectangle;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for the tiled pixel diff: tolerance, masks, anti-aliasing, early stop and the diff image.
+ */
+public class VisualDiffTests {
+
+    private static final int WIDTH = 360;
+    private static final int HEIGHT = 640;
+
+    @Test(groups = {"unit"}, description = "Identical screens have no differing pixels")
+    public void testIdenticalScreens() {
+        VisualDiffResult result = VisualDiff.compare(screen(WIDTH, HEIGHT), screen(WIDTH, HEIGHT), options(),
+                List.of(), false);
+
+        assertEquals(result.getDifferentPixels(), 0L);
+        assertTrue(result.isComplete());
+        assertTrue(result.matches(0));
+    }
+
+    @Test(groups = {"unit"}, description = "Channel differences within the tolerance are ignored")
+    public void testTolerance() {
+        BufferedImage actual = screen(WIDTH, HEIGHT);
+        fill(actual, new Rectangle(40, 40, 50, 50), new Color(0xF0, 0xF0, 0xF0));
+        BufferedImage expected = screen(WIDTH, HEIGHT);
+        fill(expected, new Rectangle(40, 40, 50, 50), new Color(0xE4, 0xF0, 0xFF));
+
+        assertEquals(VisualDiff.compare(expected, actual, options().tolerance(15), List.of(), false)
+                .getDifferentPixels(), 0L);
+        assertEquals(VisualDiff.compare(expected, actual, options().tolerance(11), List.of(), true)
+                .getDifferentPixels(), 2500L);
+    }
+
+    @Test(groups = {"unit"}, description = "A changed block is counted exactly and painted red in the diff image")
+    public void testChangedBlock() throws IOException {
+        BufferedImage actual = screen(WIDTH, HEIGHT);
+        fill(actual, new Rectangle(100, 200, 20, 30), Color.RED);
+
+        VisualDiffResult result = VisualDiff.compare(screen(WIDTH, HEIGHT), actual, options(), List.of(), true);
+
+        assertEquals(result.getDifferentPixels(), 600L);
+        assertEquals(result.getDiffPercent(), 600 * 100.0 / (WIDTH * HEIGHT), 1e-9);
+        assertFalse(result.matches(0.1));
+        BufferedImage diff = ImageIO.read(new ByteArrayInputStream(result.diffImagePng()));
+        assertEquals(diff.getRGB(110, 210) & 0xFFFFFF, 0xFF0000);
+        assertNotEquals(diff.getRGB(10, 10) & 0xFFFFFF, 0xFF0000);
+    }
+
+    @Test(groups = {"unit"}, description = "Regions masked by the options or per call are not counted")
+    public void testMasks() {
+        BufferedImage actual = screen(WIDTH, HEIGHT);
+        fill(actual, new Rectangle(10, 10, 40, 200), Color.RED);
+        fill(actual, new Rectangle(128, 256, 64, 64), Color.RED);
+        VisualDiffOptions options = options().ignore(new Rectangle(0, 0, 60, 240));
+
+        VisualDiffResult partial = VisualDiff.compare(screen(WIDTH, HEIGHT), actual, options, List.of(), false);
+        VisualDiffResult masked = VisualDiff.compare(screen(WIDTH, HEIGHT), actual, options,
+                List.of(new Rectangle(128, 256, 64, 64)), true);
+
+        assertEquals(partial.getDifferentPixels(), 64L * 64);
+        assertEquals(masked.getDifferentPixels(), 0L);
+    }
+
+    @Test(groups = {"unit"}, description = "Without a diff image the comparison stops once the limit is exceeded")
+    public void testStopsEarly() {
+        BufferedImage actual = screen(WIDTH, HEIGHT);
+        fill(actual, new Rectangle(0, 0, HEIGHT, WIDTH), Color.BLACK);
+        VisualDiffOptions options = options().maxDiffPercent(1);
+
+        VisualDiffResult early = VisualDiff.compare(screen(WIDTH, HEIGHT), actual, options, List.of(), false);
+        VisualDiffResult full = VisualDiff.compare(screen(WIDTH, HEIGHT), actual, options, List.of(), true);
+
+        assertFalse(early.isComplete());
+        assertTrue(early.getDifferentPixels() > WIDTH * HEIGHT / 100);
+        assertTrue(early.getDifferentPixels() < full.getDifferentPixels());
+        assertTrue(full.isComplete());
+        assertEquals(full.getDifferentPixels(), (long) WIDTH * HEIGHT);
+    }
+
+    @Test(groups = {"unit"}, description = "Large screens compared in parallel count the same as a serial scan")
+    public void testParallelScreens() {
+        BufferedImage actual = screen(1080, 1920);
+        fill(actual, new Rectangle(1000, 30, 70, 50), Color.RED);
+        fill(actual, new Rectangle(5, 1850, 64, 64), Color.RED);
+
+        VisualDiffResult result = VisualDiff.compare(screen(1080, 1920), actual, options(), List.of(), true);
+
+        assertTrue(result.isComplete());
+        assertEquals(result.getDifferentPixels(), 70L * 50 + 64 * 64);
+    }
+
+    @Test(groups = {"unit"}, description = "Anti-aliased edge pixels are reported separately when ignored")
+    public void testAntialiasing() {
+        BufferedImage expected = circle(100.0);
+        BufferedImage actual = circle(100.4);
+
+        VisualDiffResult strict = VisualDiff.compare(expected, actual, options(), List.of(), true);
+        VisualDiffResult lenient = VisualDiff.compare(expected, actual, options().ignoreAntialiasing(true),
+                List.of(), true);
+
+        assertTrue(strict.getDifferentPixels() > 0);
+        assertEquals(strict.getAntialiasedPixels(), 0L);
+        assertTrue(lenient.getAntialiasedPixels() > 0);
+        assertEquals(lenient.getDifferentPixels() + lenient.getAntialiasedPixels(), strict.getDifferentPixels());
+    }
+
+    @Test(groups = {"unit"}, description = "Screens of different sizes never match")
+    public void testSizeMismatch() {
+        VisualDiffResult result = VisualDiff.compare(screen(WIDTH, HEIGHT), screen(WIDTH, HEIGHT + 1), options(),
+                List.of(), false);
+
+        assertTrue(result.isSizeMismatch());
+        assertFalse(result.matches(100));
+    }
+
+    /**
+     * Explicit options so the tests do not depend on the configured {@code visual.*} defaults
+     */
+    private static VisualDiffOptions options() {
+        return VisualDiffOptions.defaults().tolerance(16).maxDiffPercent(0.1).ignoreAntialiasing(false);
+    }
+
+    private static BufferedImage screen(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(new Color(0x1971c2));
+        graphics.fillRect(0, 0, width, height / 8);
+        graphics.dispose();
+        return image;
+    }
+
+    private static BufferedImage circle(double x) {
+        BufferedImage image = screen(WIDTH, HEIGHT);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.setColor(Color.BLACK);
+        graphics.fill(new Ellipse2D.Double(x, 300, 80, 80));
+        graphics.dispose();
+        return image;
+    }
+
+    private static void fill(BufferedImage image, Rectangle region, Color color) {
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(region.getX(), region.getY(), region.getWidth(), region.getHeight());
+        graphics.dispose();
+    }
+}
@@ -0,0 +1,55 @@
+package com.demo.framework.tests;
+
+import com.demo.framework.flows.DragAndDropFlow;
+import com.demo.framework.flows.LoginFlow;
+import com.demo.framework.vision.VisualAssert;
+import com.demo.framework.vision.VisualDiffOptions;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.annotations.Test;
+
+import static com.demo.framework.utils.AllureStepUtils.allureStep;
+import static org.testng.Assert.*;
+
+/**
+ * Compares key screens with reviewed baselines of the device profile.
+ * Run through visual.xml with visual.enabled=true; excluded from the regular suites.
+ */
+@Feature("Visual")
+@Story("Visual Regression")
+public class VisualRegressionTests extends BaseTest {
+
+    @Test(groups = {"visual"}, description = "Login success screen matches its baseline")
+    @Description("Log in with valid credentials and compare the success screen, ignoring the entered values")
+    public void testLoginSuccessScreen() {
+        LoginFlow loginFlow = new LoginFlow();
+
+        allureStep("Step 1: Log in with valid credentials");
+        loginFlow.navigateToLogin();
+        assertTrue(loginFlow.isLoginPageLoaded(), "Login page should be loaded");
+        loginFlow.enterUsername("test@example.com");
+        loginFlow.enterPassword("Password123");
+        loginFlow.clickLoginButton();
+        assertTrue(loginFlow.isLoginSuccessful(), "User should reach success popup after login");
+
+        allureStep("Step 2: Compare the success screen with its baseline");
+        VisualAssert.assertScreenMatches("login-success", VisualDiffOptions.defaults()
+                .ignoreLocator("login.emailInput")
+                .ignoreLocator("login.passwordInput"));
+    }
+
+    @Test(groups = {"visual"}, description = "Drag and drop board matches its baseline")
+    @Description("Open the drag and drop board and compare it before any tile is moved")
+    public void testDragBoardScreen() {
+        DragAndDropFlow dragAndDropFlow = new DragAndDropFlow();
+
+        allureStep("Step 1: Navigate to Drag and Drop screen");
+        dragAndDropFlow.navigateToDragAndDrop();
+        assertTrue(dragAndDropFlow.isDragPageLoaded(), "Drag and Drop page should be loaded");
+        assertTrue(dragAndDropFlow.isDraggableElementVisible(), "Draggable element should be visible");
+
+        allureStep("Step 2: Compare the board with its baseline");
+        VisualAssert.assertScreenMatches("drag-board");
+    }
+}
@@ -0,0 +1,291 @@
+package com.demo.framework.tests;
+
+import com.demo.framework.exceptions.FrameworkException;
+import com.demo.framework.webview.WebViewDevTools;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for the WebView DevTools channel against a fake CDP endpoint on localhost.
+ * No device or Appium server is needed.
+ */
+public class WebViewDevToolsTests {
+
+    private FakeCdpEndpoint endpoint;
+    private WebViewDevTools devTools;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @BeforeMethod(alwaysRun = true)
+    public void startEndpoint() throws IOException {
+        endpoint = new FakeCdpEndpoint(WebViewDevToolsTests::respond);
+        closed.set(false);
+        devTools = new WebViewDevTools(endpoint.getUri(), Duration.ofSeconds(5), () -> closed.set(true));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopEndpoint() throws IOException {
+        devTools.close();
+        endpoint.close();
+    }
+
+    @Test(groups = {"unit"}, description = "DOM query reports matching and missing selectors")
+    public void testExists() {
+        assertTrue(devTools.exists("h1, .hero__title"), "Title selector should match");
+        assertFalse(devTools.exists(".missing"), "Unknown selector should not match");
+        assertEquals(endpoint.getMethods().get(0), "DOM.getDocument");
+        assertEquals(endpoint.getMethods().get(1), "DOM.querySelector");
+    }
+
+    @Test(groups = {"unit"}, description = "Text is read with one Runtime.evaluate call")
+    public void testTextOf() {
+        assertEquals(devTools.textOf("body"), "WebdriverIO");
+        assertEquals(endpoint.getMethods(), List.of("Runtime.evaluate"));
+    }
+
+    @Test(groups = {"unit"}, description = "Navigation timing numbers are parsed")
+    public void testNavigationTiming() {
+        Map<String, Double> timing = devTools.navigationTiming();
+        assertEquals(timing.get("domContentLoadedEventEnd"), 120.5);
+        assertEquals(timing.get("loadEventEnd"), 250.0);
+        assertFalse(timing.containsKey("name"), "Non-numeric entries should be skipped");
+    }
+
+    @Test(groups = {"unit"}, description = "Script exceptions surface as framework exceptions",
+          expectedExceptions = FrameworkException.class)
+    public void testEvaluateFailure() {
+        devTools.evaluate("throw new Error('boom')");
+    }
+
+    @Test(groups = {"unit"}, description = "One WebSocket connection serves all commands; close releases the endpoint")
+    public void testConnectionReuseAndClose() {
+        devTools.exists("body");
+        devTools.textOf("body");
+        assertEquals(endpoint.getConnections(), 1, "Commands should share one connection");
+        devTools.close();
+        assertTrue(closed.get(), "Close callback should run");
+    }
+
+    private static JsonObject respond(JsonObject command) {
+        String method = command.get("method").getAsString();
+        JsonObject params = command.getAsJsonObject("params");
+        return switch (method) {
+            case "DOM.getDocument" -> JsonParser.parseString("{\"root\":{\"nodeId\":1}}").getAsJsonObject();
+            case "DOM.querySelector" -> {
+                JsonObject result = new JsonObject();
+                result.addProperty("nodeId", params.get("selector").getAsString().contains("missing") ? 0 : 7);
+                yield result;
+            }
+            case "Runtime.evaluate" -> evaluate(params.get("expression").getAsString());
+            default -> null;
+        };
+    }
+
+    private static JsonObject evaluate(String expression) {
+        if (expression.startsWith("throw")) {
+            return JsonParser.parseString("{\"result\":{\"type\":\"object\"},"
+                    + "\"exceptionDetails\":{\"text\":\"Uncaught\"}}").getAsJsonObject();
+        }
+        JsonObject value = new JsonObject();
+        value.addProperty("type", "string");
+        if (expression.contains("performance")) {
+            value.addProperty("value",
+                    "{\"name\":\"https://webdriver.io/\",\"domContentLoadedEventEnd\":120.5,\"loadEventEnd\":250}");
+        } else {
+            value.addProperty("value", "WebdriverIO");
+        }
+        JsonObject result = new JsonObject();
+        result.add("result", value);
+        return result;
+    }
+
+    /**
+     * Serves {@code /json/list} with one page target and answers CDP commands on its WebSocket
+     */
+    static final class FakeCdpEndpoint implements AutoCloseable {
+
+        private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+        private final ServerSocket server;
+        private final Function<JsonObject, JsonObject> handler;
+        private final List<String> methods = new CopyOnWriteArrayList<>();
+        private volatile int connections;
+
+        FakeCdpEndpoint(Function<JsonObject, JsonObject> handler) throws IOException {
+            this.handler = handler;
+            this.server = new ServerSocket(0, 10, InetAddress.getLoopbackAddress());
+            Thread acceptor = new Thread(this::acceptLoop, "fake-cdp-endpoint");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        URI getUri() {
+            return URI.create("http://127.0.0.1:" + server.getLocalPort());
+        }
+
+        List<String> getMethods() {
+            return methods;
+        }
+
+        int getConnections() {
+            return connections;
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+        }
+
+        private void acceptLoop() {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    Thread worker = new Thread(() -> serve(socket), "fake-cdp-connection");
+                    worker.setDaemon(true);
+                    worker.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (socket) {
+                InputStream in = socket.getInputStream();
+                OutputStream out = socket.getOutputStream();
+                String request = readHeaders(in);
+                String key = header(request, "Sec-WebSocket-Key");
+                if (key == null) {
+                    String body = "[{\"id\":\"1\",\"type\":\"page\",\"url\":\"https://webdriver.io/\","
+                            + "\"webSocketDebuggerUrl\":\"ws://127.0.0.1:" + server.getLocalPort()
+                            + "/devtools/page/1\"}]";
+                    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                    out.write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: "
+                            + bytes.length + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                    out.write(bytes);
+                    out.flush();
+                    return;
+                }
+                connections++;
+                out.write(("HTTP/1.1 101 Switching Protocols\r\nUpgrade: websocket\r\nConnection: Upgrade\r\n"
+                        + "Sec-WebSocket-Accept: " + accept(key) + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+                webSocketLoop(new DataInputStream(in), out);
+            } catch (IOException e) {
+                // Client went away
+            }
+        }
+
+        private void webSocketLoop(DataInputStream in, OutputStream out) throws IOException {
+            while (true) {
+                int opcode = in.readUnsignedByte() & 0x0F;
+                int second = in.readUnsignedByte();
+                long length = second & 0x7F;
+                if (length == 126) {
+                    length = in.readUnsignedShort();
+                } else if (length == 127) {
+                    length = in.readLong();
+                }
+                byte[] mask = new byte[4];
+                if ((second & 0x80) != 0) {
+                    in.readFully(mask);
+                }
+                byte[] payload = new byte[(int) length];
+                in.readFully(payload);
+                for (int i = 0; i < payload.length; i++) {
+                    payload[i] ^= mask[i % 4];
+                }
+                if (opcode == 0x8) {
+                    writeFrame(out, 0x8, new byte[0]);
+                    return;
+                }
+                if (opcode != 0x1) {
+                    continue;
+                }
+                JsonObject command = JsonParser.parseString(new String(payload, StandardCharsets.UTF_8))
+                        .getAsJsonObject();
+                methods.add(command.get("method").getAsString());
+                JsonObject response = new JsonObject();
+                response.add("id", command.get("id"));
+                JsonObject result = handler.apply(command);
+                if (result != null) {
+                    response.add("result", result);
+                } else {
+                    response.add("error", JsonParser.parseString("{\"code\":-32601,\"message\":\"not found\"}"));
+                }
+                writeFrame(out, 0x1, response.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        private static void writeFrame(OutputStream out, int opcode, byte[] payload) throws IOException {
+            ByteArrayOutputStream frame = new ByteArrayOutputStream();
+            frame.write(0x80 | opcode);
+            if (payload.length < 126) {
+                frame.write(payload.length);
+            } else {
+                frame.write(126);
+                frame.write(payload.length >> 8);
+                frame.write(payload.length & 0xFF);
+            }
+            frame.write(payload);
+            out.write(frame.toByteArray());
+            out.flush();
+        }
+
+        private static String readHeaders(InputStream in) throws IOException {
+            StringBuilder headers = new StringBuilder();
+            int b;
+            while ((b = in.read()) != -1) {
+                headers.append((char) b);
+                if (headers.length() >= 4 && headers.lastIndexOf("\r\n\r\n") == headers.length() - 4) {
+                    break;
+                }
+            }
+            return headers.toString();
+        }
+
+        private static String header(String request, String name) {
+            for (String line : request.split("\r\n")) {
+                int colon = line.indexOf(':');
+                if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase(name)) {
+                    return line.substring(colon + 1).trim();
+                }
+            }
+            return null;
+        }
+
+        private static String accept(String key) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-1")
+                        .digest((key + WEBSOCKET_GUID).getBytes(StandardCharsets.US_ASCII));
+                return Base64.getEncoder().encodeToString(digest);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}